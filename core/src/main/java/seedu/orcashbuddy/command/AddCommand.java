@@ -3,7 +3,6 @@ package seedu.orcashbuddy.command;
 
 import seedu.orcashbuddy.expense.Expense;
 import seedu.orcashbuddy.storage.ExpenseManager;
-import seedu.orcashbuddy.ui.Ui;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -42,13 +41,13 @@ public class AddCommand extends Command {
     }
 
     /**
-     * Adds the expense to the {@link ExpenseManager}, then displays the result via {@link Ui}.
+     * Adds the expense to the {@link ExpenseManager}.
      *
      * @param expenseManager the central data model that stores all expenses and budget state
-     * @param ui the UI used to show output to the user
+     * @return the added expense
      */
     @Override
-    public void execute(ExpenseManager expenseManager, Ui ui) {
+    public CommandResult execute(ExpenseManager expenseManager) {
         assert amount > 0.0 : "Amount must be positive";
         assert description != null && !description.isBlank() : "Description must not be blank";
         assert category != null && !category.isBlank() : "Category must not be blank";
@@ -58,9 +57,6 @@ public class AddCommand extends Command {
 
         LOGGER.log(Level.INFO, "Added expense: amount={0}, desc={1}, category={2}",
                 new Object[]{amount, description, category});
-
-        ui.showSeparator();
-        ui.showNewExpense(expense);
-        ui.showSeparator();
+        return new CommandResult.ExpenseAdded(expense);
     }
 }
@@ -1,7 +1,6 @@
 package seedu.orcashbuddy.command;
 
 import seedu.orcashbuddy.storage.ExpenseManager;
-import seedu.orcashbuddy.ui.Ui;
 
 import java.util.logging.Logger;
 
@@ -13,17 +12,15 @@ public class ByeCommand extends Command {
     private static final Logger LOGGER = Logger.getLogger(ByeCommand.class.getName());
 
     /**
-     * Shows a goodbye message and visual separators.
+     * Asks for the application to end, which the console answers with a goodbye message.
      *
      * @param expenseManager the central data model that stores all expenses and budget state (unused)
-     * @param ui the UI used to show output to the user
+     * @return a request to exit
      */
     @Override
-    public void execute(ExpenseManager expenseManager, Ui ui) {
+    public CommandResult execute(ExpenseManager expenseManager) {
         LOGGER.info("Executing bye command");
-        ui.showSeparator();
-        ui.showGoodbye();
-        ui.showSeparator();
+        return new CommandResult.ExitRequested();
     }
 
     /**
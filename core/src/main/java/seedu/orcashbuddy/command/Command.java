@@ -2,13 +2,13 @@
 package seedu.orcashbuddy.command;
 
 import seedu.orcashbuddy.storage.ExpenseManager;
-import seedu.orcashbuddy.ui.Ui;
 
 /**
  * Base type for all executable user commands.
  * <p>
- * Each concrete subclass implements {@link #execute(ExpenseManager, Ui)} to
- * perform its logic (e.g. add an expense, list expenses, etc.).
+ * Each concrete subclass implements {@link #execute(ExpenseManager)} to
+ * perform its logic (e.g. add an expense, list expenses, etc.) and describe
+ * the outcome as a {@link CommandResult}, which the console then renders.
  * After execution, {@link #isExit()} may signal the main loop to terminate.
  */
 public abstract class Command {
@@ -17,10 +17,10 @@ public abstract class Command {
      * Executes the command logic.
      *
      * @param expenseManager the central data model that stores all expenses and budget state
-     * @param ui the UI used to show output to the user
+     * @return what the command did, for the caller to show or use
      * @throws Exception if command execution fails
      */
-    public abstract void execute(ExpenseManager expenseManager, Ui ui) throws Exception;
+    public abstract CommandResult execute(ExpenseManager expenseManager) throws Exception;
 
     /**
      * Indicates whether executing this command should terminate the application.
@@ -0,0 +1,145 @@
+package seedu.orcashbuddy.command;
+
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.perf.LatencyHistogram;
+import seedu.orcashbuddy.storage.BudgetData;
+import seedu.orcashbuddy.storage.QueryPlan;
+import seedu.orcashbuddy.storage.SortKey;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What a {@link Command} did, as returned by {@link Command#execute}.
+ * <p>
+ * Results hold data rather than text, so that a caller embedding orCASHbuddy can run commands
+ * without formatting any output, and the console can decide how each result looks.
+ * A {@link BudgetData} in a result is the budget status right after the command ran.
+ * The interface is sealed, so a caller that handles every record below handles every result.
+ */
+public sealed interface CommandResult permits CommandResult.ExpenseAdded, CommandResult.ExpenseDeleted,
+        CommandResult.ExpenseEdited, CommandResult.ExpenseMarked, CommandResult.ExpenseUnmarked,
+        CommandResult.BudgetSet, CommandResult.ChangeUndone, CommandResult.ChangeRedone,
+        CommandResult.ExpensesListed, CommandResult.ExpenseWindowListed, CommandResult.ExpensesFound,
+        CommandResult.QueryExplained, CommandResult.ExpensesSorted, CommandResult.ExpensesSelected,
+        CommandResult.TimingsReported, CommandResult.TimingsDisabled, CommandResult.HelpRequested,
+        CommandResult.ExitRequested, CommandResult.InputRejected {
+
+    /**
+     * {@code expense} was added.
+     */
+    record ExpenseAdded(Expense expense) implements CommandResult {
+    }
+
+    /**
+     * {@code expense} was deleted. Only deleting a marked expense changes the budget status.
+     */
+    record ExpenseDeleted(Expense expense, boolean wasMarked, BudgetData budgetData) implements CommandResult {
+    }
+
+    /**
+     * An expense was replaced by {@code expense}, which may hold the same values if nothing was changed.
+     * The budget status only changes if the amount of a marked expense did.
+     */
+    record ExpenseEdited(Expense expense, boolean isChanged, boolean isBudgetChanged, BudgetData budgetData)
+            implements CommandResult {
+    }
+
+    /**
+     * {@code expense} is the marked copy of the expense that was marked as paid.
+     */
+    record ExpenseMarked(Expense expense, BudgetData budgetData) implements CommandResult {
+    }
+
+    /**
+     * {@code expense} is the unmarked copy of the expense that was unmarked.
+     */
+    record ExpenseUnmarked(Expense expense, BudgetData budgetData) implements CommandResult {
+    }
+
+    /**
+     * The budget was set to {@code budget}.
+     */
+    record BudgetSet(double budget, BudgetData budgetData) implements CommandResult {
+    }
+
+    /**
+     * The change described by {@code change} was undone.
+     */
+    record ChangeUndone(String change, BudgetData budgetData) implements CommandResult {
+    }
+
+    /**
+     * The change described by {@code change} was made again.
+     */
+    record ChangeRedone(String change, BudgetData budgetData) implements CommandResult {
+    }
+
+    /**
+     * Every expense, for a plain {@code list}.
+     */
+    record ExpensesListed(BudgetData budgetData, List<Expense> expenses) implements CommandResult {
+    }
+
+    /**
+     * The expenses at positions {@code [fromIndex, toIndex)} of {@code expenses}, for a page or the latest few.
+     */
+    record ExpenseWindowListed(BudgetData budgetData, List<Expense> expenses, int fromIndex, int toIndex)
+            implements CommandResult {
+    }
+
+    /**
+     * The expenses matching {@code searchTerm}, which was matched as described by {@code searchType}.
+     */
+    record ExpensesFound(List<Expense> expenses, String searchTerm, SearchType searchType) implements CommandResult {
+    }
+
+    /**
+     * How a query would be evaluated, for {@code find explain}.
+     */
+    record QueryExplained(QueryPlan plan) implements CommandResult {
+    }
+
+    /**
+     * Every expense in order. {@code keys} is {@code null} for the default sort, highest amount first.
+     */
+    record ExpensesSorted(List<Expense> expenses, List<SortKey> keys, boolean ascending) implements CommandResult {
+    }
+
+    /**
+     * The largest or smallest expenses by amount, for {@code sort top/} and {@code sort bottom/}.
+     */
+    record ExpensesSelected(List<Expense> expenses, boolean largest) implements CommandResult {
+    }
+
+    /**
+     * The timings collected for {@code perf}.
+     */
+    record TimingsReported(Map<String, LatencyHistogram> histograms) implements CommandResult {
+    }
+
+    /**
+     * The user asked for timings with {@code perf}, but they are not being collected.
+     */
+    record TimingsDisabled() implements CommandResult {
+    }
+
+    /**
+     * The user asked for the list of commands.
+     */
+    record HelpRequested() implements CommandResult {
+    }
+
+    /**
+     * The user asked to leave.
+     */
+    record ExitRequested() implements CommandResult {
+    }
+
+    /**
+     * The input was not a valid command. {@code errorMessage} says why, or is {@code null} if
+     * the command word was not recognised at all.
+     */
+    record InputRejected(String errorMessage) implements CommandResult {
+    }
+}
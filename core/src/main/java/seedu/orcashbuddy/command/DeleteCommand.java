@@ -4,7 +4,6 @@ package seedu.orcashbuddy.command;
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
 import seedu.orcashbuddy.storage.ExpenseManager;
-import seedu.orcashbuddy.ui.Ui;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -26,15 +25,14 @@ public class DeleteCommand extends Command {
     }
 
     /**
-     * Deletes the chosen expense and displays confirmation,
-     * along with an updated budget status if relevant.
+     * Deletes the chosen expense.
      *
      * @param expenseManager the central data model that stores all expenses and budget state
-     * @param ui the UI used to show output to the user
+     * @return the deleted expense, with the updated budget status if deleting it changed the status
      * @throws OrCashBuddyException if the provided index is invalid
      */
     @Override
-    public void execute(ExpenseManager expenseManager, Ui ui) throws OrCashBuddyException {
+    public CommandResult execute(ExpenseManager expenseManager) throws OrCashBuddyException {
         assert index >= 1 : "Index must be at least 1";
 
         Expense expenseToDelete = expenseManager.getExpense(index);
@@ -44,13 +42,6 @@ public class DeleteCommand extends Command {
 
         LOGGER.log(Level.INFO, "Deleted expense at index {0}: {1}",
                 new Object[]{index, removedExpense.getDescription()});
-
-        ui.showSeparator();
-        ui.showDeletedExpense(removedExpense);
-        if (wasMarked) {
-            ui.showSeparator();
-            ui.showProgressBar(expenseManager.getBudgetData());
-        }
-        ui.showSeparator();
+        return new CommandResult.ExpenseDeleted(removedExpense, wasMarked, expenseManager.getBudgetData());
     }
 }
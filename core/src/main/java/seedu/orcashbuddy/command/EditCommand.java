@@ -4,7 +4,6 @@ package seedu.orcashbuddy.command;
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
 import seedu.orcashbuddy.storage.ExpenseManager;
-import seedu.orcashbuddy.ui.Ui;
 
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -38,16 +37,15 @@ public class EditCommand extends Command {
     /**
      * Applies the modifications (if any) to the specified expense.
      * Replaces the stored expense with an updated {@link Expense} object,
-     * preserves mark/unmark status, and shows the result through {@link Ui}.
+     * and preserves mark/unmark status.
      *
      * @param expenseManager the central data model that stores all expenses and budget state
-     * @param ui the UI used to show output to the user
+     * @return the edited expense, and whether anything changed
      * @throws OrCashBuddyException if the index is invalid or the expense cannot be found
      */
     @Override
-    public void execute(ExpenseManager expenseManager, Ui ui) throws OrCashBuddyException {
+    public CommandResult execute(ExpenseManager expenseManager) throws OrCashBuddyException {
         assert expenseManager != null : "ExpenseManager cannot be null";
-        assert ui != null : "Ui cannot be null";
         assert index >= 1 : "Expense index must be >= 1";
 
         LOGGER.log(Level.INFO, "Attempting to edit expense at index {0}", index);
@@ -66,34 +64,22 @@ public class EditCommand extends Command {
         double updatedAmount = (newAmount != null) ? newAmount : originalAmount;
         String updatedDescription = (newDescription != null) ? newDescription : originalDescription;
         String updatedCategory = (newCategory != null) ? newCategory : originalCategory;
-        boolean wasMarked = original.isMarked();
         LOGGER.log(Level.FINE, "Original expense: {0}", original.formatForDisplay());
         LOGGER.log(Level.FINE, "Updated fields: amount={0}, desc={1}, category={2}",
                 new Object[]{updatedAmount, updatedDescription, updatedCategory});
 
-        // Create a new expense with updated particulars and replace the old one
-        Expense edited = new Expense(updatedAmount, updatedDescription, updatedCategory);
-        expenseManager.replaceExpense(index, edited);
+        // Create a new expense with updated particulars and replace the old one, preserving the mark status
+        Expense edited = expenseManager.editExpense(index,
+                new Expense(updatedAmount, updatedDescription, updatedCategory));
 
-        // Preserve the mark status
-        if  (wasMarked) {
-            expenseManager.markExpense(index);
-        }
-
-        // UI output
-        ui.showSeparator();
-        if (Math.abs(updatedAmount - originalAmount) < 0.001 && updatedDescription.equals(originalDescription)
-                && updatedCategory.equals(originalCategory)) {
-            ui.showEmptyEdit(edited);
+        boolean isAmountChanged = Math.abs(updatedAmount - originalAmount) >= 0.001;
+        boolean isChanged = isAmountChanged || !updatedDescription.equals(originalDescription)
+                || !updatedCategory.equals(originalCategory);
+        if (!isChanged) {
             LOGGER.log(Level.INFO, "No changes were made to the expense.");
-        } else {
-            ui.showEditedExpense(edited);
-        }
-        if (edited.isMarked() && Math.abs(updatedAmount - originalAmount) >= 0.001) {
-            ui.showSeparator();
-            ui.showProgressBar(expenseManager.getBudgetData());
         }
         LOGGER.log(Level.INFO, "Expense at index {0} successfully edited.", index);
-        ui.showSeparator();
+        return new CommandResult.ExpenseEdited(edited, isChanged, edited.isMarked() && isAmountChanged,
+                expenseManager.getBudgetData());
     }
 }
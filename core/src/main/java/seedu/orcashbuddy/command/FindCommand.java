@@ -0,0 +1,86 @@
+//@@author muadzyamani
+package seedu.orcashbuddy.command;
+
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.query.CategoryQuery;
+import seedu.orcashbuddy.query.DescriptionQuery;
+import seedu.orcashbuddy.query.ExpenseQuery;
+import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.storage.QueryPlan;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Command to find expenses by category or description, or by a query combining
+ * category, description, amount and status terms.
+ * <p>
+ * In explain mode, the command shows how the query would be evaluated instead of running it.
+ */
+public class FindCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(FindCommand.class.getName());
+
+    private final ExpenseQuery query;
+    private final SearchType searchType;
+    private final String searchTerm;
+    private final boolean isExplain;
+
+    /**
+     * Constructs a {@code FindCommand} with the specified search type and term.
+     *
+     * @param searchType {@link SearchType#CATEGORY} or {@link SearchType#DESCRIPTION}
+     * @param searchTerm the term to search for
+     */
+    public FindCommand(SearchType searchType, String searchTerm) {
+        assert searchType != SearchType.QUERY : "A query search must be given its query";
+        this.searchType = searchType;
+        this.searchTerm = searchTerm;
+        this.query = searchType == SearchType.CATEGORY
+                ? new CategoryQuery(searchTerm)
+                : new DescriptionQuery(searchTerm);
+        this.isExplain = false;
+    }
+
+    //@@author
+    /**
+     * Constructs a {@code FindCommand} for a composed query.
+     *
+     * @param query the query to evaluate
+     * @param isExplain {@code true} to show the query plan instead of the matching expenses
+     */
+    public FindCommand(ExpenseQuery query, boolean isExplain) {
+        this.searchType = SearchType.QUERY;
+        this.searchTerm = query.describe();
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    //@@author muadzyamani
+    /**
+     * Searches the {@link ExpenseManager} for matching expenses,
+     * or plans the query without running it in explain mode.
+     *
+     * @param expenseManager the central data model that stores all expenses and budget state
+     * @return the matching expenses, or the query plan in explain mode
+     */
+    @Override
+    public CommandResult execute(ExpenseManager expenseManager) {
+        assert searchType != null : "Search type must not be null";
+        assert searchTerm != null && !searchTerm.isBlank() : "Search term must not be blank";
+
+        LOGGER.log(Level.INFO, "Executing find command: type={0}, term={1}",
+                new Object[]{searchType, searchTerm});
+
+        if (isExplain) {
+            QueryPlan plan = expenseManager.planQuery(query);
+            return new CommandResult.QueryExplained(plan);
+        }
+
+        List<Expense> foundExpenses = expenseManager.findExpenses(query);
+
+        LOGGER.log(Level.INFO, "Found {0} matching expenses", foundExpenses.size());
+
+        return new CommandResult.ExpensesFound(foundExpenses, searchTerm, searchType);
+    }
+}
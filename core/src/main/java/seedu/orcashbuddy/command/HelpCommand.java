@@ -2,7 +2,6 @@
 package seedu.orcashbuddy.command;
 
 import seedu.orcashbuddy.storage.ExpenseManager;
-import seedu.orcashbuddy.ui.Ui;
 
 import java.util.logging.Logger;
 
@@ -13,17 +12,14 @@ public class HelpCommand extends Command {
     private static final Logger LOGGER = Logger.getLogger(HelpCommand.class.getName());
 
     /**
-     * Shows the available commands and their formats.
+     * Asks for the available commands and their formats to be shown.
      *
      * @param expenseManager the central data model that stores all expenses and budget state (unused)
-     * @param ui the UI used to show output to the user
+     * @return a request for the list of commands
      */
     @Override
-    public void execute(ExpenseManager expenseManager, Ui ui) {
+    public CommandResult execute(ExpenseManager expenseManager) {
         LOGGER.fine("Executing help command");
-        ui.showSeparator();
-        ui.showMenu();
-        LOGGER.info("Help menu displayed successfully");
-        ui.showSeparator();
+        return new CommandResult.HelpRequested();
     }
 }
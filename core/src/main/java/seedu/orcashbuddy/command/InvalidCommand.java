@@ -0,0 +1,42 @@
+//@@author aydrienlaw
+package seedu.orcashbuddy.command;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.storage.ExpenseManager;
+
+/**
+ * Command representing an invalid or unknown command.
+ * Handles both unrecognized commands and parsing errors.
+ */
+public class InvalidCommand extends Command {
+    private final OrCashBuddyException exception;
+
+    /**
+     * Constructs an {@code InvalidCommand} for unknown commands
+     * with no specific parsing error.
+     */
+    public InvalidCommand() {
+        this.exception = null;
+    }
+
+    /**
+     * Constructs an {@code InvalidCommand} storing parsing/validation error details.
+     *
+     * @param exception the exception containing the cause of failure
+     */
+    public InvalidCommand(OrCashBuddyException exception) {
+        this.exception = exception;
+    }
+
+    /**
+     * Reports why the input was rejected. The console follows the error with a usage hint
+     * for the command it concerns.
+     *
+     * @param expenseManager the central data model that stores all expenses and budget state (unused)
+     * @return the rejection, with the error message if there was one
+     */
+    @Override
+    public CommandResult execute(ExpenseManager expenseManager) {
+        return new CommandResult.InputRejected(exception == null ? null : exception.getMessage());
+    }
+}
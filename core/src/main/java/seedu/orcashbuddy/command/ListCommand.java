@@ -0,0 +1,109 @@
+//@@author gumingyoujia
+package seedu.orcashbuddy.command;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.storage.ExpenseSnapshot;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Command to list all expenses along with summary statistics.
+ * <p>
+ * Large ledgers can be listed one window at a time, either as a page
+ * ({@code list page/2 size/50}) or as the most recent entries ({@code list last/10}).
+ */
+public class ListCommand extends Command {
+    /** Page size used when {@code page/} is given without {@code size/}. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final Logger LOGGER = Logger.getLogger(ListCommand.class.getName());
+
+    private final int page;
+    private final int pageSize;
+    private final int lastCount;
+
+    /**
+     * Constructs a {@code ListCommand} that lists every expense.
+     */
+    public ListCommand() {
+        this(0, 0, 0);
+    }
+
+    /**
+     * Constructs a {@code ListCommand} that lists a single page of expenses.
+     *
+     * @param page the 1-based page to show
+     * @param pageSize the number of expenses per page
+     */
+    public ListCommand(int page, int pageSize) {
+        this(page, pageSize, 0);
+        assert page >= 1 : "Page must be at least 1";
+        assert pageSize >= 1 : "Page size must be at least 1";
+    }
+
+    /**
+     * Constructs a {@code ListCommand} that lists only the most recently added expenses.
+     *
+     * @param lastCount how many of the latest expenses to show
+     */
+    public ListCommand(int lastCount) {
+        this(0, 0, lastCount);
+        assert lastCount >= 1 : "Count must be at least 1";
+    }
+
+    private ListCommand(int page, int pageSize, int lastCount) {
+        this.page = page;
+        this.pageSize = pageSize;
+        this.lastCount = lastCount;
+    }
+
+    /**
+     * Gathers the current financial summary:
+     * <ul>
+     *   <li>Budget</li>
+     *   <li>Total spent</li>
+     *   <li>Remaining balance</li>
+     *   <li>All expenses (or the requested window of them) in a numbered list</li>
+     * </ul>
+     * The summary header comes from the running totals in {@link ExpenseManager},
+     * so only the rows inside the window are visited. Everything returned is read from one
+     * {@link ExpenseSnapshot}, so the header always agrees with the rows.
+     *
+     * @param expenseManager the central data model that stores all expenses and budget state
+     * @return the expenses to show, with the budget status
+     * @throws OrCashBuddyException if the requested page lies beyond the last page
+     */
+    @Override
+    public CommandResult execute(ExpenseManager expenseManager) throws OrCashBuddyException {
+        LOGGER.fine("Executing list command");
+        ExpenseSnapshot snapshot = expenseManager.getSnapshot();
+
+        if (page == 0 && lastCount == 0) {
+            return new CommandResult.ExpensesListed(snapshot.getBudgetData(), snapshot.getExpenses());
+        }
+
+        int size = snapshot.getSize();
+        int fromIndex;
+        int toIndex;
+        if (lastCount > 0) {
+            fromIndex = Math.max(0, size - lastCount);
+            toIndex = size;
+        } else {
+            int pageCount = (size + pageSize - 1) / pageSize;
+            long start = (long) (page - 1) * pageSize;
+            if (size > 0 && start >= size) {
+                throw OrCashBuddyException.pageOutOfRange(page, pageCount);
+            }
+            fromIndex = (int) Math.min(start, size);
+            toIndex = (int) Math.min(start + pageSize, size);
+        }
+
+        LOGGER.log(Level.FINE, "Listing expenses {0} to {1} of {2}",
+                new Object[]{fromIndex + 1, toIndex, size});
+
+        return new CommandResult.ExpenseWindowListed(snapshot.getBudgetData(), snapshot.getExpenses(),
+                fromIndex, toIndex);
+    }
+}
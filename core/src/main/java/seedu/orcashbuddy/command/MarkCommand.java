@@ -4,7 +4,6 @@ package seedu.orcashbuddy.command;
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
 import seedu.orcashbuddy.storage.ExpenseManager;
-import seedu.orcashbuddy.ui.Ui;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -27,25 +26,20 @@ public class MarkCommand extends Command {
 
     /**
      * Marks the specified expense as paid, updates budget tracking,
-     * and shows the marked expense plus any budget alerts.
+     * and returns the marked expense with the budget status.
      *
      * @param expenseManager the central data model that stores all expenses and budget state
-     * @param ui the UI used to show output to the user
+     * @return the marked expense, with the updated budget status
      * @throws OrCashBuddyException if the index is invalid
      */
     @Override
-    public void execute(ExpenseManager expenseManager, Ui ui) throws OrCashBuddyException {
+    public CommandResult execute(ExpenseManager expenseManager) throws OrCashBuddyException {
         assert index >= 1 : "Index must be at least 1";
 
         Expense expense = expenseManager.markExpense(index);
 
         LOGGER.log(Level.INFO, "Marked expense at index {0}: {1}",
                 new Object[]{index, expense.getDescription()});
-
-        ui.showSeparator();
-        ui.showMarkedExpense(expense);
-        ui.showSeparator();
-        ui.showProgressBar(expenseManager.getBudgetData());
-        ui.showSeparator();
+        return new CommandResult.ExpenseMarked(expense, expenseManager.getBudgetData());
     }
 }
@@ -0,0 +1,26 @@
+package seedu.orcashbuddy.command;
+
+import seedu.orcashbuddy.perf.PerfRecorder;
+import seedu.orcashbuddy.storage.ExpenseManager;
+
+/**
+ * Command to show how long parsing, loading, saving and each type of command have taken so far.
+ */
+public class PerfCommand extends Command {
+
+    /**
+     * Reports the count, median, 99th percentile, maximum and total time of each operation timed by
+     * the manager's {@link PerfRecorder}.
+     *
+     * @param expenseManager the central data model that stores all expenses and budget state
+     * @return the timings, or {@link CommandResult.TimingsDisabled} if timing is off
+     */
+    @Override
+    public CommandResult execute(ExpenseManager expenseManager) {
+        PerfRecorder perfRecorder = expenseManager.getPerfRecorder();
+        if (!perfRecorder.isEnabled()) {
+            return new CommandResult.TimingsDisabled();
+        }
+        return new CommandResult.TimingsReported(perfRecorder.getHistograms());
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.orcashbuddy.command;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.storage.ExpenseManager;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Command to redo the most recently undone change.
+ */
+public class RedoCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(RedoCommand.class.getName());
+
+    /**
+     * Re-applies the most recently undone change and shows what it was, followed by the updated budget status.
+     *
+     * @param expenseManager the central data model that stores all expenses and budget state
+     * @return what the change was, with the updated budget status
+     * @throws OrCashBuddyException if there is nothing to redo
+     */
+    @Override
+    public CommandResult execute(ExpenseManager expenseManager) throws OrCashBuddyException {
+        String change = expenseManager.redo();
+        LOGGER.log(Level.INFO, "Executed redo: {0}", change);
+        return new CommandResult.ChangeRedone(change, expenseManager.getBudgetData());
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.orcashbuddy.command;
+
+/**
+ * What a {@code find} matched its search term against.
+ */
+public enum SearchType {
+    CATEGORY("category"),
+    DESCRIPTION("description"),
+    QUERY("query");
+
+    private final String displayName;
+
+    SearchType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the user-facing name of this search type, as shown with the results.
+     *
+     * @return the display name, e.g. {@code "category"}
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -2,7 +2,6 @@
 package seedu.orcashbuddy.command;
 
 import seedu.orcashbuddy.storage.ExpenseManager;
-import seedu.orcashbuddy.ui.Ui;
 
 /**
  * Command to set the budget amount.
@@ -20,14 +19,10 @@ public class SetBudgetCommand extends Command {
     }
 
     @Override
-    public void execute(ExpenseManager expenseManager, Ui ui) {
+    public CommandResult execute(ExpenseManager expenseManager) {
         assert budget > 0.0 : "Budget must be positive";
 
-        ui.showSeparator();
         expenseManager.setBudget(budget);
-        ui.showNewBudget(budget);
-        ui.showSeparator();
-        ui.showProgressBar(expenseManager.getBudgetData());
-        ui.showSeparator();
+        return new CommandResult.BudgetSet(budget, expenseManager.getBudgetData());
     }
 }
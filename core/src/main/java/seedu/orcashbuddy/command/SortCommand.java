@@ -0,0 +1,101 @@
+//@@author saheer17
+package seedu.orcashbuddy.command;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.storage.SortKey;
+import seedu.orcashbuddy.expense.Expense;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command to sort all expenses in descending order of amount
+ * or by user-chosen keys, or to show only the {@code K} largest or smallest expenses.
+ */
+public class SortCommand extends Command{
+
+    private static final Logger LOGGER = Logger.getLogger(SortCommand.class.getName());
+
+    private final int count; // 0 sorts every expense
+    private final boolean largest;
+    private final List<SortKey> keys; // null for the default highest-amount-first sort
+    private final boolean ascending;
+
+    /**
+     * Constructs a {@code SortCommand} that sorts every expense from highest to lowest amount.
+     */
+    public SortCommand() {
+        this.count = 0;
+        this.largest = true;
+        this.keys = null;
+        this.ascending = false;
+    }
+
+    /**
+     * Constructs a {@code SortCommand} that sorts every expense by the given keys.
+     *
+     * @param keys the sort keys, most significant first
+     * @param ascending {@code true} to sort every key in ascending order, {@code false} for descending
+     */
+    public SortCommand(List<SortKey> keys, boolean ascending) {
+        assert keys != null && !keys.isEmpty() : "At least one sort key is required";
+        this.count = 0;
+        this.largest = true;
+        this.keys = List.copyOf(keys);
+        this.ascending = ascending;
+    }
+
+    /**
+     * Constructs a {@code SortCommand} that shows only the {@code count} largest or smallest expenses.
+     *
+     * @param count the number of expenses to show
+     * @param largest {@code true} for the largest amounts ({@code top/}), {@code false} for the smallest
+     *                ({@code bottom/})
+     */
+    public SortCommand(int count, boolean largest) {
+        assert count >= 1 : "Count must be at least 1";
+        this.count = count;
+        this.largest = largest;
+        this.keys = null;
+        this.ascending = false;
+    }
+
+    /**
+     * Sorts all expenses by amount (highest first) or by the requested keys,
+     * or selects the requested top/bottom expenses.
+     * If there are no expenses, the result holds none.
+     *
+     * @param expenseManager the expense manager containing all expenses
+     * @return the sorted or selected expenses
+     * @throws OrCashBuddyException if the expense list cannot be accessed
+     */
+    @Override
+    public CommandResult execute(ExpenseManager expenseManager) throws OrCashBuddyException {
+        assert expenseManager != null : "ExpenseManager must not be null";
+        LOGGER.info("Executing SortCommand");
+
+        CommandResult result;
+        if (expenseManager.getSize() == 0) {
+            LOGGER.info("Cannot sort expenses - list is empty");
+            result = new CommandResult.ExpensesSorted(List.of(), keys, ascending);
+        } else if (count > 0) {
+            List<Expense> selectedExpenses = expenseManager.selectExpenses(count, largest);
+            assert selectedExpenses.size() == Math.min(count, expenseManager.getSize()) : "Selected size mismatch";
+            LOGGER.log(Level.FINE, "Showing {0} expenses", selectedExpenses.size());
+            result = new CommandResult.ExpensesSelected(selectedExpenses, largest);
+        } else if (keys != null) {
+            List<Expense> sortedExpenses = expenseManager.sortExpenses(keys, ascending);
+            assert sortedExpenses.size() == expenseManager.getSize() : "Sorted list size mismatch";
+            result = new CommandResult.ExpensesSorted(sortedExpenses, keys, ascending);
+        } else {
+            List<Expense> sortedExpenses = expenseManager.sortExpenses();
+            assert sortedExpenses != null : "Sorted expenses should not be null";
+            assert sortedExpenses.size() == expenseManager.getSize() : "Sorted list size mismatch";
+            result = new CommandResult.ExpensesSorted(sortedExpenses, null, false);
+        }
+
+        LOGGER.info("SortCommand execution completed");
+        return result;
+    }
+}
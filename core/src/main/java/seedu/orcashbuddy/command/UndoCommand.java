@@ -0,0 +1,28 @@
+package seedu.orcashbuddy.command;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.storage.ExpenseManager;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Command to undo the most recent change to the expenses or budget.
+ */
+public class UndoCommand extends Command {
+    private static final Logger LOGGER = Logger.getLogger(UndoCommand.class.getName());
+
+    /**
+     * Reverts the most recent change and shows what it was, followed by the updated budget status.
+     *
+     * @param expenseManager the central data model that stores all expenses and budget state
+     * @return what the change was, with the updated budget status
+     * @throws OrCashBuddyException if there is nothing to undo
+     */
+    @Override
+    public CommandResult execute(ExpenseManager expenseManager) throws OrCashBuddyException {
+        String change = expenseManager.undo();
+        LOGGER.log(Level.INFO, "Executed undo: {0}", change);
+        return new CommandResult.ChangeUndone(change, expenseManager.getBudgetData());
+    }
+}
@@ -4,7 +4,6 @@ package seedu.orcashbuddy.command;
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
 import seedu.orcashbuddy.storage.ExpenseManager;
-import seedu.orcashbuddy.ui.Ui;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -27,25 +26,20 @@ public class UnmarkCommand extends Command {
 
     /**
      * Unmarks the specified expense, updates budget tracking,
-     * and shows the unmarked expense plus any budget alerts.
+     * and returns the unmarked expense with the budget status.
      *
      * @param expenseManager the model to update
-     * @param ui the UI to display results
+     * @return the unmarked expense, with the updated budget status
      * @throws OrCashBuddyException if the index is invalid
      */
     @Override
-    public void execute(ExpenseManager expenseManager, Ui ui) throws OrCashBuddyException {
+    public CommandResult execute(ExpenseManager expenseManager) throws OrCashBuddyException {
         assert index >= 1 : "Index must be at least 1";
 
         Expense expense = expenseManager.unmarkExpense(index);
 
         LOGGER.log(Level.INFO, "Unmarked expense at index {0}: {1}",
                 new Object[]{index, expense.getDescription()});
-
-        ui.showSeparator();
-        ui.showUnmarkedExpense(expense);
-        ui.showSeparator();
-        ui.showProgressBar(expenseManager.getBudgetData());
-        ui.showSeparator();
+        return new CommandResult.ExpenseUnmarked(expense, expenseManager.getBudgetData());
     }
 }
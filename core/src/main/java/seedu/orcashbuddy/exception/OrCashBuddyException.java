@@ -3,6 +3,10 @@ package seedu.orcashbuddy.exception;
 /**
  * Custom exception class for orCASHbuddy application-specific errors.
  * Provides factory methods for creating common exception types with appropriate messages.
+ * <p>
+ * These exceptions report bad input to the user, who only ever sees the message, so they record
+ * no stack trace. A script with thousands of rejected lines then spends its time checking input
+ * rather than walking the stack for each one.
  */
 public class OrCashBuddyException extends Exception {
 
@@ -18,7 +22,7 @@ public class OrCashBuddyException extends Exception {
      * @param message the exception message
      */
     public OrCashBuddyException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     /**
@@ -28,7 +32,7 @@ public class OrCashBuddyException extends Exception {
      * @param cause the underlying cause
      */
     public OrCashBuddyException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 
     // ========== Prefix-Related Exceptions ==========
@@ -202,4 +206,64 @@ public class OrCashBuddyException extends Exception {
     public static OrCashBuddyException emptyExpenseList() {
         return new OrCashBuddyException("No expenses available. Add some expenses first.");
     }
+
+    //@@author
+    // ========== Count-Related Exceptions ==========
+
+    /**
+     * Creates an exception for a prefixed count (e.g. {@code page/}, {@code size/}) that is
+     * missing, non-numeric, or not positive.
+     *
+     * @param prefix the prefix whose value is invalid
+     * @param commandName the command being parsed
+     * @return OrCashBuddyException for an invalid count
+     */
+    public static OrCashBuddyException invalidCount(String prefix, String commandName) {
+        return new OrCashBuddyException("Value after '" + prefix + "' for '" + commandName
+                + "' command must be a positive integer");
+    }
+
+    /**
+     * Creates an exception for a {@code list} page beyond the last page.
+     *
+     * @param page the requested 1-based page
+     * @param pageCount the number of pages available
+     * @return OrCashBuddyException for a page out of range
+     */
+    public static OrCashBuddyException pageOutOfRange(int page, int pageCount) {
+        return new OrCashBuddyException("Page " + page + " is out of range. There are only "
+                + pageCount + " page(s) of expenses");
+    }
+
+    // ========== Query-Related Exceptions ==========
+
+    /**
+     * Creates an exception for a {@code find} query that cannot be parsed.
+     *
+     * @param detail what is wrong with the query
+     * @return OrCashBuddyException for an invalid search query
+     */
+    public static OrCashBuddyException invalidQuery(String detail) {
+        return new OrCashBuddyException("Invalid search query for 'find' command: " + detail);
+    }
+
+    // ========== Undo-Related Exceptions ==========
+
+    /**
+     * Creates an exception for an {@code undo} with no change left to undo.
+     *
+     * @return OrCashBuddyException for an empty undo history
+     */
+    public static OrCashBuddyException nothingToUndo() {
+        return new OrCashBuddyException("Nothing to undo");
+    }
+
+    /**
+     * Creates an exception for a {@code redo} with no undone change to redo.
+     *
+     * @return OrCashBuddyException for an empty redo history
+     */
+    public static OrCashBuddyException nothingToRedo() {
+        return new OrCashBuddyException("Nothing to redo");
+    }
 }
@@ -15,10 +15,15 @@ public class Expense implements Serializable{
     public static final String DEFAULT_CATEGORY = "Uncategorized";
     @Serial
     private static final long serialVersionUID = 1L;
+    private static final String MARKED_ICON = "[X]";
+    private static final String UNMARKED_ICON = "[ ]";
     private final double amount;
     private final String description;
     private final String category;
-    private boolean isMarked;
+    private final boolean isMarked;
+    // Display string minus the status icon, built on first display and shared by marked/unmarked copies.
+    // Like String's hash, it may be built twice by racing threads, but always to the same value.
+    private transient String displayBody;
 
     /**
      * Creates a new {@code Expense}.
@@ -28,10 +33,15 @@ public class Expense implements Serializable{
      * @param category the category label (e.g. "Food", "Transport")
      */
     public Expense(double amount, String description, String category) {
+        this(amount, description, category, false, null);
+    }
+
+    private Expense(double amount, String description, String category, boolean isMarked, String displayBody) {
         this.amount = amount;
         this.description = description;
         this.category = category;
-        this.isMarked = false;
+        this.isMarked = isMarked;
+        this.displayBody = displayBody;
     }
 
     /**
@@ -71,17 +81,14 @@ public class Expense implements Serializable{
     }
 
     /**
-     * Marks this expense as completed.
-     */
-    public void mark() {
-        this.isMarked = true;
-    }
-
-    /**
-     * Unmarks this expense.
+     * Returns this expense with the given paid status. Expenses never change, so marking or
+     * unmarking one produces a copy.
+     *
+     * @param isMarked {@code true} for a marked (paid) expense, {@code false} for an unmarked one
+     * @return this expense if it already has that status, otherwise a copy that has it
      */
-    public void unmark() {
-        this.isMarked = false;
+    public Expense withMarked(boolean isMarked) {
+        return isMarked == this.isMarked ? this : new Expense(amount, description, category, isMarked, displayBody);
     }
 
     /**
@@ -91,12 +98,19 @@ public class Expense implements Serializable{
      * [X] [CATEGORY] DESCRIPTION - $XX.XX   (if marked)
      * [ ] [CATEGORY] DESCRIPTION - $XX.XX   (if unmarked)
      * </pre>
+     * Everything after the status icon is formatted only once per expense, so listing the same
+     * expenses again, or after marking or unmarking them, does not format the amount again.
      *
      * @return formatted string for list display
      */
     public String formatForDisplay() {
-        String statusIcon = isMarked ? "[X]" : "[ ]";
-        return statusIcon + " [" + category + "] " + description + " - $"
-                + String.format("%.2f", amount);
+        String body = displayBody;
+        if (body == null) {
+            StringBuilder sb = new StringBuilder().append(" [").append(category).append("] ")
+                    .append(description).append(" - $");
+            body = MoneyFormatter.append(sb, amount).toString();
+            displayBody = body;
+        }
+        return (isMarked ? MARKED_ICON : UNMARKED_ICON) + body;
     }
 }
@@ -0,0 +1,65 @@
+package seedu.orcashbuddy.expense;
+
+import java.util.Locale;
+
+/**
+ * Formats amounts of money with exactly two decimal places.
+ * <p>
+ * The text is the same as {@code String.format(Locale.ROOT, "%.2f", value)}, which rounds the value's
+ * shortest decimal form half up, so {@code 0.125} gives {@code 0.13}. It is appended straight to a
+ * {@link StringBuilder} instead of going through {@link java.util.Formatter}, which parses the format
+ * string and allocates on every call. The few values that lie within rounding error of a half cent,
+ * or are too large for a {@code double} to hold to the cent, are still passed to {@code String.format}.
+ */
+public final class MoneyFormatter {
+    private static final String FORMAT = "%.2f";
+    // Above this, adjacent doubles are more than a tenth of a cent apart
+    private static final double MAX_FAST_VALUE = 1e13;
+    // A value this many ulps (of the value in cents) or closer to a half cent may round either way
+    private static final int HALF_CENT_MARGIN_ULPS = 4;
+
+    private MoneyFormatter() {
+    }
+
+    /**
+     * Returns {@code value} with two decimal places, e.g. {@code 12.50}.
+     *
+     * @param value the amount to format
+     * @return the formatted amount, with a leading {@code -} if it is negative
+     */
+    public static String format(double value) {
+        return append(new StringBuilder(16), value).toString();
+    }
+
+    /**
+     * Appends {@code value} with two decimal places to {@code sb}.
+     *
+     * @param sb the builder to append to
+     * @param value the amount to format
+     * @return {@code sb}
+     */
+    public static StringBuilder append(StringBuilder sb, double value) {
+        double magnitude = Math.abs(value);
+        if (!(magnitude < MAX_FAST_VALUE)) {
+            // Also catches NaN and infinities
+            return sb.append(String.format(Locale.ROOT, FORMAT, value));
+        }
+
+        double scaled = magnitude * 100.0;
+        double wholeCents = Math.floor(scaled);
+        double fraction = scaled - wholeCents;
+        if (Math.abs(fraction - 0.5) <= HALF_CENT_MARGIN_ULPS * Math.ulp(scaled)) {
+            return sb.append(String.format(Locale.ROOT, FORMAT, value));
+        }
+
+        long cents = (long) wholeCents + (fraction > 0.5 ? 1 : 0);
+        // Like %.2f, keep the sign of values that round to zero, including -0.0
+        if (Double.compare(value, 0.0) < 0) {
+            sb.append('-');
+        }
+        long subunits = cents % 100;
+        return sb.append(cents / 100).append('.')
+                .append((char) ('0' + subunits / 10))
+                .append((char) ('0' + subunits % 10));
+    }
+}
@@ -3,11 +3,6 @@ package seedu.orcashbuddy.parser;
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Lightweight helper that extracts prefixed argument values from
@@ -22,15 +17,16 @@ import java.util.stream.Collectors;
  *
  * This class does not validate semantics (e.g. positive amounts);
  * validation is handled by {@link InputValidator}. It only slices
- * out raw string segments after known prefixes.
+ * out raw string segments after known prefixes, in a single scan
+ * over the characters of the input.
  */
 public class ArgumentParser {
     private static final String[] ALL_PREFIXES = {"id/", "a/", "desc/", "cat/"};
 
     private final String input;
     private final String[] activePrefixes;
-    private final Pattern prefixPattern;
-    private final Map<String, String> parsedValues = new HashMap<>();
+    // Values by position in activePrefixes; at most a handful of prefixes, so a lookup is a short scan
+    private final String[] parsedValues;
     private boolean parsed;
 
     /**
@@ -45,7 +41,7 @@ public class ArgumentParser {
     public ArgumentParser(String input, String... allowedPrefixes) {
         this.input = input.trim();
         this.activePrefixes = normalisePrefixes(allowedPrefixes);
-        this.prefixPattern = buildPrefixPattern(this.activePrefixes);
+        this.parsedValues = new String[activePrefixes.length];
     }
 
     //@@author limzerui
@@ -59,8 +55,7 @@ public class ArgumentParser {
      * @throws OrCashBuddyException if the prefix is missing
      */
     public String getValue(String prefix) throws OrCashBuddyException {
-        ensureParsed();
-        String value = parsedValues.get(prefix);
+        String value = getOptionalValue(prefix);
         if (value == null) {
             throw OrCashBuddyException.missingPrefix(prefix);
         }
@@ -77,7 +72,12 @@ public class ArgumentParser {
      */
     public String getOptionalValue(String prefix) {
         ensureParsed();
-        return parsedValues.get(prefix);
+        for (int i = 0; i < activePrefixes.length; i++) {
+            if (activePrefixes[i].equals(prefix)) {
+                return parsedValues[i];
+            }
+        }
+        return null;
     }
 
     /**
@@ -100,53 +100,81 @@ public class ArgumentParser {
      * require explicit escaping or duplicate detection, the rule can be tightened here without affecting callers.
      */
     private void parseArguments() {
-        Matcher matcher = prefixPattern.matcher(input);
-        String activePrefix = null;
+        int activeIndex = -1;
         int valueStart = -1;
 
-        while (matcher.find()) {
-            String nextPrefix = matcher.group(1);
-
-            if (activePrefix == null) {
-                activePrefix = nextPrefix;
-                valueStart = matcher.end();
+        for (int position = 0; position < input.length(); position++) {
+            // Prefixes are only recognised at the start of a word
+            if (position > 0 && !isWhitespace(input.charAt(position - 1))) {
+                continue;
+            }
+            int prefixIndex = prefixIndexAt(position);
+            if (prefixIndex < 0) {
                 continue;
             }
 
-            boolean duplicateOfCurrent = nextPrefix.equals(activePrefix);
-            boolean alreadyCaptured = parsedValues.containsKey(nextPrefix);
+            boolean duplicateOfCurrent = prefixIndex == activeIndex;
+            boolean alreadyCaptured = parsedValues[prefixIndex] != null;
             if (duplicateOfCurrent || alreadyCaptured) {
                 // Keep scanning so the duplicate prefix characters remain inside the current value.
                 continue;
             }
 
-            String value = input.substring(valueStart, matcher.start()).trim();
-            parsedValues.put(activePrefix, value);
-            activePrefix = nextPrefix;
-            valueStart = matcher.end();
+            if (activeIndex >= 0) {
+                parsedValues[activeIndex] = input.substring(valueStart, position).trim();
+            }
+            activeIndex = prefixIndex;
+            valueStart = position + activePrefixes[prefixIndex].length();
         }
 
-        if (activePrefix != null && !parsedValues.containsKey(activePrefix)) {
-            String value = input.substring(valueStart).trim();
-            parsedValues.put(activePrefix, value);
+        if (activeIndex >= 0) {
+            parsedValues[activeIndex] = input.substring(valueStart).trim();
         }
     }
 
+    /**
+     * Returns the position in {@code activePrefixes} of the first prefix that starts at
+     * {@code position} of the input, or -1 if none does.
+     */
+    private int prefixIndexAt(int position) {
+        for (int i = 0; i < activePrefixes.length; i++) {
+            if (input.startsWith(activePrefixes[i], position)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether {@code c} separates words, using the same characters as the regular expression {@code \s}.
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000b' || c == '\f' || c == '\r';
+    }
+
     private static String[] normalisePrefixes(String[] prefixes) {
         if (prefixes == null || prefixes.length == 0) {
             return ALL_PREFIXES;
         }
-        String[] filtered = Arrays.stream(prefixes)
-                .filter(p -> p != null && !p.isBlank())
-                .distinct()
-                .toArray(String[]::new);
-        return filtered.length == 0 ? ALL_PREFIXES : filtered;
+        String[] filtered = new String[prefixes.length];
+        int count = 0;
+        for (String prefix : prefixes) {
+            if (prefix != null && !prefix.isBlank() && !contains(filtered, count, prefix)) {
+                filtered[count++] = prefix;
+            }
+        }
+        if (count == 0) {
+            return ALL_PREFIXES;
+        }
+        return count == filtered.length ? filtered : Arrays.copyOf(filtered, count);
     }
 
-    private static Pattern buildPrefixPattern(String[] prefixes) {
-        String alternatives = Arrays.stream(prefixes)
-                .map(Pattern::quote)
-                .collect(Collectors.joining("|"));
-        return Pattern.compile("(?<!\\S)(" + alternatives + ")");
+    private static boolean contains(String[] prefixes, int count, String prefix) {
+        for (int i = 0; i < count; i++) {
+            if (prefixes[i].equals(prefix)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
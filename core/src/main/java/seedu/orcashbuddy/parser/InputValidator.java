@@ -0,0 +1,305 @@
+package seedu.orcashbuddy.parser;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+
+/**
+ * Provides static helpers to sanity-check raw argument values
+ * extracted from the user's input.
+ * <p>
+ * This class enforces constraints such as:
+ * <ul>
+ *     <li>Amount is a valid positive number</li>
+ *     <li>Description is non-empty</li>
+ *     <li>Category is non-empty and alphanumeric (within limits)</li>
+ *     <li>Index is a positive integer</li>
+ * </ul>
+ *
+ * The methods here throw {@link OrCashBuddyException} with user-friendly
+ * messages so the caller can surface them directly.
+ */
+public class InputValidator {
+
+    /**
+     * Maximum allowed amount, in cents, to prevent precision loss with double representation.
+     * Set to 1 trillion dollars, which is well within double precision limits.
+     */
+    private static final long MAX_AMOUNT_CENTS = 100_000_000_000_000L; // 1 trillion dollars
+
+    /**
+     * Maximum length of a category. A category must start with a letter and contain only letters,
+     * numbers, spaces, or hyphens.
+     */
+    private static final int MAX_CATEGORY_LENGTH = 20;
+
+    // Returned by parseInteger for text that Integer.parseInt would reject
+    private static final long NOT_AN_INTEGER = Long.MIN_VALUE;
+
+    //@@author limzerui
+
+    /**
+     * Validates and parses an amount string.
+     *
+     * @param amountStr   raw string after {@code a/}
+     * @param commandName the command being validated (used in error messages)
+     * @return the parsed amount as a double
+     * @throws OrCashBuddyException if the amount is missing, non-numeric, or not positive
+     */
+    public static double validateAmount(String amountStr, String commandName) throws OrCashBuddyException {
+        return validateAmountCents(amountStr, commandName) / 100.0;
+    }
+
+    //@@author
+    /**
+     * Validates an amount string and parses it into exact cents in a single pass.
+     * <p>
+     * The amount must be a plain decimal number such as {@code 12}, {@code 12.5} or {@code .50},
+     * optionally signed. Digits beyond two decimal places are ignored, as documented in the user guide.
+     * Exponents, hexadecimal and words such as {@code NaN} or {@code Infinity} are not numeric.
+     *
+     * @param amountStr   raw string after {@code a/}
+     * @param commandName the command being validated (used in error messages)
+     * @return the parsed amount in cents, from 1 to 1 trillion dollars
+     * @throws OrCashBuddyException if the amount is missing, non-numeric, below $0.01 or too large
+     */
+    public static long validateAmountCents(String amountStr, String commandName) throws OrCashBuddyException {
+        if (amountStr == null || amountStr.isEmpty()) {
+            throw OrCashBuddyException.emptyAmount(commandName);
+        }
+
+        int start = 0;
+        int end = amountStr.length();
+        while (start < end && amountStr.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && amountStr.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        boolean isNegative = false;
+        if (start < end && (amountStr.charAt(start) == '-' || amountStr.charAt(start) == '+')) {
+            isNegative = amountStr.charAt(start) == '-';
+            start++;
+        }
+
+        long cents = 0;
+        int decimalPlaces = -1; // -1 until the decimal point is seen
+        boolean hasDigits = false;
+        boolean isTooLarge = false;
+        boolean hasIgnoredDigits = false;
+        for (int i = start; i < end; i++) {
+            char c = amountStr.charAt(i);
+            if (c == '.' && decimalPlaces < 0) {
+                decimalPlaces = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                throw OrCashBuddyException.invalidAmount(amountStr);
+            }
+
+            hasDigits = true;
+            if (decimalPlaces >= 2) {
+                hasIgnoredDigits |= c != '0';
+                continue;
+            }
+            if (decimalPlaces >= 0) {
+                decimalPlaces++;
+            }
+            // Once past the maximum the value no longer matters, only whether the rest is numeric
+            if (!isTooLarge) {
+                cents = cents * 10 + (c - '0');
+                isTooLarge = cents > MAX_AMOUNT_CENTS * (decimalPlaces < 0 ? 1 : 10);
+            }
+        }
+        if (!hasDigits) {
+            throw OrCashBuddyException.invalidAmount(amountStr);
+        }
+
+        // Scale to cents for the decimal places that were not written
+        for (int places = Math.max(decimalPlaces, 0); places < 2 && !isTooLarge; places++) {
+            cents *= 10;
+            isTooLarge = cents > MAX_AMOUNT_CENTS;
+        }
+        if (isNegative || cents < 1) {
+            throw OrCashBuddyException.amountNotPositive(amountStr);
+        }
+        if (isTooLarge || cents > MAX_AMOUNT_CENTS || (cents == MAX_AMOUNT_CENTS && hasIgnoredDigits)) {
+            throw OrCashBuddyException.amountTooLarge(amountStr);
+        }
+        return cents;
+    }
+
+    //@@author limzerui
+    /**
+     * Validates that a description is present and non-empty,
+     * and trims surrounding whitespace.
+     *
+     * @param description raw description after {@code desc/}
+     * @param commandName the command being validated (for contextual error messages)
+     * @return a trimmed, non-empty description
+     * @throws OrCashBuddyException if the description is blank or missing
+     */
+    public static String validateDescription(String description, String commandName) throws OrCashBuddyException {
+        if (description == null || description.trim().isEmpty()) {
+            throw OrCashBuddyException.emptyDescription(commandName);
+        }
+        String trimmed = description.trim();
+        ensureAscii(trimmed, "Description");
+        return trimmed;
+    }
+
+    /**
+     * Validates and normalizes a category string.
+     * If {@code null}, falls back to {@link Expense#DEFAULT_CATEGORY}.
+     * Otherwise, ensures it meets format constraints (alphanumeric and reasonable length).
+     *
+     * @param category    raw category after {@code cat/}
+     * @param commandName the command being validated
+     * @return a trimmed, valid category string
+     * @throws OrCashBuddyException if the category is empty or malformed
+     */
+    public static String validateCategory(String category, String commandName) throws OrCashBuddyException {
+        if (category == null) {
+            return Expense.DEFAULT_CATEGORY;
+        }
+
+        String trimmed = category.trim();
+        if (trimmed.isEmpty()) {
+            throw OrCashBuddyException.emptyCategory(commandName);
+        }
+
+        ensureAscii(trimmed, "Category");
+
+        if (!isValidCategory(trimmed)) {
+            throw OrCashBuddyException.invalidCategory(trimmed);
+        }
+
+        return trimmed;
+    }
+
+    //@@author saheer17
+    /**
+     * Validates an index argument used for commands like delete/mark/edit.
+     *
+     * @param input       the raw index string (e.g. "3")
+     * @param commandName the command being validated
+     * @return the parsed 1-based index as an int
+     * @throws OrCashBuddyException if the index is missing, not a valid number, or less than 1
+     */
+    public static int validateIndex(String input, String commandName) throws OrCashBuddyException {
+        if (input == null || input.isEmpty()) {
+            throw OrCashBuddyException.missingExpenseIndex(commandName);
+        }
+
+        String trimmed = input.trim();
+
+        long index = parseInteger(trimmed);
+        if (index == NOT_AN_INTEGER) {
+            if (isDigitsWithOptionalMinus(trimmed)) {
+                throw OrCashBuddyException.expenseIndexTooLarge();
+            }
+            throw OrCashBuddyException.invalidExpenseIndex();
+        }
+        if (index < 1) {
+            throw OrCashBuddyException.expenseIndexTooSmall();
+        }
+        return (int) index;
+    }
+
+    static void ensureAscii(String value, String fieldName) throws OrCashBuddyException {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x20 || ch > 0x7E) {
+                throw OrCashBuddyException.nonAsciiInput(fieldName);
+            }
+        }
+    }
+
+    //@@author
+    /**
+     * Returns whether {@code category} starts with a letter, contains only letters, numbers, whitespace
+     * or hyphens, and is at most {@link #MAX_CATEGORY_LENGTH} characters long.
+     */
+    private static boolean isValidCategory(String category) {
+        if (category.isEmpty() || category.length() > MAX_CATEGORY_LENGTH || !isAsciiLetter(category.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < category.length(); i++) {
+            char c = category.charAt(i);
+            boolean isAllowed = isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '-'
+                    || ArgumentParser.isWhitespace(c);
+            if (!isAllowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    //@@author
+    /**
+     * Validates a positive count supplied after a prefix, such as {@code page/3} or {@code last/10}.
+     *
+     * @param input       the raw value after the prefix
+     * @param prefix      the prefix the value belongs to (used in error messages)
+     * @param commandName the command being validated
+     * @return the parsed count, at least 1
+     * @throws OrCashBuddyException if the value is missing, not an integer, or less than 1
+     */
+    public static int validateCount(String input, String prefix, String commandName) throws OrCashBuddyException {
+        if (input == null || input.isBlank()) {
+            throw OrCashBuddyException.invalidCount(prefix, commandName);
+        }
+
+        long count = parseInteger(input.trim());
+        if (count == NOT_AN_INTEGER || count < 1) {
+            throw OrCashBuddyException.invalidCount(prefix, commandName);
+        }
+        return (int) count;
+    }
+
+    /**
+     * Parses {@code text} as {@link Integer#parseInt(String)} would, but reports text that is not
+     * an {@code int} by returning {@link #NOT_AN_INTEGER} rather than throwing, as bad input is common.
+     */
+    private static long parseInteger(String text) {
+        int length = text.length();
+        int start = length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+') ? 1 : 0;
+        if (start == length) {
+            return NOT_AN_INTEGER;
+        }
+        boolean isNegative = text.charAt(0) == '-';
+        long value = 0;
+        for (int i = start; i < length; i++) {
+            int digit = Character.digit(text.charAt(i), 10);
+            if (digit < 0) {
+                return NOT_AN_INTEGER;
+            }
+            value = value * 10 + digit;
+            if (value > (isNegative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+                return NOT_AN_INTEGER;
+            }
+        }
+        return isNegative ? -value : value;
+    }
+
+    /**
+     * Returns whether {@code text} is one or more ASCII digits, optionally after a minus sign.
+     */
+    private static boolean isDigitsWithOptionalMinus(String text) {
+        int start = text.startsWith("-") ? 1 : 0;
+        if (start == text.length()) {
+            return false;
+        }
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,466 @@
+package seedu.orcashbuddy.parser;
+
+import seedu.orcashbuddy.command.Command;
+import seedu.orcashbuddy.command.AddCommand;
+import seedu.orcashbuddy.command.FindCommand;
+import seedu.orcashbuddy.command.SetBudgetCommand;
+import seedu.orcashbuddy.command.DeleteCommand;
+import seedu.orcashbuddy.command.MarkCommand;
+import seedu.orcashbuddy.command.UnmarkCommand;
+import seedu.orcashbuddy.command.ListCommand;
+import seedu.orcashbuddy.command.HelpCommand;
+import seedu.orcashbuddy.command.InvalidCommand;
+import seedu.orcashbuddy.command.SortCommand;
+import seedu.orcashbuddy.command.ByeCommand;
+import seedu.orcashbuddy.command.EditCommand;
+import seedu.orcashbuddy.command.PerfCommand;
+import seedu.orcashbuddy.command.RedoCommand;
+import seedu.orcashbuddy.command.UndoCommand;
+import seedu.orcashbuddy.command.SearchType;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.query.CategoryQuery;
+import seedu.orcashbuddy.query.DescriptionQuery;
+import seedu.orcashbuddy.query.ExpenseQuery;
+import seedu.orcashbuddy.storage.SortKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Parses raw user input into executable {@link Command} objects.
+ * <p>
+ * Flow:
+ * <ol>
+ *   <li>Split input into a command word and its argument string</li>
+ *   <li>Dispatch to a specific {@code parseXxxCommand(...)} method</li>
+ *   <li>Wrap parser/validation failures in {@link InvalidCommand}</li>
+ * </ol>
+ */
+public class Parser {
+    private static final Logger LOGGER = Logger.getLogger(Parser.class.getName());
+
+    // Command prefixes
+    private static final String AMOUNT_PREFIX = "a/";
+    private static final String DESCRIPTION_PREFIX = "desc/";
+    private static final String CATEGORY_PREFIX = "cat/";
+    private static final String INDEX_PREFIX = "id/";
+    private static final String PAGE_PREFIX = "page/";
+    private static final String SIZE_PREFIX = "size/";
+    private static final String LAST_PREFIX = "last/";
+    private static final String TOP_PREFIX = "top/";
+    private static final String BOTTOM_PREFIX = "bottom/";
+    private static final String BY_PREFIX = "by/";
+    private static final String ORDER_PREFIX = "order/";
+    private static final String EXPLAIN_KEYWORD = "explain";
+
+    /**
+     * Parses the user input and returns the corresponding {@link Command}.
+     *
+     * @param userInput the raw input string from the user
+     * @return the {@link Command} object to be executed
+     */
+    public Command parse(String userInput) {
+        assert userInput != null : "User input must not be null";
+
+        String trimmed = userInput.trim();
+        // The command word runs up to the first whitespace; the arguments start after the whitespace run
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmed.length() && !ArgumentParser.isWhitespace(trimmed.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        int argumentsStart = commandWordEnd;
+        while (argumentsStart < trimmed.length() && ArgumentParser.isWhitespace(trimmed.charAt(argumentsStart))) {
+            argumentsStart++;
+        }
+        String commandWord = trimmed.substring(0, commandWordEnd).toLowerCase();
+        String arguments = trimmed.substring(argumentsStart);
+
+        LOGGER.fine(() -> "Parsing command: " + commandWord);
+
+        try {
+            switch (commandWord) {
+            case "add":
+                return parseAddCommand(arguments);
+            case "setbudget":
+                return parseSetBudgetCommand(arguments);
+            case "delete":
+                return parseDeleteCommand(arguments);
+            case "mark":
+                return parseMarkCommand(arguments);
+            case "unmark":
+                return parseUnmarkCommand(arguments);
+            case "list":
+                return parseListCommand(arguments);
+            case "help":
+                return parseHelpCommand(arguments);
+            case "sort":
+                return parseSortCommand(arguments);
+            case "find":
+                return parseFindCommand(arguments);
+            case "edit":
+                return parseEditCommand(arguments);
+            case "bye":
+                return parseByeCommand(arguments);
+            case "undo":
+                return parseUndoCommand(arguments);
+            case "redo":
+                return parseRedoCommand(arguments);
+            case "perf":
+                return parsePerfCommand(arguments);
+            default:
+                return new InvalidCommand();
+            }
+        } catch (OrCashBuddyException e) {
+            // Bad input is expected, so only the message is worth logging
+            LOGGER.log(Level.INFO, "Rejected command: {0}", e.getMessage());
+            return new InvalidCommand(e);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Unexpected error parsing command: " + e.getMessage(), e);
+            return new InvalidCommand();
+        }
+    }
+
+    // ========== Command Parsing Methods ==========
+
+    //@@author limzerui
+    /**
+     * Parses the {@code add} command and creates an {@link AddCommand}.
+     *
+     * @param arguments the argument string after {@code add}
+     * @return an {@link AddCommand}
+     * @throws OrCashBuddyException if required fields are missing/invalid
+     */
+    private Command parseAddCommand(String arguments) throws OrCashBuddyException {
+        ArgumentParser argParser = new ArgumentParser(arguments,
+                AMOUNT_PREFIX, DESCRIPTION_PREFIX, CATEGORY_PREFIX);
+        String amountStr = argParser.getValue(AMOUNT_PREFIX);
+        String descStr = argParser.getValue(DESCRIPTION_PREFIX);
+        String categoryStr = argParser.getOptionalValue(CATEGORY_PREFIX);
+
+        double amount = InputValidator.validateAmount(amountStr, "add");
+        String description = InputValidator.validateDescription(descStr, "add");
+        String category = InputValidator.validateCategory(categoryStr, "add");
+
+        return new AddCommand(amount, description, category);
+    }
+
+    /**
+     * Parses the {@code bye} command and creates a {@link ByeCommand}.
+     *
+     * @param arguments the arguments after the command word (should be empty)
+     * @return a {@link ByeCommand}
+     * @throws OrCashBuddyException if unexpected arguments are provided
+     */
+    private Command parseByeCommand(String arguments) throws OrCashBuddyException {
+        if (arguments != null && !arguments.isBlank()) {
+            throw new OrCashBuddyException("'bye' command does not take any arguments");
+        }
+        return new ByeCommand();
+    }
+
+    /**
+     * Parses the {@code list} command and creates a {@link ListCommand}.
+     * With no arguments every expense is listed; otherwise the arguments select a window,
+     * either {@code page/PAGE [size/SIZE]} or {@code last/COUNT}.
+     *
+     * @param arguments arguments after {@code list}
+     * @return a {@link ListCommand}
+     * @throws OrCashBuddyException if the arguments are unrecognised, conflicting, or not positive integers
+     */
+    private Command parseListCommand(String arguments) throws OrCashBuddyException {
+        if (arguments == null || arguments.isBlank()) {
+            return new ListCommand();
+        }
+
+        String trimmed = arguments.trim();
+        if (!trimmed.startsWith(PAGE_PREFIX) && !trimmed.startsWith(SIZE_PREFIX)
+                && !trimmed.startsWith(LAST_PREFIX)) {
+            throw new OrCashBuddyException("'list' command only accepts page/, size/ or last/ arguments");
+        }
+
+        ArgumentParser argParser = new ArgumentParser(trimmed, PAGE_PREFIX, SIZE_PREFIX, LAST_PREFIX);
+        String pageStr = argParser.getOptionalValue(PAGE_PREFIX);
+        String sizeStr = argParser.getOptionalValue(SIZE_PREFIX);
+        String lastStr = argParser.getOptionalValue(LAST_PREFIX);
+
+        if (lastStr != null) {
+            if (pageStr != null || sizeStr != null) {
+                throw new OrCashBuddyException("'list' command takes either page/ and size/, or last/, not both");
+            }
+            return new ListCommand(InputValidator.validateCount(lastStr, LAST_PREFIX, "list"));
+        }
+
+        int page = (pageStr == null) ? 1 : InputValidator.validateCount(pageStr, PAGE_PREFIX, "list");
+        int pageSize = (sizeStr == null)
+                ? ListCommand.DEFAULT_PAGE_SIZE
+                : InputValidator.validateCount(sizeStr, SIZE_PREFIX, "list");
+        return new ListCommand(page, pageSize);
+    }
+
+    /**
+     * Parses the {@code help} command and creates a {@link HelpCommand}.
+     *
+     * @param arguments arguments after {@code help} (should be empty)
+     * @return a {@link HelpCommand}
+     * @throws OrCashBuddyException if unexpected arguments are provided
+     */
+    private Command parseHelpCommand(String arguments) throws OrCashBuddyException {
+        if (arguments != null && !arguments.isBlank()) {
+            throw new OrCashBuddyException("'help' command does not take any arguments");
+        }
+        return new HelpCommand();
+    }
+
+    //@@author aydrienlaw
+    /**
+     * Parses the {@code setbudget} command and creates a {@link SetBudgetCommand}.
+     *
+     * @param arguments the arguments after {@code setbudget}
+     * @return a {@link SetBudgetCommand}
+     * @throws OrCashBuddyException if the budget amount is invalid
+     */
+    private Command parseSetBudgetCommand(String arguments) throws OrCashBuddyException {
+        ArgumentParser argParser = new ArgumentParser(arguments);
+        String amountStr = argParser.getValue(AMOUNT_PREFIX);
+
+        double budget = InputValidator.validateAmount(amountStr,"setbudget");
+        return new SetBudgetCommand(budget);
+    }
+
+    //@@author saheer17
+    /**
+     * Parses the {@code delete} command and creates a {@link DeleteCommand}.
+     *
+     * @param arguments the 1-based index of the expense to delete
+     * @return a {@link DeleteCommand}
+     * @throws OrCashBuddyException if the index is missing or invalid
+     */
+    private Command parseDeleteCommand(String arguments) throws OrCashBuddyException {
+        int index = InputValidator.validateIndex(arguments, "delete");
+        return new DeleteCommand(index);
+    }
+
+    //@@author muadzyamani
+    /**
+     * Parses the {@code mark} command and creates a {@link MarkCommand}.
+     *
+     * @param arguments the 1-based index of the expense to mark
+     * @return a {@link MarkCommand}
+     * @throws OrCashBuddyException if the index is missing or invalid
+     */
+    private Command parseMarkCommand(String arguments) throws OrCashBuddyException {
+        int index = InputValidator.validateIndex(arguments, "mark");
+        return new MarkCommand(index);
+    }
+
+    /**
+     * Parses the {@code unmark} command and creates an {@link UnmarkCommand}.
+     *
+     * @param arguments the 1-based index of the expense to unmark
+     * @return an {@link UnmarkCommand}
+     * @throws OrCashBuddyException if the index is missing or invalid
+     */
+    private Command parseUnmarkCommand(String arguments) throws OrCashBuddyException {
+        int index = InputValidator.validateIndex(arguments, "unmark");
+        return new UnmarkCommand(index);
+    }
+
+    /**
+     * Parses the {@code find} command and creates a {@link FindCommand}.
+     * The search is a query of {@code cat/}, {@code desc/}, {@code a/} and {@code status/} terms,
+     * optionally combined with {@code AND}, {@code OR}, {@code NOT} and brackets.
+     * Starting the query with {@code explain} shows how it would be evaluated instead.
+     *
+     * @param arguments the argument string after {@code find}
+     * @return a {@link FindCommand} for the parsed query
+     * @throws OrCashBuddyException if no search criteria are provided or the query is malformed
+     */
+    private Command parseFindCommand(String arguments) throws OrCashBuddyException {
+        String query = arguments.trim();
+        boolean isExplain = query.equals(EXPLAIN_KEYWORD) || query.startsWith(EXPLAIN_KEYWORD + " ");
+        if (isExplain) {
+            query = query.substring(EXPLAIN_KEYWORD.length());
+        }
+
+        ExpenseQuery parsedQuery = new QueryParser(query).parse();
+        if (!isExplain && parsedQuery instanceof CategoryQuery categoryQuery) {
+            return new FindCommand(SearchType.CATEGORY, categoryQuery.getTerm());
+        }
+        if (!isExplain && parsedQuery instanceof DescriptionQuery descriptionQuery) {
+            return new FindCommand(SearchType.DESCRIPTION, descriptionQuery.getTerm());
+        }
+        return new FindCommand(parsedQuery, isExplain);
+    }
+
+    //@@author gumingyoujia
+    /**
+     * Parses the {@code edit} command and creates an {@link EditCommand}.
+     * Supports partial edits of amount, description, and/or category.
+     *
+     * @param arguments the argument string after {@code edit}
+     * @return an {@link EditCommand} with the target index and updated fields
+     * @throws OrCashBuddyException if the index is invalid or no such expense exists
+     */
+    private Command parseEditCommand(String arguments) throws OrCashBuddyException {
+        ArgumentParser argParser = new ArgumentParser(arguments);
+        String indexString = argParser.getValue(INDEX_PREFIX);
+        int index = InputValidator.validateIndex(indexString, "edit");
+
+        String amountStr = argParser.getOptionalValue(AMOUNT_PREFIX);
+        String descStr = argParser.getOptionalValue(DESCRIPTION_PREFIX);
+        String categoryStr = argParser.getOptionalValue(CATEGORY_PREFIX);
+
+        Double amount = (amountStr==null) ? null : InputValidator.validateAmount(amountStr,"edit");
+        String description = (descStr==null) ? null : InputValidator.validateDescription(descStr, "edit");
+        String category = (categoryStr==null) ? null : InputValidator.validateCategory(categoryStr, "edit");
+
+        return new EditCommand(index, amount, description, category);
+    }
+
+    //@@author saheer17
+    /**
+     * Parses the {@code sort} command and creates a {@link SortCommand}.
+     * With no arguments every expense is sorted by amount, highest first.
+     * {@code top/COUNT} or {@code bottom/COUNT} selects only the largest or smallest expenses, while
+     * {@code by/KEY[,KEY...] [order/asc|desc]} sorts by the given keys (ascending unless stated).
+     *
+     * @param arguments the argument string after {@code sort}
+     * @return a {@link SortCommand}
+     * @throws OrCashBuddyException if the arguments are unrecognised, conflicting, or invalid
+     */
+    private Command parseSortCommand(String arguments) throws OrCashBuddyException {
+        if (arguments == null || arguments.isBlank()) {
+            return new SortCommand();
+        }
+
+        String trimmed = arguments.trim();
+        if (!trimmed.startsWith(TOP_PREFIX) && !trimmed.startsWith(BOTTOM_PREFIX)
+                && !trimmed.startsWith(BY_PREFIX) && !trimmed.startsWith(ORDER_PREFIX)) {
+            throw new OrCashBuddyException("'sort' command only accepts top/, bottom/, by/ or order/ arguments");
+        }
+
+        ArgumentParser argParser = new ArgumentParser(trimmed, TOP_PREFIX, BOTTOM_PREFIX, BY_PREFIX, ORDER_PREFIX);
+        String topStr = argParser.getOptionalValue(TOP_PREFIX);
+        String bottomStr = argParser.getOptionalValue(BOTTOM_PREFIX);
+        String byStr = argParser.getOptionalValue(BY_PREFIX);
+        String orderStr = argParser.getOptionalValue(ORDER_PREFIX);
+
+        boolean isSelection = topStr != null || bottomStr != null;
+        boolean isKeyed = byStr != null || orderStr != null;
+        if ((topStr != null && bottomStr != null) || (isSelection && isKeyed)) {
+            throw new OrCashBuddyException("'sort' command takes only one of top/, bottom/ or by/ with order/");
+        }
+        if (topStr != null) {
+            return new SortCommand(InputValidator.validateCount(topStr, TOP_PREFIX, "sort"), true);
+        }
+        if (bottomStr != null) {
+            return new SortCommand(InputValidator.validateCount(bottomStr, BOTTOM_PREFIX, "sort"), false);
+        }
+
+        List<SortKey> keys = (byStr == null) ? List.of(SortKey.AMOUNT) : parseSortKeys(byStr);
+        boolean ascending = (orderStr == null) || parseSortOrder(orderStr);
+        return new SortCommand(keys, ascending);
+    }
+
+    //@@author
+    /**
+     * Parses a comma-separated list of sort keys, such as {@code amount,category}.
+     *
+     * @param keysStr the raw value after {@code by/}
+     * @return the sort keys, most significant first
+     * @throws OrCashBuddyException if a key is empty, unknown, or repeated
+     */
+    private List<SortKey> parseSortKeys(String keysStr) throws OrCashBuddyException {
+        List<SortKey> keys = new ArrayList<>();
+        for (String keyStr : keysStr.split(",", -1)) {
+            SortKey key;
+            switch (keyStr.trim().toLowerCase()) {
+            case "amount":
+                key = SortKey.AMOUNT;
+                break;
+            case "category":
+                key = SortKey.CATEGORY;
+                break;
+            case "desc":
+            case "description":
+                key = SortKey.DESCRIPTION;
+                break;
+            case "status":
+                key = SortKey.STATUS;
+                break;
+            default:
+                throw new OrCashBuddyException("Unknown sort key for 'sort' command: '" + keyStr.trim()
+                        + "'. Use amount, category, desc or status");
+            }
+            if (keys.contains(key)) {
+                throw new OrCashBuddyException("Sort key '" + keyStr.trim() + "' is repeated for 'sort' command");
+            }
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    /**
+     * Parses the value after {@code order/}.
+     *
+     * @param orderStr the raw value after {@code order/}
+     * @return {@code true} for ascending, {@code false} for descending
+     * @throws OrCashBuddyException if the value is neither {@code asc} nor {@code desc}
+     */
+    private boolean parseSortOrder(String orderStr) throws OrCashBuddyException {
+        switch (orderStr.trim().toLowerCase()) {
+        case "asc":
+            return true;
+        case "desc":
+            return false;
+        default:
+            throw new OrCashBuddyException("Sort order for 'sort' command must be asc or desc, but got: "
+                    + orderStr.trim());
+        }
+    }
+
+    //@@author
+    /**
+     * Parses the {@code undo} command and creates an {@link UndoCommand}.
+     *
+     * @param arguments arguments after {@code undo} (should be empty)
+     * @return an {@link UndoCommand}
+     * @throws OrCashBuddyException if unexpected arguments are provided
+     */
+    private Command parseUndoCommand(String arguments) throws OrCashBuddyException {
+        if (arguments != null && !arguments.isBlank()) {
+            throw new OrCashBuddyException("'undo' command does not take any arguments");
+        }
+        return new UndoCommand();
+    }
+
+    /**
+     * Parses the {@code redo} command and creates a {@link RedoCommand}.
+     *
+     * @param arguments arguments after {@code redo} (should be empty)
+     * @return a {@link RedoCommand}
+     * @throws OrCashBuddyException if unexpected arguments are provided
+     */
+    private Command parseRedoCommand(String arguments) throws OrCashBuddyException {
+        if (arguments != null && !arguments.isBlank()) {
+            throw new OrCashBuddyException("'redo' command does not take any arguments");
+        }
+        return new RedoCommand();
+    }
+
+    /**
+     * Parses the {@code perf} command and creates a {@link PerfCommand}.
+     *
+     * @param arguments arguments after {@code perf} (should be empty)
+     * @return a {@link PerfCommand}
+     * @throws OrCashBuddyException if unexpected arguments are provided
+     */
+    private Command parsePerfCommand(String arguments) throws OrCashBuddyException {
+        if (arguments != null && !arguments.isBlank()) {
+            throw new OrCashBuddyException("'perf' command does not take any arguments");
+        }
+        return new PerfCommand();
+    }
+}
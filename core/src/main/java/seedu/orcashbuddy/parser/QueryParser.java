@@ -0,0 +1,376 @@
+package seedu.orcashbuddy.parser;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.query.AmountQuery;
+import seedu.orcashbuddy.query.AndQuery;
+import seedu.orcashbuddy.query.CategoryQuery;
+import seedu.orcashbuddy.query.DescriptionQuery;
+import seedu.orcashbuddy.query.ExpenseQuery;
+import seedu.orcashbuddy.query.FuzzyDescriptionQuery;
+import seedu.orcashbuddy.query.NotQuery;
+import seedu.orcashbuddy.query.OrQuery;
+import seedu.orcashbuddy.query.StatusQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the search query of a {@code find} command into an {@link ExpenseQuery}.
+ * <p>
+ * Grammar, from lowest to highest precedence:
+ * <pre>
+ *   query   := and ( "OR" and )*
+ *   and     := unary ( ["AND"] unary )*
+ *   unary   := "NOT" unary | "(" query ")" | term
+ *   term    := cat/TEXT | desc/TEXT | fuzzy/[DISTANCE] desc/TEXT | a/AMOUNT_SPEC
+ *            | status/marked | status/unmarked
+ * </pre>
+ * Adjacent terms are combined with AND. Operators must be written in upper case, so
+ * lower-case words such as "and" can still appear in a description.
+ * <p>
+ * A term's text runs until the next operator or term prefix, like the values read by
+ * {@link ArgumentParser}. Parentheses only act as brackets where they can: a {@code (} is
+ * structural only where a term is expected, and a trailing {@code )} only while a bracket is
+ * open, so {@code find desc/lunch (team)} still searches for the literal text.
+ */
+class QueryParser {
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private static final String CATEGORY_PREFIX = "cat/";
+    private static final String DESCRIPTION_PREFIX = "desc/";
+    private static final String AMOUNT_PREFIX = "a/";
+    private static final String STATUS_PREFIX = "status/";
+    private static final String FUZZY_PREFIX = "fuzzy/";
+    private static final String[] TERM_PREFIXES = {
+        CATEGORY_PREFIX, DESCRIPTION_PREFIX, AMOUNT_PREFIX, STATUS_PREFIX, FUZZY_PREFIX
+    };
+
+    private static final String RANGE_SEPARATOR = "..";
+
+    private final List<String> words = new ArrayList<>();
+    /** The whitespace in front of each word, so that a value keeps its spacing. */
+    private final List<String> gaps = new ArrayList<>();
+    private int position;
+    private int openBrackets;
+
+    /**
+     * Constructs a parser for the given query text.
+     *
+     * @param input the text after {@code find} (and after {@code explain}, if present)
+     */
+    QueryParser(String input) {
+        if (input != null) {
+            splitWords(input);
+        }
+    }
+
+    /**
+     * Splits {@code input} into words at whitespace, using the same characters as {@link ArgumentParser}.
+     */
+    private void splitWords(String input) {
+        int gapStart = 0;
+        int position = 0;
+        while (position < input.length()) {
+            while (position < input.length() && ArgumentParser.isWhitespace(input.charAt(position))) {
+                position++;
+            }
+            int wordStart = position;
+            while (position < input.length() && !ArgumentParser.isWhitespace(input.charAt(position))) {
+                position++;
+            }
+            if (position > wordStart) {
+                gaps.add(input.substring(gapStart, wordStart));
+                words.add(input.substring(wordStart, position));
+            }
+            gapStart = position;
+        }
+    }
+
+    /**
+     * Parses the whole input as a single query.
+     *
+     * @return the parsed query
+     * @throws OrCashBuddyException if the input is empty or not a valid query
+     */
+    ExpenseQuery parse() throws OrCashBuddyException {
+        if (words.isEmpty()) {
+            throw new OrCashBuddyException("Missing search criteria for 'find' command");
+        }
+
+        ExpenseQuery query = parseOr();
+        if (position < words.size()) {
+            throw OrCashBuddyException.invalidQuery("unexpected '" + words.get(position) + "'");
+        }
+        return query;
+    }
+
+    private ExpenseQuery parseOr() throws OrCashBuddyException {
+        List<ExpenseQuery> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (position < words.size() && words.get(position).equals(OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    private ExpenseQuery parseAnd() throws OrCashBuddyException {
+        List<ExpenseQuery> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (position < words.size()) {
+            String word = words.get(position);
+            if (word.equals(OR) || (word.equals(CLOSE) && openBrackets > 0)) {
+                break;
+            }
+            if (word.equals(AND)) {
+                position++;
+            }
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    private ExpenseQuery parseUnary() throws OrCashBuddyException {
+        if (position >= words.size()) {
+            throw OrCashBuddyException.invalidQuery("expected a search term at the end of the query");
+        }
+
+        String word = words.get(position);
+        if (word.equals(NOT)) {
+            position++;
+            return new NotQuery(parseUnary());
+        }
+        if (word.startsWith(OPEN)) {
+            consumeOpenBracket(word);
+            ExpenseQuery inner = parseOr();
+            splitClosingBrackets();
+            if (position >= words.size() || !words.get(position).equals(CLOSE)) {
+                throw OrCashBuddyException.invalidQuery("missing ')'");
+            }
+            position++;
+            openBrackets--;
+            return inner;
+        }
+        return parseTerm(word);
+    }
+
+    private void consumeOpenBracket(String word) {
+        openBrackets++;
+        if (word.length() == 1) {
+            position++;
+        } else {
+            words.set(position, word.substring(1));
+        }
+    }
+
+    private ExpenseQuery parseTerm(String word) throws OrCashBuddyException {
+        String prefix = termPrefixOf(word);
+        if (prefix == null) {
+            throw OrCashBuddyException.invalidQuery("unexpected '" + word
+                    + "', search terms start with cat/, desc/, fuzzy/, a/ or status/");
+        }
+        if (prefix.equals(FUZZY_PREFIX)) {
+            return parseFuzzyTerm(word);
+        }
+
+        words.set(position, word.substring(prefix.length()));
+        String value = readValue();
+        if (value.isEmpty()) {
+            throw OrCashBuddyException.invalidQuery("missing search term after '" + prefix + "'");
+        }
+
+        switch (prefix) {
+        case CATEGORY_PREFIX:
+            InputValidator.ensureAscii(value, "Category");
+            return new CategoryQuery(value);
+        case DESCRIPTION_PREFIX:
+            InputValidator.ensureAscii(value, "Description");
+            return new DescriptionQuery(value);
+        case AMOUNT_PREFIX:
+            return parseAmount(value);
+        default:
+            return parseStatus(value);
+        }
+    }
+
+    /**
+     * Parses {@code fuzzy/[DISTANCE]}, which must be followed by the {@code desc/} term it applies to.
+     */
+    private ExpenseQuery parseFuzzyTerm(String word) throws OrCashBuddyException {
+        // The distance is optional, and the desc/ term may follow without a space (fuzzy/desc/cofee)
+        String remainder = word.substring(FUZZY_PREFIX.length());
+        words.set(position, remainder);
+        String distanceText = termPrefixOf(remainder) == null ? readValue() : "";
+
+        Integer maxDistance = null;
+        if (!distanceText.isEmpty()) {
+            boolean isDigit = distanceText.length() == 1 && Character.isDigit(distanceText.charAt(0));
+            maxDistance = isDigit ? Character.digit(distanceText.charAt(0), 10) : -1;
+        }
+        boolean isDistanceValid = maxDistance == null
+                || (maxDistance >= 0 && maxDistance <= FuzzyDescriptionQuery.MAX_DISTANCE);
+        boolean hasDescription = position < words.size() && words.get(position).startsWith(DESCRIPTION_PREFIX);
+        if (!isDistanceValid || !hasDescription) {
+            throw OrCashBuddyException.invalidQuery("expected fuzzy/[DISTANCE] desc/DESCRIPTION, "
+                    + "with DISTANCE from 0 to " + FuzzyDescriptionQuery.MAX_DISTANCE);
+        }
+
+        DescriptionQuery descriptionQuery = (DescriptionQuery) parseTerm(words.get(position));
+        if (FuzzyDescriptionQuery.tokenize(descriptionQuery.getTerm()).isEmpty()) {
+            throw OrCashBuddyException.invalidQuery("fuzzy search needs a description with letters or digits");
+        }
+        return new FuzzyDescriptionQuery(descriptionQuery.getTerm(), maxDistance);
+    }
+
+    /**
+     * Reads the words of a term's value, starting with the remainder of the term word itself,
+     * up to the next operator, term or closing bracket.
+     */
+    private String readValue() {
+        StringBuilder value = new StringBuilder();
+        boolean isFirstWord = true;
+        while (position < words.size()) {
+            splitClosingBrackets();
+            String word = words.get(position);
+            if (!isFirstWord && isStructural(word)) {
+                break;
+            }
+            if (word.equals(CLOSE) && openBrackets > 0) {
+                break;
+            }
+            if (!word.isEmpty()) {
+                if (value.length() > 0) {
+                    value.append(gaps.get(position));
+                }
+                value.append(word);
+            }
+            position++;
+            isFirstWord = false;
+        }
+        return value.toString();
+    }
+
+    /**
+     * While a bracket is open, splits trailing {@code )} characters off the current word
+     * so that they are read as separate closing brackets.
+     */
+    private void splitClosingBrackets() {
+        if (position >= words.size() || openBrackets == 0) {
+            return;
+        }
+
+        String word = words.get(position);
+        int end = word.length();
+        while (end > 0 && word.charAt(end - 1) == ')' && word.length() - end < openBrackets) {
+            end--;
+        }
+        if (end == word.length() || (end == 0 && word.length() == 1)) {
+            return;
+        }
+
+        List<String> split = new ArrayList<>();
+        List<String> splitGaps = new ArrayList<>();
+        if (end > 0) {
+            split.add(word.substring(0, end));
+        }
+        for (int i = end; i < word.length(); i++) {
+            split.add(CLOSE);
+        }
+        splitGaps.add(gaps.get(position));
+        while (splitGaps.size() < split.size()) {
+            splitGaps.add("");
+        }
+        words.remove(position);
+        words.addAll(position, split);
+        gaps.remove(position);
+        gaps.addAll(position, splitGaps);
+    }
+
+    /**
+     * Returns whether {@code word} starts a new part of the query rather than continuing a value.
+     */
+    private boolean isStructural(String word) {
+        if (word.equals(AND) || word.equals(OR) || word.equals(NOT)) {
+            return true;
+        }
+        String unbracketed = word;
+        while (unbracketed.startsWith(OPEN)) {
+            unbracketed = unbracketed.substring(1);
+        }
+        boolean isBracketed = unbracketed.length() < word.length();
+        if (isBracketed && (unbracketed.isEmpty() || unbracketed.equals(NOT))) {
+            return true;
+        }
+        return termPrefixOf(unbracketed) != null;
+    }
+
+    private static String termPrefixOf(String word) {
+        for (String prefix : TERM_PREFIXES) {
+            if (word.startsWith(prefix)) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses an amount condition: {@code 50}, {@code >50}, {@code >=50}, {@code <50},
+     * {@code <=50} or the inclusive range {@code 10..20}.
+     */
+    private static AmountQuery parseAmount(String value) throws OrCashBuddyException {
+        StringBuilder compact = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            if (!ArgumentParser.isWhitespace(value.charAt(i))) {
+                compact.append(value.charAt(i));
+            }
+        }
+        String spec = compact.toString();
+        int rangeAt = spec.indexOf(RANGE_SEPARATOR);
+        if (rangeAt >= 0) {
+            long min = parseCents(spec.substring(0, rangeAt));
+            long max = parseCents(spec.substring(rangeAt + RANGE_SEPARATOR.length()));
+            if (min > max) {
+                throw OrCashBuddyException.invalidQuery("amount range '" + value + "' is empty");
+            }
+            return new AmountQuery(min, max);
+        }
+
+        if (spec.startsWith(">=")) {
+            return new AmountQuery(parseCents(spec.substring(2)), AmountQuery.NO_UPPER_BOUND);
+        }
+        if (spec.startsWith("<=")) {
+            return new AmountQuery(0, parseCents(spec.substring(2)));
+        }
+        if (spec.startsWith(">")) {
+            return new AmountQuery(parseCents(spec.substring(1)) + 1, AmountQuery.NO_UPPER_BOUND);
+        }
+        if (spec.startsWith("<")) {
+            return new AmountQuery(0, parseCents(spec.substring(1)) - 1);
+        }
+        long cents = parseCents(spec);
+        return new AmountQuery(cents, cents);
+    }
+
+    private static long parseCents(String amount) throws OrCashBuddyException {
+        try {
+            return InputValidator.validateAmountCents(amount, "find");
+        } catch (OrCashBuddyException e) {
+            throw OrCashBuddyException.invalidQuery(e.getMessage());
+        }
+    }
+
+    private static StatusQuery parseStatus(String value) throws OrCashBuddyException {
+        switch (value.toLowerCase()) {
+        case "marked":
+            return new StatusQuery(true);
+        case "unmarked":
+            return new StatusQuery(false);
+        default:
+            throw OrCashBuddyException.invalidQuery("status must be 'marked' or 'unmarked'");
+        }
+    }
+}
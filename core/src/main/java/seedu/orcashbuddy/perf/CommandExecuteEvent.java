@@ -0,0 +1,40 @@
+package seedu.orcashbuddy.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for executing one command, up to the result it returns. Rendering that
+ * result is reported separately, as a {@code CommandRenderEvent}.
+ */
+@Name("orcashbuddy.CommandExecute")
+@Label("Command Execute")
+@Category({"orCASHbuddy", "Commands"})
+@Description("Executing one command, whether or not it succeeded")
+public class CommandExecuteEvent extends Event {
+    @Label("Command")
+    @Description("Command word of the executed command")
+    private String command;
+
+    @Label("Expense Count")
+    @Description("Number of expenses once the command finished")
+    private int expenseCount;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    public void setCommand(String command) {
+        this.command = command;
+    }
+
+    public void setExpenseCount(int expenseCount) {
+        this.expenseCount = expenseCount;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
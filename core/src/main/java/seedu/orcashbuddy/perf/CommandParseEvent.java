@@ -0,0 +1,35 @@
+package seedu.orcashbuddy.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for parsing one line of input into a command.
+ * <p>
+ * Like the other events in this package, it is only recorded while Java Flight Recorder is running,
+ * e.g. after starting with {@code -XX:StartFlightRecording}. Otherwise committing it does nothing.
+ */
+@Name("orcashbuddy.CommandParse")
+@Label("Command Parse")
+@Category({"orCASHbuddy", "Commands"})
+@Description("Parsing one line of input into a command")
+public class CommandParseEvent extends Event {
+    @Label("Command")
+    @Description("Command word of the parsed command, or 'invalid' if the input was rejected")
+    private String command;
+
+    @Label("Input Length")
+    @Description("Number of characters in the input line")
+    private int inputLength;
+
+    public void setCommand(String command) {
+        this.command = command;
+    }
+
+    public void setInputLength(int inputLength) {
+        this.inputLength = inputLength;
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.orcashbuddy.perf;
+
+/**
+ * Counts durations in a fixed set of buckets, so that recording one costs a few arithmetic
+ * operations and no allocation, however many are recorded.
+ * <p>
+ * Durations below 8 ns get a bucket each. Every power-of-two range above that is split into
+ * 8 equal buckets, so a percentile read back from the histogram is at most 12.5% above the true one.
+ * The count, total and maximum are kept exactly. A histogram is not thread-safe.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // One group of sub-buckets per power of two from 2^SUB_BUCKET_BITS up to 2^62, plus the exact ones below
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records one duration. Negative durations, which only a misbehaving clock can produce, count as 0.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        counts[bucketOf(duration)]++;
+        count++;
+        totalNanos += duration;
+        maxNanos = Math.max(maxNanos, duration);
+    }
+
+    /**
+     * Returns how many durations have been recorded.
+     *
+     * @return the number of recorded durations
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of every recorded duration.
+     *
+     * @return the total in nanoseconds, or 0 if nothing has been recorded
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the longest recorded duration, exactly rather than rounded to a bucket.
+     *
+     * @return the maximum in nanoseconds, or 0 if nothing has been recorded
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the duration that {@code percentile} percent of the recorded durations do not exceed,
+     * rounded up to the end of its bucket but never above the maximum.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the duration in nanoseconds, or 0 if nothing has been recorded
+     */
+    public long getPercentileNanos(double percentile) {
+        assert percentile >= 0 && percentile <= 100 : "Percentile must be between 0 and 100";
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(bucket), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lowerBound = (SUB_BUCKETS + bucket % SUB_BUCKETS) * width;
+        return lowerBound + width - 1;
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.orcashbuddy.perf;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Times operations with {@link System#nanoTime()} and keeps a {@link LatencyHistogram} per operation.
+ * <p>
+ * A caller brackets each operation with {@link #start()} and {@link #record}. A recorder created with
+ * {@link #disabled()} neither reads the clock nor records anything, so timing can be turned off
+ * without touching the callers. A recorder is not thread-safe.
+ */
+public class PerfRecorder {
+    public static final String PARSE = "parse";
+    public static final String LOAD = "load";
+    public static final String SAVE = "save";
+    public static final String RENDER = "render";
+
+    private static final String COMMAND_SUFFIX = "Command";
+    // Commands are timed under their command word, e.g. "setbudget" for SetBudgetCommand
+    private static final ClassValue<String> COMMAND_LABELS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            String name = type.getSimpleName();
+            if (name.endsWith(COMMAND_SUFFIX) && name.length() > COMMAND_SUFFIX.length()) {
+                name = name.substring(0, name.length() - COMMAND_SUFFIX.length());
+            }
+            return name.toLowerCase(Locale.ROOT);
+        }
+    };
+
+    private final boolean isEnabled;
+    private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+
+    private PerfRecorder(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    /**
+     * Returns a recorder that times every operation.
+     *
+     * @return a new, empty recorder
+     */
+    public static PerfRecorder enabled() {
+        return new PerfRecorder(true);
+    }
+
+    /**
+     * Returns a recorder that ignores every operation.
+     *
+     * @return a new recorder that never records anything
+     */
+    public static PerfRecorder disabled() {
+        return new PerfRecorder(false);
+    }
+
+    /**
+     * Returns whether this recorder collects timings, that is, whether it came from {@link #enabled()}.
+     *
+     * @return {@code true} if operations are recorded, {@code false} if they are ignored
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Returns the start time to pass to {@link #record} once the operation is done.
+     *
+     * @return the current {@link System#nanoTime()}, or 0 if this recorder is disabled
+     */
+    public long start() {
+        return isEnabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time since {@code startNanos} under {@code operation}.
+     *
+     * @param operation the name to report the timing under, such as {@link #PARSE}
+     * @param startNanos the value returned by {@link #start()} when the operation began
+     */
+    public void record(String operation, long startNanos) {
+        if (!isEnabled) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        histograms.computeIfAbsent(operation, key -> new LatencyHistogram()).record(elapsedNanos);
+    }
+
+    /**
+     * Records the time since {@code startNanos} under the command word of {@code commandType},
+     * e.g. {@code add} for {@code AddCommand}.
+     *
+     * @param commandType the class of the command that was executed
+     * @param startNanos the value returned by {@link #start()} when the command began
+     */
+    public void record(Class<?> commandType, long startNanos) {
+        if (!isEnabled) {
+            return;
+        }
+        record(commandWord(commandType), startNanos);
+    }
+
+    /**
+     * Returns the name that commands of type {@code commandType} are timed and recorded under,
+     * which is the class name without its {@code Command} suffix, in lower case.
+     *
+     * @param commandType the class of a command
+     * @return the command word, e.g. {@code setbudget} for {@code SetBudgetCommand}
+     */
+    public static String commandWord(Class<?> commandType) {
+        return COMMAND_LABELS.get(commandType);
+    }
+
+    /**
+     * Returns the histogram of every operation recorded so far, in the order each was first recorded.
+     *
+     * @return a read-only view of the histograms by operation name
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.orcashbuddy.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for loading the expenses from disk at startup.
+ */
+@Name("orcashbuddy.StorageLoad")
+@Label("Storage Load")
+@Category({"orCASHbuddy", "Storage"})
+@Description("Deserializing the ExpenseManager from the data file")
+public class StorageLoadEvent extends Event {
+    @Label("Expense Count")
+    @Description("Number of expenses loaded, 0 if starting fresh")
+    private int expenseCount;
+
+    @Label("Bytes Read")
+    @Description("Size of the data file")
+    @DataAmount
+    private long bytesRead;
+
+    public void setExpenseCount(int expenseCount) {
+        this.expenseCount = expenseCount;
+    }
+
+    public void setBytesRead(long bytesRead) {
+        this.bytesRead = bytesRead;
+    }
+}
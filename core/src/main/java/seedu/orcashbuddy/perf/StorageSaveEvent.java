@@ -0,0 +1,40 @@
+package seedu.orcashbuddy.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for saving the expenses to disk.
+ */
+@Name("orcashbuddy.StorageSave")
+@Label("Storage Save")
+@Category({"orCASHbuddy", "Storage"})
+@Description("Serializing the ExpenseManager to the data file")
+public class StorageSaveEvent extends Event {
+    @Label("Expense Count")
+    private int expenseCount;
+
+    @Label("Bytes Written")
+    @Description("Size of the data file after saving")
+    @DataAmount
+    private long bytesWritten;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    public void setExpenseCount(int expenseCount) {
+        this.expenseCount = expenseCount;
+    }
+
+    public void setBytesWritten(long bytesWritten) {
+        this.bytesWritten = bytesWritten;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.orcashbuddy.perf;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads back a trace written by {@link TraceWriter}.
+ */
+public final class TraceReader {
+
+    private TraceReader() {
+    }
+
+    /**
+     * One recorded line of input.
+     *
+     * @param offsetMillis when the line arrived, in milliseconds since recording started
+     * @param input the line of input
+     */
+    public record Entry(long offsetMillis, String input) {
+    }
+
+    /**
+     * Reads every entry of the trace at {@code path}, in the order they were recorded.
+     * Lines starting with {@code #} are skipped.
+     *
+     * @param path the trace file
+     * @return the recorded entries
+     * @throws IOException if the file cannot be read, or a line is not a time, a tab and the input
+     */
+    public static List<Entry> read(Path path) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.startsWith("#")) {
+                    continue;
+                }
+                entries.add(parseEntry(line, lineNumber));
+            }
+        }
+        return entries;
+    }
+
+    private static Entry parseEntry(String line, int lineNumber) throws IOException {
+        int tab = line.indexOf('\t');
+        long offsetMillis = tab > 0 ? parseOffset(line.substring(0, tab)) : -1;
+        if (offsetMillis < 0) {
+            throw new IOException("Line " + lineNumber + " of the trace is not MILLISECONDS<TAB>INPUT");
+        }
+        return new Entry(offsetMillis, line.substring(tab + 1));
+    }
+
+    /**
+     * Returns the time at the start of a line, or -1 if it is not a whole number of milliseconds.
+     */
+    private static long parseOffset(String value) {
+        try {
+            long offsetMillis = Long.parseLong(value);
+            return offsetMillis >= 0 ? offsetMillis : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.orcashbuddy.perf;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records every line of input a session receives, with the time it arrived, so that the session
+ * can later be replayed with {@code --replay}.
+ * <p>
+ * A trace starts with a comment line beginning with {@code #}. Every other line holds the number of
+ * milliseconds since recording started, a tab, and the input exactly as it was typed. Input cannot
+ * hold a line break, so it is written as is. Every line is flushed as soon as it is written, so a trace
+ * survives the application being killed.
+ */
+public class TraceWriter implements Closeable {
+    static final String HEADER = "# orCASHbuddy trace: MILLISECONDS<TAB>INPUT";
+
+    private static final Logger LOGGER = Logger.getLogger(TraceWriter.class.getName());
+
+    private final BufferedWriter writer;
+    private final long startNanos;
+
+    private TraceWriter(BufferedWriter writer) {
+        this.writer = writer;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a trace at {@code path}, replacing any file already there.
+     *
+     * @param path the file to record to
+     * @return a writer for the file
+     * @throws IOException if the file cannot be created
+     */
+    public static TraceWriter open(Path path) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        try {
+            writer.write(HEADER);
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            writer.close();
+            throw e;
+        }
+        return new TraceWriter(writer);
+    }
+
+    /**
+     * Appends {@code input} with the time since recording started. A failed write is logged rather
+     * than thrown, so that a full disk never stops the session being recorded.
+     *
+     * @param input the line of input, without its line break
+     */
+    public void record(String input) {
+        long offsetMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        try {
+            writer.write(Long.toString(offsetMillis));
+            writer.write('\t');
+            writer.write(input);
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to append to the trace", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.orcashbuddy.query;
+
+import seedu.orcashbuddy.expense.Expense;
+
+/**
+ * Matches expenses whose amount lies in an inclusive range.
+ * <p>
+ * Bounds are kept in whole cents, since amounts are stored with at most two decimal places.
+ * This turns strict comparisons into inclusive ones: {@code a/>50} is the range
+ * {@code [50.01, max]}.
+ */
+public final class AmountQuery implements ExpenseQuery {
+    /** Upper bound used when the range is open-ended. */
+    public static final long NO_UPPER_BOUND = Long.MAX_VALUE;
+
+    private final long minCents;
+    private final long maxCents;
+
+    /**
+     * Constructs an {@code AmountQuery} for the inclusive range {@code [minCents, maxCents]}.
+     *
+     * @param minCents the smallest matching amount, in cents
+     * @param maxCents the largest matching amount, in cents, or {@link #NO_UPPER_BOUND}
+     */
+    public AmountQuery(long minCents, long maxCents) {
+        assert minCents >= 0 && minCents <= maxCents : "Amount range must not be empty";
+        this.minCents = minCents;
+        this.maxCents = maxCents;
+    }
+
+    /**
+     * Converts an amount in dollars to whole cents.
+     *
+     * @param amount the amount in dollars
+     * @return the amount rounded to the nearest cent
+     */
+    public static long toCents(double amount) {
+        return Math.round(amount * 100.0);
+    }
+
+    /**
+     * Returns the smallest amount this query matches.
+     *
+     * @return the lower bound, in cents
+     */
+    public long getMinCents() {
+        return minCents;
+    }
+
+    /**
+     * Returns the largest amount this query matches.
+     *
+     * @return the upper bound, in cents, or {@link #NO_UPPER_BOUND} if the range is open-ended
+     */
+    public long getMaxCents() {
+        return maxCents;
+    }
+
+    @Override
+    public boolean matches(Expense expense) {
+        long cents = toCents(expense.getAmount());
+        return cents >= minCents && cents <= maxCents;
+    }
+
+    @Override
+    public String describe() {
+        if (minCents == maxCents) {
+            return "a/" + formatCents(minCents);
+        }
+        if (maxCents == NO_UPPER_BOUND) {
+            return "a/>=" + formatCents(minCents);
+        }
+        if (minCents == 0) {
+            return "a/<=" + formatCents(maxCents);
+        }
+        return "a/" + formatCents(minCents) + ".." + formatCents(maxCents);
+    }
+
+    private static String formatCents(long cents) {
+        return String.format("%d.%02d", cents / 100, cents % 100);
+    }
+}
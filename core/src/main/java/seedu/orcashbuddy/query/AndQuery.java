@@ -0,0 +1,41 @@
+package seedu.orcashbuddy.query;
+
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.List;
+
+/**
+ * Matches expenses that satisfy every one of its operands.
+ */
+public final class AndQuery implements ExpenseQuery {
+    private final List<ExpenseQuery> operands;
+
+    /**
+     * Constructs an {@code AndQuery}.
+     *
+     * @param operands the queries that must all match (at least two)
+     */
+    public AndQuery(List<ExpenseQuery> operands) {
+        assert operands.size() >= 2 : "AND needs at least two operands";
+        this.operands = List.copyOf(operands);
+    }
+
+    public List<ExpenseQuery> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean matches(Expense expense) {
+        for (ExpenseQuery operand : operands) {
+            if (!operand.matches(expense)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String describe() {
+        return OrQuery.join(operands, " AND ");
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.orcashbuddy.query;
+
+import seedu.orcashbuddy.expense.Expense;
+
+/**
+ * Matches expenses whose category contains a search term, ignoring case.
+ */
+public final class CategoryQuery implements ExpenseQuery {
+    private final String term;
+    private final String lowerCaseTerm;
+
+    /**
+     * Constructs a {@code CategoryQuery}.
+     *
+     * @param term the category substring to match (must not be blank)
+     */
+    public CategoryQuery(String term) {
+        assert term != null && !term.isBlank() : "Search term must not be blank";
+        this.term = term.trim();
+        this.lowerCaseTerm = this.term.toLowerCase();
+    }
+
+    /**
+     * Returns the search term as entered by the user.
+     *
+     * @return the search term
+     */
+    public String getTerm() {
+        return term;
+    }
+
+    /**
+     * Returns the search term in lower case, as compared against categories.
+     *
+     * @return the lower-case search term
+     */
+    public String getLowerCaseTerm() {
+        return lowerCaseTerm;
+    }
+
+    @Override
+    public boolean matches(Expense expense) {
+        return expense.getCategory().toLowerCase().contains(lowerCaseTerm);
+    }
+
+    @Override
+    public String describe() {
+        return "cat/" + term;
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.orcashbuddy.query;
+
+import seedu.orcashbuddy.expense.Expense;
+
+/**
+ * Matches expenses whose description contains a search term, ignoring case.
+ */
+public final class DescriptionQuery implements ExpenseQuery {
+    private final String term;
+    private final String lowerCaseTerm;
+
+    /**
+     * Constructs a {@code DescriptionQuery}.
+     *
+     * @param term the description substring to match (must not be blank)
+     */
+    public DescriptionQuery(String term) {
+        assert term != null && !term.isBlank() : "Search term must not be blank";
+        this.term = term.trim();
+        this.lowerCaseTerm = this.term.toLowerCase();
+    }
+
+    /**
+     * Returns the search term as entered by the user.
+     *
+     * @return the search term
+     */
+    public String getTerm() {
+        return term;
+    }
+
+    @Override
+    public boolean matches(Expense expense) {
+        return expense.getDescription().toLowerCase().contains(lowerCaseTerm);
+    }
+
+    @Override
+    public String describe() {
+        return "desc/" + term;
+    }
+}
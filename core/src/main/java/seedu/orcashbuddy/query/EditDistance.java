@@ -0,0 +1,68 @@
+package seedu.orcashbuddy.query;
+
+/**
+ * Levenshtein edit distance between words, used by fuzzy description search.
+ */
+public final class EditDistance {
+
+    private EditDistance() {
+    }
+
+    /**
+     * Returns the minimum number of single-character insertions, deletions and substitutions
+     * that turn {@code first} into {@code second}.
+     *
+     * @param first one word
+     * @param second the other word
+     * @return the edit distance, at least 0
+     */
+    public static int between(String first, String second) {
+        return bounded(first, second, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns whether {@code first} and {@code second} are at most {@code maxDistance} edits apart.
+     * Stops as soon as every alignment of the prefixes already exceeds the bound.
+     *
+     * @param first one word
+     * @param second the other word
+     * @param maxDistance the largest allowed distance
+     * @return {@code true} if the words are within {@code maxDistance} edits
+     */
+    public static boolean isWithin(String first, String second, int maxDistance) {
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return false;
+        }
+        return bounded(first, second, maxDistance) <= maxDistance;
+    }
+
+    /**
+     * Computes the edit distance row by row, returning early with a value above {@code bound}
+     * once it is certain to exceed it.
+     */
+    private static int bounded(String first, String second, int bound) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            char firstChar = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (firstChar == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > bound) {
+                return rowMinimum;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+}
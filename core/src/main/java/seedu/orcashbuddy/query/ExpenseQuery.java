@@ -0,0 +1,28 @@
+package seedu.orcashbuddy.query;
+
+import seedu.orcashbuddy.expense.Expense;
+
+/**
+ * A search condition over expenses, built by the {@code find} command.
+ * <p>
+ * Queries are immutable trees: leaf terms ({@link CategoryQuery}, {@link DescriptionQuery},
+ * {@link FuzzyDescriptionQuery}, {@link AmountQuery}, {@link StatusQuery}) combined with
+ * {@link AndQuery}, {@link OrQuery} and {@link NotQuery}.
+ */
+public interface ExpenseQuery {
+
+    /**
+     * Returns whether the given expense satisfies this query.
+     *
+     * @param expense the expense to test
+     * @return {@code true} if the expense matches
+     */
+    boolean matches(Expense expense);
+
+    /**
+     * Returns a canonical, user-readable form of this query, e.g. {@code cat/Food AND a/>=50.00}.
+     *
+     * @return the query text
+     */
+    String describe();
+}
@@ -0,0 +1,111 @@
+package seedu.orcashbuddy.query;
+
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Matches expenses whose description contains, for every word of the search text,
+ * a word within a small edit distance of it. This tolerates typos such as "resturant".
+ * <p>
+ * Words are runs of letters and digits, compared in lower case. Unless a distance is given,
+ * it depends on the length of the search word: exact for up to 3 characters, 1 edit for up to 7,
+ * and 2 edits for longer words.
+ */
+public final class FuzzyDescriptionQuery implements ExpenseQuery {
+    /** The largest edit distance a user may ask for. */
+    public static final int MAX_DISTANCE = 3;
+
+    private final String term;
+    private final List<String> words;
+    private final Integer maxDistance; // null to choose by word length
+
+    /**
+     * Constructs a {@code FuzzyDescriptionQuery}.
+     *
+     * @param term the search text, containing at least one letter or digit
+     * @param maxDistance the edit distance allowed for every word, or {@code null} to choose it by word length
+     */
+    public FuzzyDescriptionQuery(String term, Integer maxDistance) {
+        assert maxDistance == null || (maxDistance >= 0 && maxDistance <= MAX_DISTANCE) : "Invalid distance";
+        this.term = term.trim();
+        this.words = tokenize(this.term);
+        this.maxDistance = maxDistance;
+        assert !words.isEmpty() : "Fuzzy search needs at least one word";
+    }
+
+    /**
+     * Splits text into its distinct lower-case words of letters and digits, in order of appearance.
+     *
+     * @param text the text to split
+     * @return the distinct words, possibly empty
+     */
+    public static List<String> tokenize(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return new ArrayList<>(words);
+    }
+
+    /**
+     * Returns the distinct lower-case words of the search text.
+     *
+     * @return the search words
+     */
+    public List<String> getWords() {
+        return words;
+    }
+
+    /**
+     * Returns how many edits a description word may differ from {@code word} by and still match.
+     *
+     * @param word one of the search words
+     * @return the allowed edit distance
+     */
+    public int maxDistanceFor(String word) {
+        if (maxDistance != null) {
+            return maxDistance;
+        }
+        if (word.length() <= 3) {
+            return 0;
+        }
+        return word.length() <= 7 ? 1 : 2;
+    }
+
+    @Override
+    public boolean matches(Expense expense) {
+        List<String> descriptionWords = tokenize(expense.getDescription());
+        for (String word : words) {
+            if (!containsSimilar(descriptionWords, word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean containsSimilar(List<String> descriptionWords, String word) {
+        int distance = maxDistanceFor(word);
+        for (String descriptionWord : descriptionWords) {
+            if (EditDistance.isWithin(word, descriptionWord, distance)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String describe() {
+        return "fuzzy/" + (maxDistance == null ? "" : maxDistance) + " desc/" + term;
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.orcashbuddy.query;
+
+import seedu.orcashbuddy.expense.Expense;
+
+/**
+ * Matches expenses that do not satisfy its operand.
+ */
+public final class NotQuery implements ExpenseQuery {
+    private final ExpenseQuery operand;
+
+    /**
+     * Constructs a {@code NotQuery}.
+     *
+     * @param operand the query to negate
+     */
+    public NotQuery(ExpenseQuery operand) {
+        assert operand != null : "Operand must not be null";
+        this.operand = operand;
+    }
+
+    public ExpenseQuery getOperand() {
+        return operand;
+    }
+
+    @Override
+    public boolean matches(Expense expense) {
+        return !operand.matches(expense);
+    }
+
+    @Override
+    public String describe() {
+        return "NOT " + OrQuery.bracketIfCompound(operand);
+    }
+}
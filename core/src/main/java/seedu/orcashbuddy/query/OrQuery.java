@@ -0,0 +1,58 @@
+package seedu.orcashbuddy.query;
+
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Matches expenses that satisfy at least one of its operands.
+ */
+public final class OrQuery implements ExpenseQuery {
+    private final List<ExpenseQuery> operands;
+
+    /**
+     * Constructs an {@code OrQuery}.
+     *
+     * @param operands the alternatives to match (at least two)
+     */
+    public OrQuery(List<ExpenseQuery> operands) {
+        assert operands.size() >= 2 : "OR needs at least two operands";
+        this.operands = List.copyOf(operands);
+    }
+
+    public List<ExpenseQuery> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean matches(Expense expense) {
+        for (ExpenseQuery operand : operands) {
+            if (operand.matches(expense)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String describe() {
+        return join(operands, " OR ");
+    }
+
+    /**
+     * Joins operand descriptions, bracketing nested AND/OR operands so precedence stays visible.
+     */
+    static String join(List<ExpenseQuery> operands, String operator) {
+        StringJoiner joiner = new StringJoiner(operator);
+        for (ExpenseQuery operand : operands) {
+            joiner.add(bracketIfCompound(operand));
+        }
+        return joiner.toString();
+    }
+
+    static String bracketIfCompound(ExpenseQuery query) {
+        boolean isCompound = query instanceof AndQuery || query instanceof OrQuery;
+        return isCompound ? "(" + query.describe() + ")" : query.describe();
+    }
+}
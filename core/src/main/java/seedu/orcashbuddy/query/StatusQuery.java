@@ -0,0 +1,33 @@
+package seedu.orcashbuddy.query;
+
+import seedu.orcashbuddy.expense.Expense;
+
+/**
+ * Matches expenses that are marked (paid) or unmarked.
+ */
+public final class StatusQuery implements ExpenseQuery {
+    private final boolean marked;
+
+    /**
+     * Constructs a {@code StatusQuery}.
+     *
+     * @param marked {@code true} to match marked expenses, {@code false} for unmarked ones
+     */
+    public StatusQuery(boolean marked) {
+        this.marked = marked;
+    }
+
+    public boolean isMarked() {
+        return marked;
+    }
+
+    @Override
+    public boolean matches(Expense expense) {
+        return expense.isMarked() == marked;
+    }
+
+    @Override
+    public String describe() {
+        return marked ? "status/marked" : "status/unmarked";
+    }
+}
@@ -0,0 +1,240 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.query.AmountQuery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps every expense's amount, in cents, in ascending order alongside its list position.
+ * <p>
+ * Entries are ordered by (cents, position) and stored in blocks of parallel primitive arrays,
+ * like the leaves of a B+-tree with a single level of blocks. An amount range is found by binary
+ * search, first over the blocks and then within one, and the matching positions are sorted back
+ * into list order. Adding an expense only moves entries inside one block, so even a large ledger
+ * stays cheap to append to; renumbering positions after a deletion is a single pass over the blocks.
+ */
+final class AmountIndex implements ExpenseIndex {
+    private static final int MAX_BLOCK_SIZE = 1024;
+
+    private final List<Block> blocks = new ArrayList<>();
+    private int size;
+
+    /**
+     * A sorted run of entries, at most {@link #MAX_BLOCK_SIZE} long.
+     */
+    private static final class Block {
+        private final long[] cents = new long[MAX_BLOCK_SIZE];
+        private final int[] positions = new int[MAX_BLOCK_SIZE];
+        private int size;
+
+        /**
+         * Returns the index of the first entry not less than (amountCents, position).
+         */
+        int lowerBound(long amountCents, int position) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cents[mid] < amountCents || (cents[mid] == amountCents && positions[mid] < position)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        boolean lastIsBefore(long amountCents, int position) {
+            long lastCents = cents[size - 1];
+            return lastCents < amountCents || (lastCents == amountCents && positions[size - 1] < position);
+        }
+    }
+
+    @Override
+    public void rebuild(List<Expense> expenses) {
+        size = expenses.size();
+        int[] sortedPositions = new int[size];
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            sortedPositions[i] = i;
+            keys[i] = centsOf(expenses.get(i));
+        }
+        // The radix sort is stable, so equal amounts stay in position order
+        ExpenseSorter.radixSort(sortedPositions, keys);
+
+        // Leave room in each block so that the next inserts do not split it straight away
+        blocks.clear();
+        Block block = null;
+        for (int position : sortedPositions) {
+            if (block == null || block.size == MAX_BLOCK_SIZE / 2) {
+                block = new Block();
+                blocks.add(block);
+            }
+            block.cents[block.size] = centsOf(expenses.get(position));
+            block.positions[block.size] = position;
+            block.size++;
+        }
+    }
+
+    @Override
+    public void expenseInserted(int position, Expense expense) {
+        if (position < size) {
+            shiftPositions(position, 1);
+        }
+        insertEntry(centsOf(expense), position);
+        size++;
+    }
+
+    @Override
+    public void expenseRemoved(int position, Expense expense) {
+        removeEntry(centsOf(expense), position);
+        shiftPositions(position + 1, -1);
+        size--;
+    }
+
+    @Override
+    public void expenseReplaced(int position, Expense oldExpense, Expense newExpense) {
+        long oldCents = centsOf(oldExpense);
+        long newCents = centsOf(newExpense);
+        if (oldCents != newCents) {
+            removeEntry(oldCents, position);
+            insertEntry(newCents, position);
+        }
+    }
+
+    /**
+     * Returns an index lookup for amounts between {@code minCents} and {@code maxCents} inclusive.
+     */
+    IndexAccess lookup(long minCents, long maxCents) {
+        int startBlock = blockFor(minCents, Integer.MIN_VALUE);
+        int startIndex = indexInBlock(startBlock, minCents);
+        int endRank;
+        if (maxCents == Long.MAX_VALUE) {
+            endRank = size;
+        } else {
+            int endBlock = blockFor(maxCents + 1, Integer.MIN_VALUE);
+            endRank = rank(endBlock, indexInBlock(endBlock, maxCents + 1));
+        }
+        int total = Math.max(0, endRank - rank(startBlock, startIndex));
+        return new IndexAccess() {
+            @Override
+            public int estimate() {
+                return total;
+            }
+
+            @Override
+            public int[] positions() {
+                int[] result = new int[total];
+                int filled = 0;
+                int index = startIndex;
+                for (int b = startBlock; filled < total; b++, index = 0) {
+                    Block block = blocks.get(b);
+                    int length = Math.min(block.size - index, total - filled);
+                    System.arraycopy(block.positions, index, result, filled, length);
+                    filled += length;
+                }
+                Arrays.sort(result);
+                return result;
+            }
+
+            @Override
+            public String describe() {
+                return "amount index range scan for " + new AmountQuery(minCents, maxCents).describe();
+            }
+        };
+    }
+
+    private int indexInBlock(int blockIndex, long amountCents) {
+        return blockIndex < blocks.size() ? blocks.get(blockIndex).lowerBound(amountCents, Integer.MIN_VALUE) : 0;
+    }
+
+    /**
+     * Returns the number of entries before entry {@code index} of block {@code blockIndex}.
+     */
+    private int rank(int blockIndex, int index) {
+        int rank = index;
+        for (int b = 0; b < blockIndex; b++) {
+            rank += blocks.get(b).size;
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the first block whose last entry is not less than (amountCents, position),
+     * or the number of blocks if there is none.
+     */
+    private int blockFor(long amountCents, int position) {
+        int low = 0;
+        int high = blocks.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (blocks.get(mid).lastIsBefore(amountCents, position)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void insertEntry(long amountCents, int position) {
+        if (blocks.isEmpty()) {
+            blocks.add(new Block());
+        }
+        // Past the last block's final entry, the entry is appended to the last block
+        int blockIndex = blocks.get(0).size == 0 ? 0 : Math.min(blockFor(amountCents, position), blocks.size() - 1);
+        Block block = blocks.get(blockIndex);
+        int at = block.lowerBound(amountCents, position);
+        System.arraycopy(block.cents, at, block.cents, at + 1, block.size - at);
+        System.arraycopy(block.positions, at, block.positions, at + 1, block.size - at);
+        block.cents[at] = amountCents;
+        block.positions[at] = position;
+        block.size++;
+
+        if (block.size == MAX_BLOCK_SIZE) {
+            Block upperHalf = new Block();
+            int half = MAX_BLOCK_SIZE / 2;
+            System.arraycopy(block.cents, half, upperHalf.cents, 0, half);
+            System.arraycopy(block.positions, half, upperHalf.positions, 0, half);
+            upperHalf.size = half;
+            block.size = half;
+            blocks.add(blockIndex + 1, upperHalf);
+        }
+    }
+
+    private void removeEntry(long amountCents, int position) {
+        int blockIndex = blockFor(amountCents, position);
+        assert blockIndex < blocks.size() : "Expense amount is not indexed";
+        Block block = blocks.get(blockIndex);
+        int at = block.lowerBound(amountCents, position);
+        assert at < block.size && block.cents[at] == amountCents && block.positions[at] == position
+                : "Expense amount is not indexed";
+        System.arraycopy(block.cents, at + 1, block.cents, at, block.size - at - 1);
+        System.arraycopy(block.positions, at + 1, block.positions, at, block.size - at - 1);
+        block.size--;
+        if (block.size == 0) {
+            blocks.remove(blockIndex);
+        }
+    }
+
+    /**
+     * Adds {@code delta} to every stored position that is at least {@code from}.
+     * This keeps entries with equal amounts ordered by position, since they all shift together.
+     */
+    private void shiftPositions(int from, int delta) {
+        for (Block block : blocks) {
+            for (int i = 0; i < block.size; i++) {
+                if (block.positions[i] >= from) {
+                    block.positions[i] += delta;
+                }
+            }
+        }
+    }
+
+    private static long centsOf(Expense expense) {
+        return AmountQuery.toCents(expense.getAmount());
+    }
+}
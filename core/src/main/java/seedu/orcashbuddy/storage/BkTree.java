@@ -0,0 +1,96 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.query.EditDistance;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree of words under edit distance.
+ * <p>
+ * Each child hangs off its parent under its exact distance from the parent's word. By the triangle
+ * inequality, a search for words within {@code k} of a query at distance {@code d} from a node only
+ * needs the children under distances {@code d - k} to {@code d + k}, so most of the tree is skipped.
+ * Words cannot be removed; callers ignore words they no longer use and rebuild the tree when too many pile up.
+ */
+final class BkTree {
+    private Node root;
+    private int size;
+
+    private static final class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+
+    /**
+     * Returns the number of distinct words in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Adds {@code word} if it is not already in the tree.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size = 1;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = EditDistance.between(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns every word within {@code maxDistance} edits of {@code query}.
+     */
+    List<String> search(String query, int maxDistance) {
+        List<String> found = new ArrayList<>();
+        if (root == null) {
+            return found;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = EditDistance.between(query, node.word);
+            if (distance <= maxDistance) {
+                found.add(node.word);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        return found;
+    }
+}
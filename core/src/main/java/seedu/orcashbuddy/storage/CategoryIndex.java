@@ -0,0 +1,120 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps each distinct category (in lower case) to the positions of the expenses in it.
+ * <p>
+ * A category search term is a substring, so a lookup checks every distinct category,
+ * but there are usually far fewer categories than expenses.
+ */
+final class CategoryIndex implements ExpenseIndex {
+    private final Map<String, PositionList> postings = new HashMap<>();
+    private int size;
+
+    @Override
+    public void rebuild(List<Expense> expenses) {
+        postings.clear();
+        size = 0;
+        for (Expense expense : expenses) {
+            postingFor(expense).add(size++);
+        }
+    }
+
+    @Override
+    public void expenseInserted(int position, Expense expense) {
+        if (position < size) {
+            shiftAll(position, 1);
+        }
+        postingFor(expense).add(position);
+        size++;
+    }
+
+    @Override
+    public void expenseRemoved(int position, Expense expense) {
+        removeFromPosting(position, expense);
+        shiftAll(position + 1, -1);
+        size--;
+    }
+
+    @Override
+    public void expenseReplaced(int position, Expense oldExpense, Expense newExpense) {
+        if (keyOf(oldExpense).equals(keyOf(newExpense))) {
+            return;
+        }
+        removeFromPosting(position, oldExpense);
+        postingFor(newExpense).add(position);
+    }
+
+    /**
+     * Returns an index lookup for categories containing {@code lowerCaseTerm}.
+     */
+    IndexAccess lookup(String lowerCaseTerm) {
+        List<PositionList> matches = new ArrayList<>();
+        int estimate = 0;
+        for (Map.Entry<String, PositionList> entry : postings.entrySet()) {
+            if (entry.getKey().contains(lowerCaseTerm)) {
+                matches.add(entry.getValue());
+                estimate += entry.getValue().size();
+            }
+        }
+
+        int total = estimate;
+        return new IndexAccess() {
+            @Override
+            public int estimate() {
+                return total;
+            }
+
+            @Override
+            public int[] positions() {
+                // Postings of different categories never overlap, so no duplicates are possible
+                int[] result = new int[total];
+                int offset = 0;
+                for (PositionList posting : matches) {
+                    posting.copyInto(result, offset);
+                    offset += posting.size();
+                }
+                if (matches.size() > 1) {
+                    Arrays.sort(result);
+                }
+                return result;
+            }
+
+            @Override
+            public String describe() {
+                return "category index lookup for '" + lowerCaseTerm + "'";
+            }
+        };
+    }
+
+    private PositionList postingFor(Expense expense) {
+        return postings.computeIfAbsent(keyOf(expense), key -> new PositionList());
+    }
+
+    private void removeFromPosting(int position, Expense expense) {
+        String key = keyOf(expense);
+        PositionList posting = postings.get(key);
+        assert posting != null : "Expense category is not indexed";
+        posting.remove(position);
+        if (posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private void shiftAll(int from, int delta) {
+        for (PositionList posting : postings.values()) {
+            posting.shift(from, delta);
+        }
+    }
+
+    private static String keyOf(Expense expense) {
+        return expense.getCategory().toLowerCase();
+    }
+}
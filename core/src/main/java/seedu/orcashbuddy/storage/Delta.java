@@ -0,0 +1,128 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.expense.MoneyFormatter;
+
+/**
+ * A single recorded change to an {@link ExpenseManager}, holding just enough to revert or re-apply it.
+ * <p>
+ * Deltas are undone and redone strictly in reverse order of recording, so each one can assume
+ * the manager is in exactly the state it left it in. Positions are 0-based.
+ */
+interface Delta {
+
+    /**
+     * Reverts this change.
+     */
+    void undo(ExpenseManager expenseManager);
+
+    /**
+     * Re-applies this change after it was undone.
+     */
+    void redo(ExpenseManager expenseManager);
+
+    /**
+     * Returns a short, user-facing description of this change.
+     */
+    String describe();
+
+    /**
+     * An expense appended at {@code position}.
+     */
+    record ExpenseAdded(int position, Expense expense) implements Delta {
+        @Override
+        public void undo(ExpenseManager expenseManager) {
+            expenseManager.removeAt(position);
+        }
+
+        @Override
+        public void redo(ExpenseManager expenseManager) {
+            expenseManager.insertAt(position, expense);
+        }
+
+        @Override
+        public String describe() {
+            return "add " + expense.formatForDisplay();
+        }
+    }
+
+    /**
+     * An expense deleted from {@code position}. Expenses are immutable, so it keeps its paid status.
+     */
+    record ExpenseRemoved(int position, Expense expense) implements Delta {
+        @Override
+        public void undo(ExpenseManager expenseManager) {
+            expenseManager.insertAt(position, expense);
+        }
+
+        @Override
+        public void redo(ExpenseManager expenseManager) {
+            expenseManager.removeAt(position);
+        }
+
+        @Override
+        public String describe() {
+            return "delete " + expense.formatForDisplay();
+        }
+    }
+
+    /**
+     * The expense at {@code position} replaced by an edited one.
+     */
+    record ExpenseEdited(int position, Expense before, Expense after) implements Delta {
+        @Override
+        public void undo(ExpenseManager expenseManager) {
+            expenseManager.setAt(position, before);
+        }
+
+        @Override
+        public void redo(ExpenseManager expenseManager) {
+            expenseManager.setAt(position, after);
+        }
+
+        @Override
+        public String describe() {
+            return "edit " + before.formatForDisplay() + " -> " + after.formatForDisplay();
+        }
+    }
+
+    /**
+     * The expense at {@code position} marked ({@code marked == true}) or unmarked.
+     */
+    record MarkChanged(int position, boolean marked) implements Delta {
+        @Override
+        public void undo(ExpenseManager expenseManager) {
+            expenseManager.setMarkedAt(position, !marked);
+        }
+
+        @Override
+        public void redo(ExpenseManager expenseManager) {
+            expenseManager.setMarkedAt(position, marked);
+        }
+
+        @Override
+        public String describe() {
+            return (marked ? "mark" : "unmark") + " of expense " + (position + 1);
+        }
+    }
+
+    /**
+     * The budget changed from {@code oldBudget} to {@code newBudget}.
+     */
+    record BudgetChanged(double oldBudget, double newBudget) implements Delta {
+        @Override
+        public void undo(ExpenseManager expenseManager) {
+            expenseManager.applyBudget(oldBudget);
+        }
+
+        @Override
+        public void redo(ExpenseManager expenseManager) {
+            expenseManager.applyBudget(newBudget);
+        }
+
+        @Override
+        public String describe() {
+            return "setbudget $" + MoneyFormatter.format(oldBudget) + " -> $" + MoneyFormatter.format(newBudget);
+        }
+    }
+}
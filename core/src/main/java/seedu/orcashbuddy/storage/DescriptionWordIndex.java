@@ -0,0 +1,163 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.query.FuzzyDescriptionQuery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps each distinct description word to the positions of the expenses that use it,
+ * with a {@link BkTree} over the words for fuzzy lookups.
+ * <p>
+ * Words are split as in {@link FuzzyDescriptionQuery#tokenize(String)}. When the last expense
+ * using a word goes away, the word stays in the tree but no longer has positions; the tree is
+ * rebuilt once such unused words outnumber the words in use.
+ */
+final class DescriptionWordIndex implements ExpenseIndex {
+    private static final int MIN_WORDS_BEFORE_COMPACTING = 64;
+
+    private final Map<String, PositionList> postings = new HashMap<>();
+    private final BkTree words = new BkTree();
+    private int size;
+
+    @Override
+    public void rebuild(List<Expense> expenses) {
+        postings.clear();
+        words.clear();
+        size = 0;
+        for (Expense expense : expenses) {
+            addWords(size++, expense);
+        }
+    }
+
+    @Override
+    public void expenseInserted(int position, Expense expense) {
+        if (position < size) {
+            for (PositionList posting : postings.values()) {
+                posting.shift(position, 1);
+            }
+        }
+        addWords(position, expense);
+        size++;
+    }
+
+    @Override
+    public void expenseRemoved(int position, Expense expense) {
+        removeWords(position, expense);
+        for (PositionList posting : postings.values()) {
+            posting.shift(position + 1, -1);
+        }
+        size--;
+        compactIfNeeded();
+    }
+
+    @Override
+    public void expenseReplaced(int position, Expense oldExpense, Expense newExpense) {
+        if (oldExpense.getDescription().equalsIgnoreCase(newExpense.getDescription())) {
+            return;
+        }
+        removeWords(position, oldExpense);
+        addWords(position, newExpense);
+        compactIfNeeded();
+    }
+
+    /**
+     * Returns an index lookup for {@code query}. Every search word must be matched by an expense,
+     * so the lookup only fetches the candidates of the most selective search word.
+     */
+    IndexAccess lookup(FuzzyDescriptionQuery query) {
+        String bestWord = null;
+        List<PositionList> bestPostings = null;
+        int bestEstimate = Integer.MAX_VALUE;
+        int similarWords = 0;
+        for (String word : query.getWords()) {
+            List<PositionList> matches = new ArrayList<>();
+            int estimate = 0;
+            for (String similar : words.search(word, query.maxDistanceFor(word))) {
+                PositionList posting = postings.get(similar);
+                if (posting != null) {
+                    matches.add(posting);
+                    estimate += posting.size();
+                }
+            }
+            if (estimate < bestEstimate) {
+                bestWord = word;
+                bestPostings = matches;
+                bestEstimate = estimate;
+                similarWords = matches.size();
+            }
+        }
+
+        String description = "description word index fuzzy lookup for '" + bestWord + "' ("
+                + similarWords + " similar word(s))";
+        List<PositionList> candidates = bestPostings;
+        int total = bestEstimate;
+        return new IndexAccess() {
+            @Override
+            public int estimate() {
+                // An upper bound: one description may contain several similar words
+                return total;
+            }
+
+            @Override
+            public int[] positions() {
+                int[] merged = new int[total];
+                int offset = 0;
+                for (PositionList posting : candidates) {
+                    posting.copyInto(merged, offset);
+                    offset += posting.size();
+                }
+                Arrays.sort(merged);
+                int distinct = 0;
+                for (int i = 0; i < merged.length; i++) {
+                    if (i == 0 || merged[i] != merged[i - 1]) {
+                        merged[distinct++] = merged[i];
+                    }
+                }
+                return Arrays.copyOf(merged, distinct);
+            }
+
+            @Override
+            public String describe() {
+                return description;
+            }
+        };
+    }
+
+    private void addWords(int position, Expense expense) {
+        for (String word : FuzzyDescriptionQuery.tokenize(expense.getDescription())) {
+            PositionList posting = postings.get(word);
+            if (posting == null) {
+                posting = new PositionList();
+                postings.put(word, posting);
+                words.add(word);
+            }
+            posting.add(position);
+        }
+    }
+
+    private void removeWords(int position, Expense expense) {
+        for (String word : FuzzyDescriptionQuery.tokenize(expense.getDescription())) {
+            PositionList posting = postings.get(word);
+            assert posting != null : "Description word is not indexed";
+            posting.remove(position);
+            if (posting.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    private void compactIfNeeded() {
+        int unusedWords = words.size() - postings.size();
+        if (words.size() >= MIN_WORDS_BEFORE_COMPACTING && unusedWords > postings.size()) {
+            words.clear();
+            for (String word : postings.keySet()) {
+                words.add(word);
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.query.AmountQuery;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Appends every change made to an {@link ExpenseManager} to a text file, one line per {@link ExpenseEvent},
+ * so that other tools can follow the changes without reading the saved data.
+ * <p>
+ * Each line holds tab-separated fields, starting with the event's version and type:
+ * <pre>
+ *   VERSION  SESSION   START_TIME  EXPENSE_COUNT  BUDGET_CENTS  SPENT_CENTS
+ *   VERSION  ADDED     POSITION  EXPENSE
+ *   VERSION  DELETED   POSITION  EXPENSE
+ *   VERSION  REPLACED  POSITION  OLD_EXPENSE  NEW_EXPENSE
+ *   VERSION  MARKED    POSITION
+ *   VERSION  UNMARKED  POSITION
+ *   VERSION  BUDGET_SET  OLD_BUDGET_CENTS  NEW_BUDGET_CENTS
+ * </pre>
+ * where an {@code EXPENSE} is the four fields {@code AMOUNT_CENTS}, {@code MARKED} (1 or 0),
+ * {@code CATEGORY} and {@code DESCRIPTION}. Positions are 0-based. A backslash, tab, carriage return
+ * or line feed inside a text field is written as {@code \\}, {@code \t}, {@code \r} or {@code \n}.
+ * Versions start again from 0 each time the application starts, so every session begins with a
+ * {@code SESSION} line, written when the file is opened. It holds the version the manager was at, the
+ * start time in ISO-8601 form, and the number of expenses, budget and total spent at that moment, and
+ * the versions of the lines after it belong to that session. Every line is flushed as soon as it is
+ * written.
+ */
+public class EventLogWriter implements ExpenseListener, Closeable {
+    private static final Logger LOGGER = Logger.getLogger(EventLogWriter.class.getName());
+
+    private final BufferedWriter writer;
+
+    private EventLogWriter(BufferedWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Opens {@code path} for appending, creating it if it does not exist yet, and starts a new session
+     * in it from {@code snapshot}. The writer should be registered with the manager that
+     * {@code snapshot} came from before any further change is made.
+     *
+     * @param path the file to append events to
+     * @param snapshot the current state of the manager whose changes will be appended
+     * @return a writer for the file
+     * @throws IOException if the file cannot be opened or the session line cannot be written
+     */
+    public static EventLogWriter open(Path path, ExpenseSnapshot snapshot) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        try {
+            writer.write(formatSession(snapshot, Instant.now()));
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            writer.close();
+            throw e;
+        }
+        return new EventLogWriter(writer);
+    }
+
+    /**
+     * Appends {@code event} to the file. A failed write is logged rather than thrown,
+     * since the change it describes has already been made. Synchronized because marks of
+     * different expenses may be reported at the same time.
+     *
+     * @param event the change to record
+     */
+    @Override
+    public synchronized void onEvent(ExpenseEvent event) {
+        try {
+            writer.write(format(event));
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to append to the event log", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Returns the line that starts a session at {@code startTime} from {@code snapshot}, without the line break.
+     */
+    static String formatSession(ExpenseSnapshot snapshot, Instant startTime) {
+        BudgetData budgetData = snapshot.getBudgetData();
+        return snapshot.getVersion() + "\tSESSION\t" + startTime
+                + '\t' + snapshot.getSize()
+                + '\t' + AmountQuery.toCents(budgetData.budget())
+                + '\t' + AmountQuery.toCents(budgetData.totalExpenses());
+    }
+
+    /**
+     * Returns the line for {@code event}, without the line break.
+     */
+    static String format(ExpenseEvent event) {
+        StringBuilder line = new StringBuilder().append(event.version());
+        if (event instanceof ExpenseEvent.ExpenseAdded added) {
+            appendField(line, "ADDED").append('\t').append(added.position());
+            appendExpense(line, added.expense());
+        } else if (event instanceof ExpenseEvent.ExpenseDeleted deleted) {
+            appendField(line, "DELETED").append('\t').append(deleted.position());
+            appendExpense(line, deleted.expense());
+        } else if (event instanceof ExpenseEvent.ExpenseReplaced replaced) {
+            appendField(line, "REPLACED").append('\t').append(replaced.position());
+            appendExpense(line, replaced.oldExpense());
+            appendExpense(line, replaced.newExpense());
+        } else if (event instanceof ExpenseEvent.ExpenseMarked marked) {
+            appendField(line, "MARKED").append('\t').append(marked.position());
+        } else if (event instanceof ExpenseEvent.ExpenseUnmarked unmarked) {
+            appendField(line, "UNMARKED").append('\t').append(unmarked.position());
+        } else {
+            // ExpenseEvent is sealed, so a budget change is the only event left
+            ExpenseEvent.BudgetSet budgetSet = (ExpenseEvent.BudgetSet) event;
+            appendField(line, "BUDGET_SET")
+                    .append('\t').append(AmountQuery.toCents(budgetSet.oldBudget()))
+                    .append('\t').append(AmountQuery.toCents(budgetSet.newBudget()));
+        }
+        return line.toString();
+    }
+
+    private static void appendExpense(StringBuilder line, Expense expense) {
+        line.append('\t').append(AmountQuery.toCents(expense.getAmount()))
+                .append('\t').append(expense.isMarked() ? 1 : 0);
+        appendField(line, expense.getCategory());
+        appendField(line, expense.getDescription());
+    }
+
+    private static StringBuilder appendField(StringBuilder line, String text) {
+        line.append('\t');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+                line.append("\\\\");
+                break;
+            case '\t':
+                line.append("\\t");
+                break;
+            case '\n':
+                line.append("\\n");
+                break;
+            case '\r':
+                line.append("\\r");
+                break;
+            default:
+                line.append(c);
+            }
+        }
+        return line;
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+
+/**
+ * A change made to an {@link ExpenseManager}, as delivered to its {@link ExpenseListener}s.
+ * <p>
+ * Every change is reported as exactly one event, including the changes made by {@code undo} and
+ * {@code redo}. An event is delivered once the {@link ExpenseSnapshot} it produced has been published,
+ * and carries that snapshot's version, so consecutive events have consecutive versions. Marks of
+ * different expenses may be reported at the same time from different threads, so their events can
+ * reach a listener out of version order. Positions are 0-based.
+ * <p>
+ * The interface is sealed, so a listener that handles every record below handles every change.
+ */
+public sealed interface ExpenseEvent permits ExpenseEvent.ExpenseAdded, ExpenseEvent.ExpenseDeleted,
+        ExpenseEvent.ExpenseReplaced, ExpenseEvent.ExpenseMarked, ExpenseEvent.ExpenseUnmarked,
+        ExpenseEvent.BudgetSet {
+
+    /**
+     * Returns the version of the snapshot that this change produced.
+     */
+    long version();
+
+    /**
+     * {@code expense} inserted at {@code position}, shifting later expenses up by one.
+     */
+    record ExpenseAdded(long version, int position, Expense expense) implements ExpenseEvent {
+    }
+
+    /**
+     * {@code expense} removed from {@code position}, shifting later expenses down by one.
+     */
+    record ExpenseDeleted(long version, int position, Expense expense) implements ExpenseEvent {
+    }
+
+    /**
+     * The expense at {@code position} replaced in place, for example by an {@code edit}.
+     */
+    record ExpenseReplaced(long version, int position, Expense oldExpense, Expense newExpense)
+            implements ExpenseEvent {
+    }
+
+    /**
+     * The expense at {@code position} marked as paid. {@code expense} is the marked copy now stored there.
+     */
+    record ExpenseMarked(long version, int position, Expense expense) implements ExpenseEvent {
+    }
+
+    /**
+     * The expense at {@code position} unmarked. {@code expense} is the unmarked copy now stored there.
+     */
+    record ExpenseUnmarked(long version, int position, Expense expense) implements ExpenseEvent {
+    }
+
+    /**
+     * The budget changed from {@code oldBudget} to {@code newBudget}.
+     */
+    record BudgetSet(long version, double oldBudget, double newBudget) implements ExpenseEvent {
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.List;
+
+/**
+ * A secondary index over the expense list. The {@link ExpenseManager} applies each of its events
+ * to the index before publishing the snapshot the change produced, and rebuilds the index if
+ * applying it fails.
+ * <p>
+ * Positions are 0-based list positions. Inserting or removing an expense shifts the positions of
+ * every expense after it, so implementations must renumber their entries accordingly.
+ */
+interface ExpenseIndex extends ExpenseListener {
+
+    /**
+     * Discards all entries and indexes {@code expenses} from scratch.
+     */
+    void rebuild(List<Expense> expenses);
+
+    /**
+     * Records that {@code expense} was inserted at {@code position}.
+     */
+    void expenseInserted(int position, Expense expense);
+
+    /**
+     * Records that {@code expense} was removed from {@code position}.
+     */
+    void expenseRemoved(int position, Expense expense);
+
+    /**
+     * Records that the expense at {@code position} was replaced in place.
+     */
+    default void expenseReplaced(int position, Expense oldExpense, Expense newExpense) {
+        expenseRemoved(position, oldExpense);
+        expenseInserted(position, newExpense);
+    }
+
+    /**
+     * Applies a change to the expense list. Marks and budget changes do not affect the indexes.
+     */
+    @Override
+    default void onEvent(ExpenseEvent event) {
+        if (event instanceof ExpenseEvent.ExpenseAdded added) {
+            expenseInserted(added.position(), added.expense());
+        } else if (event instanceof ExpenseEvent.ExpenseDeleted deleted) {
+            expenseRemoved(deleted.position(), deleted.expense());
+        } else if (event instanceof ExpenseEvent.ExpenseReplaced replaced) {
+            expenseReplaced(replaced.position(), replaced.oldExpense(), replaced.newExpense());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.orcashbuddy.storage;
+
+/**
+ * Receives every change made to an {@link ExpenseManager} it is registered with.
+ * <p>
+ * Events are delivered on the thread that made the change, before the change returns. Changes to
+ * the list and budget are delivered one at a time, in the order they were made, while the manager
+ * holds its write lock. Marks and unmarks only hold the read lock, so those of different expenses
+ * may be delivered at the same time from different threads, possibly out of version order, and a
+ * listener that handles them must be thread-safe. Listeners should be quick, and must not change
+ * the manager themselves.
+ */
+@FunctionalInterface
+public interface ExpenseListener {
+
+    /**
+     * Handles a single change.
+     *
+     * @param event the change that was just made
+     */
+    void onEvent(ExpenseEvent event);
+}
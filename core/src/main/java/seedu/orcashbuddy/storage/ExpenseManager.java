@@ -0,0 +1,950 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.perf.PerfRecorder;
+import seedu.orcashbuddy.query.AmountQuery;
+import seedu.orcashbuddy.query.CategoryQuery;
+import seedu.orcashbuddy.query.DescriptionQuery;
+import seedu.orcashbuddy.query.ExpenseQuery;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Central data model for orCASHbuddy.
+ *
+ * <p>This class stores:
+ * <ul>
+ *   <li>All recorded {@link Expense} objects</li>
+ *   <li>The user's current budget</li>
+ *   <li>The running total of money spent (based on marked expenses)</li>
+ *   <li>The remaining balance</li>
+ * </ul>
+ *
+ * <p>Key invariants, which hold in every {@link ExpenseSnapshot}:
+ * <ul>
+ *   <li>The marked total is the sum of amounts, in cents, of all <b>marked</b> expenses.</li>
+ *   <li>The remaining balance is always {@code budget} minus that total.</li>
+ *   <li>All user-facing indexes are 1-based (the first expense is index 1).</li>
+ * </ul>
+ *
+ * <p>Responsibilities:
+ * <ul>
+ *   <li>Adding, deleting, and replacing expenses</li>
+ *   <li>Marking / unmarking expenses as "paid"</li>
+ *   <li>Maintaining budget totals when expenses are marked/unmarked/deleted</li>
+ *   <li>Undoing and redoing changes</li>
+ *   <li>Sorting and searching expenses</li>
+ *   <li>Exposing budget status for UI alerts</li>
+ * </ul>
+ *
+ * <p>Every change is reported to the registered {@link ExpenseListener}s as one {@link ExpenseEvent}.
+ * Searches are planned by a {@link QueryPlanner} against secondary indexes. Every change to the list
+ * is applied to the indexes before the new snapshot is published, and an index that fails to apply it
+ * is rebuilt from that snapshot, so a search never reads a stale index. A failing listener, by contrast,
+ * is only logged and skipped. The indexes are derived state: they are not serialized, and are rebuilt
+ * when a saved {@code ExpenseManager} is loaded. Listeners are not saved either, so they must be
+ * registered again after loading.
+ *
+ * <p>Thread safety: every method may be called from any thread. The state is held in an immutable
+ * {@link ExpenseSnapshot}, and every change, marks included, publishes the next one. Reads pin the
+ * current snapshot and never lock, so a long listing, sort or save neither waits for changes nor holds
+ * them up, and sees no change made after it started. Versions that no reader holds any more are
+ * reclaimed by the garbage collector. The indexes only describe the latest snapshot, so a search reads
+ * them under an optimistic stamp and scans its pinned snapshot instead if a change overlapped it.
+ *
+ * <p>Additions, deletions, edits, budget changes, undos and redos take the write lock of a
+ * {@link StampedLock}, so they are applied one at a time. Marks and unmarks only change one expense and
+ * the marked total, which never moves any other expense, so they take the shared read lock and publish
+ * their snapshot with a compare-and-set, retrying if another mark published first. Marks on different
+ * expenses therefore never wait for each other's locks. Marks on the same expense are ordered by one of
+ * a fixed set of monitors chosen by its position, so they reach the undo log in the order they were made.
+ */
+public class ExpenseManager implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private static final Logger LOGGER = Logger.getLogger(ExpenseManager.class.getName());
+
+    /** The saved form, which is the same as before snapshots were introduced. */
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("expenses", List.class),
+        new ObjectStreamField("budget", double.class)
+    };
+
+    private static final VarHandle CURRENT;
+    // Enough that two marks of different expenses rarely share a monitor
+    private static final int MARK_STRIPE_COUNT = 64;
+
+    static {
+        try {
+            CURRENT = MethodHandles.lookup().findVarHandle(ExpenseManager.class, "current", ExpenseSnapshot.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // ========== State ==========
+    private transient volatile ExpenseSnapshot current;
+
+    // ========== Derived State ==========
+    private transient CategoryIndex categoryIndex;
+    private transient AmountIndex amountIndex;
+    private transient DescriptionWordIndex descriptionWordIndex;
+    private transient List<ExpenseIndex> indexes;
+    private transient List<ExpenseListener> listeners;
+    private transient QueryPlanner queryPlanner;
+    private transient UndoLog undoLog;
+    private transient StampedLock lock;
+    private transient Object[] markStripes;
+    private transient volatile PerfRecorder perfRecorder;
+
+    /**
+     * Constructs a new, empty ExpenseManager with no expenses
+     * and a budget of 0.
+     */
+    public ExpenseManager() {
+        initState(new ArrayList<>(), 0.0);
+    }
+
+    //@@author
+    /**
+     * Restores the saved expense list and budget, then rebuilds the snapshot, the running total
+     * and the transient indexes from them. Totals stored by older versions are ignored and recounted.
+     * The undo history belongs to a session, so a loaded manager starts with an empty one.
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        if (!(fields.get("expenses", null) instanceof List<?> savedExpenses)) {
+            throw new InvalidObjectException("Saved data has no expense list");
+        }
+
+        List<Expense> expenses = new ArrayList<>(savedExpenses.size());
+        for (Object saved : savedExpenses) {
+            if (!(saved instanceof Expense expense)) {
+                throw new InvalidObjectException("Saved expense list holds " + saved);
+            }
+            expenses.add(expense);
+        }
+        initState(expenses, fields.get("budget", 0.0));
+    }
+
+    /**
+     * Writes the current snapshot. It cannot change while being written, not even by a mark, so a save
+     * running on another thread always captures a consistent state without holding up changes.
+     */
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ExpenseSnapshot snapshot = current;
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("expenses", new ArrayList<>(snapshot.getExpenses()));
+        fields.put("budget", snapshot.getBudget());
+        out.writeFields();
+    }
+
+    private void initState(List<Expense> expenses, double budget) {
+        long markedCents = 0;
+        for (Expense expense : expenses) {
+            markedCents += markedCentsOf(expense);
+        }
+        current = new ExpenseSnapshot(0, PersistentList.of(expenses), budget, markedCents);
+        undoLog = new UndoLog(UndoLog.DEFAULT_CAPACITY);
+        lock = new StampedLock();
+        markStripes = new Object[MARK_STRIPE_COUNT];
+        for (int i = 0; i < markStripes.length; i++) {
+            markStripes[i] = new Object();
+        }
+
+        categoryIndex = new CategoryIndex();
+        amountIndex = new AmountIndex();
+        descriptionWordIndex = new DescriptionWordIndex();
+        indexes = List.of(categoryIndex, amountIndex, descriptionWordIndex);
+        for (ExpenseIndex index : indexes) {
+            index.rebuild(expenses);
+        }
+        queryPlanner = new QueryPlanner(categoryIndex, amountIndex, descriptionWordIndex);
+        listeners = new CopyOnWriteArrayList<>();
+        perfRecorder = PerfRecorder.disabled();
+    }
+
+    /**
+     * Registers {@code listener} to receive every later change, after the listeners registered before it.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(ExpenseListener listener) {
+        assert listener != null : "Listener must not be null";
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops delivering changes to {@code listener}. Does nothing if it is not registered.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(ExpenseListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the recorder the application times its operations with, which {@code perf} reports.
+     * It is disabled unless the application set one with {@link #setPerfRecorder(PerfRecorder)}.
+     *
+     * @return the recorder
+     */
+    public PerfRecorder getPerfRecorder() {
+        return perfRecorder;
+    }
+
+    /**
+     * Sets the recorder that {@code perf} reports. It belongs to the session, so it is not saved.
+     *
+     * @param perfRecorder the recorder the application times its operations with
+     */
+    public void setPerfRecorder(PerfRecorder perfRecorder) {
+        assert perfRecorder != null : "Recorder must not be null";
+        this.perfRecorder = perfRecorder;
+    }
+
+    /**
+     * Returns the current version of the expenses and budget.
+     * A snapshot never changes, so it can be read at length, for example by a long listing,
+     * while other commands keep changing this manager.
+     *
+     * @return the current snapshot
+     */
+    public ExpenseSnapshot getSnapshot() {
+        return current;
+    }
+
+    // ========== Getters ==========
+    //@@author gumingyoujia
+    /**
+     * Returns the current budget amount.
+     *
+     * @return the user's budget
+     */
+    public double getBudget() {
+        return current.getBudget();
+    }
+
+    /**
+     * Returns the total money currently counted as "spent".
+     * This is the sum of all expenses that are marked.
+     *
+     * @return total of all marked expenses
+     */
+    public double getTotalExpenses() {
+        return current.getMarkedCents() / 100.0;
+    }
+
+    /**
+     * Returns the remaining balance in the budget.
+     * This is {@code budget - totalExpenses}.
+     *
+     * @return remaining balance (may be negative if overspent)
+     */
+    public double getRemainingBalance() {
+        return getBudgetData().remainingBalance();
+    }
+
+    //@@author aydrienlaw
+    /**
+     * Returns a data transfer object containing budget, total expenses, and remaining balance.
+     * This provides a convenient way to retrieve all budget-related data in a single call.
+     *
+     * @return a {@link BudgetData} object containing current budget information
+     */
+    public BudgetData getBudgetData() {
+        return current.getBudgetData();
+    }
+
+    //@@author
+    /**
+     * Returns the number of expenses currently tracked.
+     *
+     * @return number of expenses
+     */
+    public int getSize() {
+        return current.getSize();
+    }
+
+    //@@author gumingyoujia
+    /**
+     * Returns the full list of expenses.
+     * The returned list is the current snapshot's unmodifiable list, so later changes
+     * to the model do not show up in it.
+     *
+     * @return a snapshot {@link List} of the expenses
+     */
+    public List<Expense> getExpenses() {
+        return current.getExpenses();
+    }
+
+    // ========== Expense Operations ==========
+
+    //@@author limzerui
+    /**
+     * Adds a new expense to the list.
+     *
+     * @param expense the expense to add
+     * @throws IllegalArgumentException if {@code expense} is null
+     */
+    public void addExpense(Expense expense) {
+        validateExpense(expense);
+
+        int size;
+        long stamp = lock.writeLock();
+        try {
+            insertAt(current.getSize(), expense);
+            size = current.getSize();
+            undoLog.record(new Delta.ExpenseAdded(size - 1, expense));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        LOGGER.log(Level.INFO, "Added expense amount={0}, desc={1}, category={2}",
+                new Object[]{expense.getAmount(), expense.getDescription(), expense.getCategory()});
+        LOGGER.fine(() -> "Expense list size is now " + size);
+    }
+
+    //@@author saheer17
+    /**
+     * Deletes the expense at the given position.
+     * <p>If the deleted expense was marked, the budget totals are
+     * adjusted (the amount is subtracted from the running total,
+     * which also raises the remaining balance).</p>
+     *
+     * @param index the 1-based index of the expense to delete
+     * @return the deleted expense
+     * @throws OrCashBuddyException if the index is out of range
+     */
+    public Expense deleteExpense(int index) throws OrCashBuddyException {
+        Expense removedExpense;
+        long stamp = lock.writeLock();
+        try {
+            validateIndex(index, current.getSize());
+
+            // Rebalances the totals if a marked expense was deleted
+            removedExpense = removeAt(index - 1);
+            assert removedExpense != null : "Removed expense should not be null";
+            undoLog.record(new Delta.ExpenseRemoved(index - 1, removedExpense));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        LOGGER.log(Level.INFO, "Deleted expense at index {0}: {1}",
+                    new Object[]{index, removedExpense.getDescription()});
+        return removedExpense;
+    }
+
+    //@@author gumingyoujia
+    /**
+     * Returns the expense at the given position.
+     *
+     * @param index the 1-based index of the target expense (as shown in 'list')
+     * @return the expense at that position
+     * @throws OrCashBuddyException if the index is out of range
+     */
+    public Expense getExpense(int index) throws OrCashBuddyException{
+        LOGGER.log(Level.FINE, "Getting expense at index {0}", index);
+        ExpenseSnapshot snapshot = current;
+        validateIndex(index, snapshot.getSize());
+        return snapshot.getExpenseList().get(index - 1);
+    }
+
+    /**
+     * Replaces the expense at the given position with a new expense.
+     * <p>If the replaced expense was marked, its amount is removed from the budget totals.</p>
+     *
+     * @param index      the 1-based index of the expense to replace
+     * @param newExpense the new expense to insert
+     * @throws OrCashBuddyException if the index is out of range
+     * @throws IllegalArgumentException if {@code newExpense} is null
+     */
+    public void replaceExpense(int index, Expense newExpense) throws OrCashBuddyException {
+        validateExpense(newExpense);
+
+        long stamp = lock.writeLock();
+        try {
+            validateIndex(index, current.getSize());
+
+            LOGGER.log(Level.INFO, "Replacing expense at index {0}", index);
+
+            Expense oldExpense = setAt(index - 1, newExpense);
+            undoLog.record(new Delta.ExpenseEdited(index - 1, oldExpense, newExpense));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    //@@author
+    /**
+     * Replaces the expense at the given position with an edited copy, keeping its paid status.
+     * <p>If the original expense was marked, the stored expense is marked too and the budget
+     * totals move from the old amount to the new one. This is recorded as a single change,
+     * so one {@code undo} restores the original expense.</p>
+     *
+     * @param index the 1-based index of the expense to edit
+     * @param editedExpense the expense with the updated fields
+     * @return the stored expense, which carries over the original's paid status
+     * @throws OrCashBuddyException if the index is out of range
+     * @throws IllegalArgumentException if {@code editedExpense} is null
+     */
+    public Expense editExpense(int index, Expense editedExpense) throws OrCashBuddyException {
+        validateExpense(editedExpense);
+
+        long stamp = lock.writeLock();
+        try {
+            validateIndex(index, current.getSize());
+
+            LOGGER.log(Level.INFO, "Editing expense at index {0}", index);
+
+            boolean wasMarked = current.getExpenseList().get(index - 1).isMarked();
+            Expense storedExpense = editedExpense.withMarked(wasMarked);
+            Expense oldExpense = setAt(index - 1, storedExpense);
+            undoLog.record(new Delta.ExpenseEdited(index - 1, oldExpense, storedExpense));
+            return storedExpense;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    //@@author muadzyamani
+    /**
+     * Marks the specified expense as paid.
+     * <p>
+     * This method updates the expense's marked status to indicate it has been paid.
+     * The expense amount is added to the total expenses and the remaining balance
+     * is recalculated accordingly.
+     * </p>
+     *
+     * @param index the 1-based index of the expense to mark
+     * @return the marked expense
+     * @throws OrCashBuddyException if the index is out of range or if the expense
+     *                              is already marked as paid
+     */
+    public Expense markExpense(int index) throws OrCashBuddyException {
+        long stamp = lock.readLock();
+        try {
+            validateIndex(index, current.getSize());
+
+            // Only marks that share this monitor wait here, so those of one expense are logged in order
+            synchronized (markStripeOf(index - 1)) {
+                if (current.getExpenseList().get(index - 1).isMarked()) {
+                    throw new OrCashBuddyException("This expense is already marked");
+                }
+
+                Expense markedExpense = setMarkedAt(index - 1, true);
+                undoLog.record(new Delta.MarkChanged(index - 1, true));
+                return markedExpense;
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Unmarks the specified expense.
+     * <p>
+     * This method updates the expense's marked status to indicate it has not been paid.
+     * The expense amount is subtracted from the total expenses and the remaining balance
+     * is recalculated accordingly.
+     * </p>
+     *
+     * @param index the 1-based index of the expense to unmark
+     * @return the unmarked expense
+     * @throws OrCashBuddyException if the index is out of range or if the expense
+     *                              is already unmarked
+     */
+    public Expense unmarkExpense(int index) throws OrCashBuddyException {
+        long stamp = lock.readLock();
+        try {
+            validateIndex(index, current.getSize());
+
+            synchronized (markStripeOf(index - 1)) {
+                if (!current.getExpenseList().get(index - 1).isMarked()) {
+                    throw new OrCashBuddyException("This expense is already unmarked");
+                }
+
+                Expense unmarkedExpense = setMarkedAt(index - 1, false);
+                undoLog.record(new Delta.MarkChanged(index - 1, false));
+                return unmarkedExpense;
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // ========== Budget Operations ==========
+
+    //@@author aydrienlaw
+    /**
+     * Sets the user's budget, which also moves the remaining balance.
+     *
+     * @param budget the new budget amount (must be > 0)
+     * @throws AssertionError if {@code budget <= 0}
+     */
+    public void setBudget(double budget) {
+        assert budget > 0.0 : "Budget must be positive";
+
+        long stamp = lock.writeLock();
+        try {
+            undoLog.record(new Delta.BudgetChanged(current.getBudget(), budget));
+            applyBudget(budget);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        LOGGER.log(Level.INFO, "Budget set to {0}", budget);
+    }
+
+    // ========== Undo / Redo ==========
+
+    //@@author
+    /**
+     * Reverts the most recent change that has not been undone yet.
+     *
+     * @return a description of the reverted change
+     * @throws OrCashBuddyException if there is nothing to undo
+     */
+    public String undo() throws OrCashBuddyException {
+        Delta delta;
+        long stamp = lock.writeLock();
+        try {
+            delta = undoLog.popUndo();
+            if (delta == null) {
+                throw OrCashBuddyException.nothingToUndo();
+            }
+            delta.undo(this);
+            undoLog.pushRedo(delta);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        LOGGER.log(Level.INFO, "Undid {0}", delta.describe());
+        return delta.describe();
+    }
+
+    /**
+     * Re-applies the most recently undone change.
+     * Any new change made after an {@code undo} clears the changes that could be redone.
+     *
+     * @return a description of the re-applied change
+     * @throws OrCashBuddyException if there is nothing to redo
+     */
+    public String redo() throws OrCashBuddyException {
+        Delta delta;
+        long stamp = lock.writeLock();
+        try {
+            delta = undoLog.popRedo();
+            if (delta == null) {
+                throw OrCashBuddyException.nothingToRedo();
+            }
+            delta.redo(this);
+            undoLog.pushUndo(delta);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        LOGGER.log(Level.INFO, "Redid {0}", delta.describe());
+        return delta.describe();
+    }
+
+    /**
+     * Inserts {@code expense} at {@code position} without recording the change,
+     * counting its amount in the totals if it is marked.
+     */
+    void insertAt(int position, Expense expense) {
+        assert lock.isWriteLocked() : "Changes must hold the write lock";
+        ExpenseSnapshot snapshot = current;
+        ExpenseSnapshot next = snapshot.withExpenses(snapshot.getExpenseList().insert(position, expense),
+                snapshot.getMarkedCents() + markedCentsOf(expense));
+        publish(next, new ExpenseEvent.ExpenseAdded(next.getVersion(), position, expense));
+    }
+
+    /**
+     * Removes the expense at {@code position} without recording the change,
+     * taking its amount out of the totals if it is marked.
+     */
+    Expense removeAt(int position) {
+        assert lock.isWriteLocked() : "Changes must hold the write lock";
+        ExpenseSnapshot snapshot = current;
+        Expense expense = snapshot.getExpenseList().get(position);
+        ExpenseSnapshot next = snapshot.withExpenses(snapshot.getExpenseList().remove(position),
+                snapshot.getMarkedCents() - markedCentsOf(expense));
+        publish(next, new ExpenseEvent.ExpenseDeleted(next.getVersion(), position, expense));
+        return expense;
+    }
+
+    /**
+     * Puts {@code expense} at {@code position} in place of the current one without recording the change,
+     * moving the totals from the old expense to the new one according to their marks.
+     */
+    Expense setAt(int position, Expense expense) {
+        assert lock.isWriteLocked() : "Changes must hold the write lock";
+        ExpenseSnapshot snapshot = current;
+        Expense oldExpense = snapshot.getExpenseList().get(position);
+        ExpenseSnapshot next = snapshot.withExpenses(snapshot.getExpenseList().set(position, expense),
+                snapshot.getMarkedCents() - markedCentsOf(oldExpense) + markedCentsOf(expense));
+        publish(next, new ExpenseEvent.ExpenseReplaced(next.getVersion(), position, oldExpense, expense));
+        return oldExpense;
+    }
+
+    /**
+     * Marks or unmarks the expense at {@code position} without recording the change, publishing
+     * the next snapshot with a compare-and-set. Under the read lock, another mark may publish first,
+     * and then the change is derived again from that mark's snapshot.
+     *
+     * @return the marked or unmarked copy now stored at {@code position}
+     */
+    Expense setMarkedAt(int position, boolean marked) {
+        assert lock.isWriteLocked() || lock.isReadLocked() : "Marks must hold the read or write lock";
+        assert Thread.holdsLock(markStripeOf(position)) || lock.isWriteLocked()
+                : "Marks under the read lock must hold the expense's monitor";
+        ExpenseSnapshot snapshot;
+        ExpenseSnapshot next;
+        Expense expense;
+        Expense changedExpense;
+        do {
+            snapshot = current;
+            expense = snapshot.getExpenseList().get(position);
+            assert expense.isMarked() != marked : "Expense is already in the requested state";
+            changedExpense = expense.withMarked(marked);
+            long cents = AmountQuery.toCents(expense.getAmount());
+            next = snapshot.withExpenses(snapshot.getExpenseList().set(position, changedExpense),
+                    snapshot.getMarkedCents() + (marked ? cents : -cents));
+        } while (!CURRENT.compareAndSet(this, snapshot, next));
+
+        // Marks never touch the indexes, so only the listeners are told
+        notifyListeners(marked
+                ? new ExpenseEvent.ExpenseMarked(next.getVersion(), position, changedExpense)
+                : new ExpenseEvent.ExpenseUnmarked(next.getVersion(), position, changedExpense));
+        double amount = expense.getAmount();
+        LOGGER.fine(() -> "Updated budget after " + (marked ? "mark: +" : "unmark: -") + amount);
+        return changedExpense;
+    }
+
+    /**
+     * Returns the monitor that orders the marks and unmarks of the expense at {@code position}.
+     */
+    private Object markStripeOf(int position) {
+        return markStripes[position % markStripes.length];
+    }
+
+    /**
+     * Sets the budget without recording the change. Unlike {@link #setBudget(double)},
+     * this accepts the initial budget of 0.
+     */
+    void applyBudget(double budget) {
+        assert lock.isWriteLocked() : "Changes must hold the write lock";
+        assert budget >= 0.0 : "Budget must not be negative";
+        ExpenseSnapshot snapshot = current;
+        ExpenseSnapshot next = snapshot.withBudget(budget);
+        publish(next, new ExpenseEvent.BudgetSet(next.getVersion(), snapshot.getBudget(), budget));
+    }
+
+    /**
+     * Applies {@code event} to the indexes, makes {@code next} the current snapshot, then reports
+     * {@code event} to every listener. An index that fails to apply the event is rebuilt from
+     * {@code next}; if the rebuild fails too, the exception reaches the caller and the change is not
+     * published. A failing listener is logged and skipped, since the change itself has already been made.
+     */
+    private void publish(ExpenseSnapshot next, ExpenseEvent event) {
+        for (ExpenseIndex index : indexes) {
+            try {
+                index.onEvent(event);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Index failed on " + event + ", rebuilding it", e);
+                index.rebuild(next.getExpenses());
+            }
+        }
+        current = next;
+        notifyListeners(event);
+    }
+
+    /**
+     * Reports {@code event} to every listener, logging and skipping any that fails.
+     */
+    private void notifyListeners(ExpenseEvent event) {
+        for (ExpenseListener listener : listeners) {
+            try {
+                listener.onEvent(event);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Listener failed on " + event, e);
+            }
+        }
+    }
+
+    // ========== Display Operations ==========
+
+    //@@author saheer17
+    /**
+     * Returns a new list of all expenses sorted by amount in descending order.
+     * The original list is not mutated.
+     *
+     * @return a new {@link List} of expenses sorted from highest to lowest amount
+     */
+    public List<Expense> sortExpenses() {
+        return sortExpenses(List.of(SortKey.AMOUNT), false);
+    }
+
+    //@@author
+    /**
+     * Returns a new list of all expenses sorted by the given keys.
+     * Earlier keys take precedence, and expenses that tie on every key keep their original order.
+     * The original list is not mutated.
+     *
+     * @param keys      the sort keys, most significant first (must not be empty)
+     * @param ascending {@code true} to sort every key in ascending order, {@code false} for descending
+     * @return a new {@link List} of the sorted expenses
+     */
+    public List<Expense> sortExpenses(List<SortKey> keys, boolean ascending) {
+        LOGGER.log(Level.INFO, "Sorting expenses by {0}, ascending={1}", new Object[]{keys, ascending});
+        // Copied out of the snapshot once, since sorting reads expenses by position many times
+        List<Expense> expenses = new ArrayList<>(current.getExpenses());
+        if (expenses.isEmpty()) {
+            return expenses;
+        }
+
+        int[] positions = ExpenseSorter.sortedPositions(expenses, keys, ascending);
+        List<Expense> sortedExpenses = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            sortedExpenses.add(expenses.get(position));
+        }
+        assert sortedExpenses.size() == expenses.size() : "Sorted expenses size should match original expenses size";
+        return sortedExpenses;
+    }
+
+    //@@author
+    /**
+     * Returns the {@code count} largest or smallest expenses, best first.
+     * <p>
+     * The current snapshot is walked once in list order, keeping each candidate with its position
+     * in a bounded priority queue of at most {@code count} entries, so this runs in O(n log count)
+     * without copying the expense list. Expenses with equal amounts are ranked by their original
+     * position, earliest first, so the result is deterministic.
+     *
+     * @param count   the maximum number of expenses to return (must be at least 1)
+     * @param largest {@code true} for the largest amounts, {@code false} for the smallest
+     * @return a new list of at most {@code count} expenses, ordered from best to worst match
+     */
+    public List<Expense> selectExpenses(int count, boolean largest) {
+        assert count >= 1 : "Count must be at least 1";
+
+        List<Expense> selectedExpenses = selectFromExpenses(current.getExpenses(), count, largest);
+        LOGGER.log(Level.INFO, "Selected {0} {1} expenses",
+                new Object[]{selectedExpenses.size(), largest ? "largest" : "smallest"});
+        return selectedExpenses;
+    }
+
+    private static List<Expense> selectFromExpenses(List<Expense> expenses, int count, boolean largest) {
+        // Orders candidates from "worst" to "best", so the heap head is the first to be evicted
+        Comparator<RankedExpense> byAmount = Comparator.comparingDouble(ranked -> ranked.expense().getAmount());
+        Comparator<RankedExpense> worstFirst = (largest ? byAmount : byAmount.reversed())
+                .thenComparing(Comparator.comparingInt(RankedExpense::position).reversed());
+
+        int limit = Math.min(count, expenses.size());
+        PriorityQueue<RankedExpense> heap = new PriorityQueue<>(Math.max(1, limit), worstFirst);
+        int position = 0;
+        for (Expense expense : expenses) {
+            RankedExpense candidate = new RankedExpense(position++, expense);
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (worstFirst.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        Expense[] selected = new Expense[heap.size()];
+        for (int i = selected.length - 1; i >= 0; i--) {
+            selected[i] = heap.poll().expense();
+        }
+        return Arrays.asList(selected);
+    }
+
+    /**
+     * An expense together with its 0-based position in the list being selected from.
+     */
+    private record RankedExpense(int position, Expense expense) {
+    }
+
+    // ========== Search Operations ==========
+
+    //@@author muadzyamani
+    /**
+     * Finds all expenses whose category contains the given text (case-insensitive).
+     *
+     * @param category the category substring to match
+     * @return all matching expenses
+     * @throws IllegalArgumentException if {@code category} is null or blank
+     */
+    public List<Expense> findExpensesByCategory(String category) {
+        validateSearchTerm(category, "Category");
+
+        List<Expense> foundExpenses = findExpenses(new CategoryQuery(category));
+
+        LOGGER.log(Level.INFO, "Found {0} expenses matching category: {1}",
+                new Object[]{foundExpenses.size(), category});
+
+        return foundExpenses;
+    }
+
+    /**
+     * Finds all expenses whose description contains the given text (case-insensitive).
+     *
+     * @param keyword the search substring
+     * @return all matching expenses
+     * @throws IllegalArgumentException if {@code keyword} is null or blank
+     */
+    public List<Expense> findExpensesByDescription(String keyword) {
+        validateSearchTerm(keyword, "Keyword");
+
+        List<Expense> foundExpenses = findExpenses(new DescriptionQuery(keyword));
+
+        LOGGER.log(Level.INFO, "Found {0} expenses matching description: {1}",
+                new Object[]{foundExpenses.size(), keyword});
+
+        return foundExpenses;
+    }
+
+    //@@author
+    /**
+     * Finds all expenses matching {@code query}, in their original list order.
+     *
+     * @param query the query to evaluate
+     * @return a new list of the matching expenses
+     */
+    public List<Expense> findExpenses(ExpenseQuery query) {
+        assert query != null : "Query must not be null";
+        LOGGER.log(Level.FINE, "Executing query {0}", query.describe());
+        // Planning and execution share one read, so the plan's positions match the list it runs on
+        return readIndexed(
+            snapshot -> queryPlanner.plan(query, snapshot.getSize()).execute(snapshot.getExpenses()),
+            snapshot -> QueryPlanner.fullScan(query, snapshot.getSize()).execute(snapshot.getExpenses()));
+    }
+
+    /**
+     * Returns the plan that {@link #findExpenses(ExpenseQuery)} would use for {@code query},
+     * without evaluating it.
+     *
+     * @param query the query to plan
+     * @return the chosen plan
+     */
+    public QueryPlan planQuery(ExpenseQuery query) {
+        assert query != null : "Query must not be null";
+        return readIndexed(
+            snapshot -> queryPlanner.plan(query, snapshot.getSize()),
+            snapshot -> QueryPlanner.fullScan(query, snapshot.getSize()));
+    }
+
+    // ========== Locking ==========
+
+    /**
+     * Runs {@code indexedRead} on the current snapshot under an optimistic stamp. If a change
+     * overlapped it, the indexes may not have matched the snapshot, so {@code scan} is run on
+     * the same snapshot instead. Neither waits for a change to finish.
+     *
+     * @param indexedRead the read to perform with the help of the indexes
+     * @param scan the same read, performed without the indexes
+     * @return the result of the read, computed from one snapshot
+     */
+    private <T> T readIndexed(Function<ExpenseSnapshot, T> indexedRead, Function<ExpenseSnapshot, T> scan) {
+        long stamp = lock.tryOptimisticRead();
+        ExpenseSnapshot snapshot = current;
+        if (stamp != 0L) {
+            try {
+                T result = indexedRead.apply(snapshot);
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException | AssertionError e) {
+                // A change made during the read can leave the indexes half-updated, so the
+                // failure only counts if no change overlapped it
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        LOGGER.fine("A change overlapped an indexed read, scanning the snapshot instead");
+        return scan.apply(snapshot);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    //@@author
+    private static long markedCentsOf(Expense expense) {
+        return expense.isMarked() ? AmountQuery.toCents(expense.getAmount()) : 0;
+    }
+
+    // ========== Validation Methods ==========
+
+    //@@author aydrienlaw
+    /**
+     * Validates that an expense object is valid.
+     *
+     * @param expense the expense to validate
+     * @throws IllegalArgumentException if expense is invalid
+     */
+    private void validateExpense(Expense expense) {
+        if (expense == null) {
+            throw new IllegalArgumentException("Expense must not be null");
+        }
+        if (expense.getAmount() <= 0.0) {
+            throw new IllegalArgumentException("Expense amount must be positive");
+        }
+        if (expense.getDescription().isBlank()) {
+            throw new IllegalArgumentException("Expense description must not be blank");
+        }
+        if (expense.getCategory().isBlank()) {
+            throw new IllegalArgumentException("Expense category must not be blank");
+        }
+    }
+
+    /**
+     * Validates that an index is within the valid range.
+     *
+     * @param index the 1-based index to validate
+     * @param size the number of expenses the index refers into
+     * @throws OrCashBuddyException if the index is out of range
+     */
+    private void validateIndex(int index, int size) throws OrCashBuddyException {
+        if (size == 0) {
+            throw OrCashBuddyException.emptyExpenseList();
+        }
+        if (index < 1 || index > size) {
+            throw OrCashBuddyException.expenseIndexOutOfRange(index, size);
+        }
+    }
+
+    /**
+     * Validates that a search term is not null or blank.
+     *
+     * @param searchTerm the search term to validate
+     * @param fieldName the name of the field for error messages
+     * @throws IllegalArgumentException if search term is invalid
+     */
+    private void validateSearchTerm(String searchTerm, String fieldName) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            throw new IllegalArgumentException(fieldName + " must not be blank");
+        }
+    }
+}
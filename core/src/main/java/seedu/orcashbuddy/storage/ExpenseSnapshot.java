@@ -0,0 +1,91 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.query.AmountQuery;
+
+import java.util.List;
+
+/**
+ * One immutable version of an {@link ExpenseManager}'s expenses and budget.
+ * <p>
+ * Every change to the manager publishes a new snapshot, which shares all unchanged parts of the
+ * expense list with the previous one. A snapshot therefore never changes once obtained: a caller
+ * that holds one can walk it for as long as it likes while later commands keep changing the manager.
+ * A version that nobody holds any more is reclaimed by the garbage collector.
+ */
+public final class ExpenseSnapshot {
+    private final long version;
+    private final PersistentList<Expense> expenses;
+    private final double budget;
+    private final long markedCents;
+
+    ExpenseSnapshot(long version, PersistentList<Expense> expenses, double budget, long markedCents) {
+        this.version = version;
+        this.expenses = expenses;
+        this.budget = budget;
+        this.markedCents = markedCents;
+    }
+
+    /**
+     * Returns the version number of this snapshot, which increases by one with every change.
+     *
+     * @return the version number
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of expenses in this snapshot.
+     *
+     * @return number of expenses
+     */
+    public int getSize() {
+        return expenses.size();
+    }
+
+    /**
+     * Returns the expenses of this snapshot as an unmodifiable list that never changes.
+     * Iterating over it is O(1) per expense, while {@code get} is O(log n).
+     *
+     * @return the expenses in list order
+     */
+    public List<Expense> getExpenses() {
+        return expenses.asList();
+    }
+
+    /**
+     * Returns the budget, total spent and remaining balance of this snapshot.
+     *
+     * @return the budget data
+     */
+    public BudgetData getBudgetData() {
+        return new BudgetData(budget, markedCents / 100.0, (AmountQuery.toCents(budget) - markedCents) / 100.0);
+    }
+
+    PersistentList<Expense> getExpenseList() {
+        return expenses;
+    }
+
+    double getBudget() {
+        return budget;
+    }
+
+    long getMarkedCents() {
+        return markedCents;
+    }
+
+    /**
+     * Returns the next version, holding {@code nextExpenses} and the total of their marked amounts.
+     */
+    ExpenseSnapshot withExpenses(PersistentList<Expense> nextExpenses, long nextMarkedCents) {
+        return new ExpenseSnapshot(version + 1, nextExpenses, budget, nextMarkedCents);
+    }
+
+    /**
+     * Returns the next version, with the budget set to {@code nextBudget}.
+     */
+    ExpenseSnapshot withBudget(double nextBudget) {
+        return new ExpenseSnapshot(version + 1, expenses, nextBudget, markedCents);
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Computes stable multi-key orderings of an expense list without moving the expenses themselves.
+ * <p>
+ * The result is a permutation of positions. Keys are applied least-significant first, each with a
+ * stable sort, so earlier keys take precedence and full ties keep their original order:
+ * <ul>
+ *   <li>Amount and status keys are integers (cents and 0/1), sorted with an LSD radix sort.</li>
+ *   <li>Category and description keys are strings, compared case-insensitively with a stable
+ *       merge sort, which runs in parallel once the list is large enough.</li>
+ * </ul>
+ */
+final class ExpenseSorter {
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+
+    /** Below this size, {@link Arrays#parallelSort} only adds fork/join overhead. */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private ExpenseSorter() {
+    }
+
+    /**
+     * Returns the positions of {@code expenses} in sorted order.
+     *
+     * @param expenses  the expenses to order; not modified
+     * @param keys      the sort keys, most significant first (must not be empty)
+     * @param ascending {@code true} to sort every key in ascending order, {@code false} for descending
+     * @return a new array where element {@code i} is the 0-based position of the {@code i}-th expense in order
+     */
+    static int[] sortedPositions(List<Expense> expenses, List<SortKey> keys, boolean ascending) {
+        assert !keys.isEmpty() : "At least one sort key is required";
+
+        int size = expenses.size();
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+        }
+
+        for (int k = keys.size() - 1; k >= 0; k--) {
+            switch (keys.get(k)) {
+            case AMOUNT:
+            case STATUS:
+                radixSort(positions, integerKeys(expenses, positions, keys.get(k), ascending));
+                break;
+            case CATEGORY:
+                stringSort(positions, expenses, Expense::getCategory, ascending);
+                break;
+            case DESCRIPTION:
+                stringSort(positions, expenses, Expense::getDescription, ascending);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported sort key: " + keys.get(k));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Converts a sort key into non-negative integer keys aligned with {@code positions}.
+     * Descending order is expressed by flipping each key against the maximum,
+     * which keeps ties equal and therefore keeps the radix sort stable.
+     */
+    private static long[] integerKeys(List<Expense> expenses, int[] positions, SortKey key, boolean ascending) {
+        long[] values = new long[positions.length];
+        long max = 0;
+        for (int i = 0; i < positions.length; i++) {
+            Expense expense = expenses.get(positions[i]);
+            long value = (key == SortKey.AMOUNT)
+                    ? Math.round(expense.getAmount() * 100.0)
+                    : (expense.isMarked() ? 1 : 0);
+            assert value >= 0 : "Sort keys must not be negative";
+            values[i] = value;
+            max = Math.max(max, value);
+        }
+        if (!ascending) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = max - values[i];
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Stable LSD radix sort of {@code positions} by the aligned non-negative {@code keys}.
+     * Digits above the highest set bit are skipped, so small amounts need fewer passes.
+     */
+    static void radixSort(int[] positions, long[] keys) {
+        int size = positions.length;
+        long allBits = 0;
+        for (long key : keys) {
+            allBits |= key;
+        }
+
+        int[] sourcePositions = positions;
+        long[] sourceKeys = keys;
+        int[] targetPositions = new int[size];
+        long[] targetKeys = new long[size];
+        int[] offsets = new int[RADIX + 1];
+
+        for (int shift = 0; shift < Long.SIZE && (allBits >>> shift) != 0; shift += RADIX_BITS) {
+            Arrays.fill(offsets, 0);
+            for (int i = 0; i < size; i++) {
+                offsets[(int) ((sourceKeys[i] >>> shift) & RADIX_MASK) + 1]++;
+            }
+            for (int digit = 0; digit < RADIX; digit++) {
+                offsets[digit + 1] += offsets[digit];
+            }
+            for (int i = 0; i < size; i++) {
+                int target = offsets[(int) ((sourceKeys[i] >>> shift) & RADIX_MASK)]++;
+                targetPositions[target] = sourcePositions[i];
+                targetKeys[target] = sourceKeys[i];
+            }
+
+            int[] swapPositions = sourcePositions;
+            sourcePositions = targetPositions;
+            targetPositions = swapPositions;
+            long[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+        }
+
+        if (sourcePositions != positions) {
+            System.arraycopy(sourcePositions, 0, positions, 0, size);
+        }
+    }
+
+    /**
+     * Stable, case-insensitive sort of {@code positions} by a string field.
+     */
+    private static void stringSort(int[] positions, List<Expense> expenses,
+                                   Function<Expense, String> field, boolean ascending) {
+        Integer[] boxed = new Integer[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            boxed[i] = positions[i];
+        }
+
+        Comparator<Integer> comparator = (a, b) -> String.CASE_INSENSITIVE_ORDER.compare(
+                field.apply(expenses.get(a)), field.apply(expenses.get(b)));
+        if (!ascending) {
+            comparator = comparator.reversed();
+        }
+
+        // Both sorts are stable merge sorts, so equal keys keep the order left by less significant keys
+        if (boxed.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(boxed, comparator);
+        } else {
+            Arrays.sort(boxed, comparator);
+        }
+
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = boxed[i];
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.orcashbuddy.storage;
+
+/**
+ * A way of narrowing a query down to candidate positions by looking them up in an index,
+ * instead of scanning every expense.
+ */
+interface IndexAccess {
+
+    /**
+     * Returns how many candidate positions {@link #positions()} would return.
+     * This must be cheap, since the planner compares estimates before fetching anything.
+     */
+    int estimate();
+
+    /**
+     * Returns the candidate positions in ascending order, without duplicates.
+     */
+    int[] positions();
+
+    /**
+     * Returns a short description of the lookup for {@code find explain}.
+     */
+    String describe();
+}
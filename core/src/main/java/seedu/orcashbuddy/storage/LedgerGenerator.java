@@ -0,0 +1,178 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.expense.MoneyFormatter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Generates realistic ledgers of any size for load tests, benchmarks and memory studies.
+ * <p>
+ * A generator draws everything from a random number generator with a fixed seed, so the same
+ * settings always produce the same ledger. Generated ledgers look like real ones:
+ * <ul>
+ *   <li>amounts run from $0.01 to $1000, with small amounts more common than large ones</li>
+ *   <li>a few categories hold most expenses, as {@code food} and {@code transport} would</li>
+ *   <li>most descriptions are a few words long, and a few are much longer</li>
+ * </ul>
+ * A ledger can be written straight to {@code appdata.ser} through {@link StorageManager},
+ * or as a script of commands for {@code --batch}.
+ * <p>
+ * To generate one from the command line, run {@code ./gradlew generateLedger --args="--size 1000000"},
+ * which runs {@code LedgerGeneratorMain} in the application module.
+ */
+public final class LedgerGenerator {
+    public static final long DEFAULT_SEED = 2113;
+    public static final int DEFAULT_CATEGORY_COUNT = 12;
+    public static final double DEFAULT_MEAN_DESCRIPTION_WORDS = 3;
+    public static final double DEFAULT_MARKED_RATIO = 1 / 3.0;
+
+    private static final int MAX_DESCRIPTION_WORDS = 30;
+    private static final int MAX_AMOUNT_CENTS = 100_000;
+    private static final double LOG_MAX_AMOUNT_CENTS = Math.log(MAX_AMOUNT_CENTS);
+    // Generated budgets leave this much room above the total of every expense
+    private static final double DEFAULT_BUDGET_HEADROOM = 1.25;
+    private static final String[] CATEGORIES = {
+        "food", "transport", "rent", "utilities", "groceries", "entertainment",
+        "health", "travel", "education", "gifts", "insurance", "misc"
+    };
+    private static final String[] WORDS = {
+        "lunch", "dinner", "bus", "taxi", "train", "coffee", "book", "ticket",
+        "phone", "bill", "snack", "gift", "rent", "movie", "printing", "poster",
+        "breakfast", "supper", "grab", "mrt", "textbook", "laptop", "charger", "concert",
+        "gym", "pharmacy", "haircut", "laundry", "stationery", "groceries", "flight", "hostel"
+    };
+
+    private final long seed;
+    private final int categoryCount;
+    private final double meanDescriptionWords;
+    private final double markedRatio;
+
+    /**
+     * Creates a generator with the given settings.
+     *
+     * @param seed the seed to draw every expense from
+     * @param categoryCount how many distinct categories to use; at least 1
+     * @param meanDescriptionWords the average number of words in a description; at least 1
+     * @param markedRatio the fraction of expenses to mark, from 0 to 1
+     * @throws IllegalArgumentException if any setting is out of range
+     */
+    public LedgerGenerator(long seed, int categoryCount, double meanDescriptionWords, double markedRatio) {
+        if (categoryCount < 1) {
+            throw new IllegalArgumentException("Category count must be at least 1: " + categoryCount);
+        }
+        if (!(meanDescriptionWords >= 1 && meanDescriptionWords <= MAX_DESCRIPTION_WORDS)) {
+            throw new IllegalArgumentException("Mean description words must be from 1 to "
+                    + MAX_DESCRIPTION_WORDS + ": " + meanDescriptionWords);
+        }
+        if (!(markedRatio >= 0 && markedRatio <= 1)) {
+            throw new IllegalArgumentException("Marked ratio must be from 0 to 1: " + markedRatio);
+        }
+        this.seed = seed;
+        this.categoryCount = categoryCount;
+        this.meanDescriptionWords = meanDescriptionWords;
+        this.markedRatio = markedRatio;
+    }
+
+    /**
+     * Returns a new manager holding {@code size} generated expenses.
+     *
+     * @param size the number of expenses
+     * @param budget the budget to set, or 0 to set one 25% above the total of every expense
+     * @return the filled manager
+     */
+    public ExpenseManager generate(int size, double budget) {
+        Expense[] expenses = generateExpenses(size);
+        ExpenseManager manager = new ExpenseManager();
+        for (Expense expense : expenses) {
+            manager.addExpense(expense);
+        }
+        double effectiveBudget = budget > 0 ? budget : defaultBudget(expenses);
+        if (effectiveBudget > 0) {
+            manager.setBudget(effectiveBudget);
+        }
+        return manager;
+    }
+
+    /**
+     * Writes {@code size} generated expenses to {@code out} as commands that {@code --batch} can run:
+     * a {@code setbudget}, then an {@code add} for each expense, followed by a {@code mark} if it is marked.
+     * The script builds the same ledger as {@link #generate(int, double)} with the same settings.
+     *
+     * @param size the number of expenses
+     * @param budget the budget to set, or 0 to set one 25% above the total of every expense
+     * @param out where to write the commands
+     * @throws IOException if writing fails
+     */
+    public void writeScript(int size, double budget, Writer out) throws IOException {
+        Expense[] expenses = generateExpenses(size);
+        double effectiveBudget = budget > 0 ? budget : defaultBudget(expenses);
+        StringBuilder line = new StringBuilder(128);
+        if (effectiveBudget > 0) {
+            line.append("setbudget a/");
+            MoneyFormatter.append(line, effectiveBudget);
+            out.write(line.append('\n').toString());
+        }
+        for (int i = 0; i < expenses.length; i++) {
+            Expense expense = expenses[i];
+            line.setLength(0);
+            line.append("add a/");
+            MoneyFormatter.append(line, expense.getAmount());
+            line.append(" desc/").append(expense.getDescription())
+                    .append(" cat/").append(expense.getCategory()).append('\n');
+            if (expense.isMarked()) {
+                line.append("mark ").append(i + 1).append('\n');
+            }
+            out.write(line.toString());
+        }
+    }
+
+    private Expense[] generateExpenses(int size) {
+        assert size >= 0 : "Ledger size must not be negative";
+        Random random = new Random(seed);
+        Expense[] expenses = new Expense[size];
+        for (int i = 0; i < size; i++) {
+            Expense expense = new Expense(nextAmount(random), nextDescription(random), nextCategory(random));
+            expenses[i] = random.nextDouble() < markedRatio ? expense.withMarked(true) : expense;
+        }
+        return expenses;
+    }
+
+    /**
+     * Returns an amount whose logarithm is uniform, so that $1-$10 is as common as $10-$100.
+     */
+    private static double nextAmount(Random random) {
+        long cents = Math.max(1, Math.round(Math.exp(random.nextDouble() * LOG_MAX_AMOUNT_CENTS)));
+        return cents / 100.0;
+    }
+
+    /**
+     * Returns a description whose number of words is geometrically distributed with the configured mean.
+     */
+    private String nextDescription(Random random) {
+        StringBuilder description = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        double stopChance = 1 / meanDescriptionWords;
+        for (int words = 1; words < MAX_DESCRIPTION_WORDS && random.nextDouble() >= stopChance; words++) {
+            description.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return description.toString();
+    }
+
+    /**
+     * Returns one of the configured categories, lower-numbered ones being more common.
+     */
+    private String nextCategory(Random random) {
+        int category = Math.min(random.nextInt(categoryCount), random.nextInt(categoryCount));
+        return category < CATEGORIES.length ? CATEGORIES[category] : "category" + (category + 1);
+    }
+
+    private static double defaultBudget(Expense[] expenses) {
+        long totalCents = 0;
+        for (Expense expense : expenses) {
+            totalCents += Math.round(expense.getAmount() * 100);
+        }
+        return Math.ceil(totalCents * DEFAULT_BUDGET_HEADROOM) / 100.0;
+    }
+}
@@ -0,0 +1,255 @@
+package seedu.orcashbuddy.storage;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list whose updates return a new list that shares most of its structure with the old one.
+ * <p>
+ * Elements are kept in an AVL tree ordered by position, with each node storing the size of its subtree.
+ * Reading, replacing, inserting and removing an element at any position are O(log n), and an update
+ * copies only the O(log n) nodes on the path to that position. Every earlier list stays valid and
+ * unchanged, and is reclaimed by the garbage collector once nothing refers to it.
+ *
+ * @param <T> the element type
+ */
+final class PersistentList<T> {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list holding {@code values} in order, built as a perfectly balanced tree in O(n).
+     */
+    static <T> PersistentList<T> of(List<T> values) {
+        return new PersistentList<>(build(values, 0, values.size()));
+    }
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the element at the 0-based {@code position}.
+     */
+    T get(int position) {
+        checkPosition(position, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (position < leftSize) {
+                node = node.left;
+            } else if (position > leftSize) {
+                position -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code position} replaced by {@code value}.
+     */
+    PersistentList<T> set(int position, T value) {
+        checkPosition(position, size());
+        return new PersistentList<>(setIn(root, position, value));
+    }
+
+    /**
+     * Returns a list with {@code value} inserted at {@code position}, shifting later elements up by one.
+     */
+    PersistentList<T> insert(int position, T value) {
+        checkPosition(position, size() + 1);
+        return new PersistentList<>(insertInto(root, position, value));
+    }
+
+    /**
+     * Returns a list with the element at {@code position} removed, shifting later elements down by one.
+     */
+    PersistentList<T> remove(int position) {
+        checkPosition(position, size());
+        return new PersistentList<>(removeFrom(root, position));
+    }
+
+    /**
+     * Returns an unmodifiable {@link List} view of this list. Since this list never changes, neither does the view.
+     * Iteration is O(1) per element; {@code get} is O(log n).
+     */
+    List<T> asList() {
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                return PersistentList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentList.this.size();
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                return new InOrderIterator<>(root);
+            }
+        };
+    }
+
+    /**
+     * Walks the tree in order, keeping the path of unvisited ancestors on a stack.
+     */
+    private static final class InOrderIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<T> root) {
+            pushLeftSpine(root);
+        }
+
+        private void pushLeftSpine(Node<T> node) {
+            for (Node<T> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+    }
+
+    private static void checkPosition(int position, int limit) {
+        if (position < 0 || position >= limit) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of bounds");
+        }
+    }
+
+    private static <T> Node<T> build(List<T> values, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(values.get(middle), build(values, from, middle), build(values, middle + 1, to));
+    }
+
+    private static <T> Node<T> setIn(Node<T> node, int position, T value) {
+        int leftSize = sizeOf(node.left);
+        if (position < leftSize) {
+            return new Node<>(node.value, setIn(node.left, position, value), node.right);
+        }
+        if (position > leftSize) {
+            return new Node<>(node.value, node.left, setIn(node.right, position - leftSize - 1, value));
+        }
+        return new Node<>(value, node.left, node.right);
+    }
+
+    private static <T> Node<T> insertInto(Node<T> node, int position, T value) {
+        if (node == null) {
+            return new Node<>(value, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (position <= leftSize) {
+            return balance(node.value, insertInto(node.left, position, value), node.right);
+        }
+        return balance(node.value, node.left, insertInto(node.right, position - leftSize - 1, value));
+    }
+
+    private static <T> Node<T> removeFrom(Node<T> node, int position) {
+        int leftSize = sizeOf(node.left);
+        if (position < leftSize) {
+            return balance(node.value, removeFrom(node.left, position), node.right);
+        }
+        if (position > leftSize) {
+            return balance(node.value, node.left, removeFrom(node.right, position - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        // Replace the removed node with its in-order successor, the first node of the right subtree
+        return balance(firstOf(node.right).value, node.left, removeFrom(node.right, 0));
+    }
+
+    private static <T> Node<T> firstOf(Node<T> node) {
+        Node<T> current = node;
+        while (current.left != null) {
+            current = current.left;
+        }
+        return current;
+    }
+
+    /**
+     * Builds a node from subtrees whose heights differ by at most two, rotating it back into AVL balance.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int skew = heightOf(left) - heightOf(right);
+        if (skew > 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<T> pivot = left.right;
+            return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left),
+                    new Node<>(value, pivot.right, right));
+        }
+        if (skew < -1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<T> pivot = right.left;
+            return new Node<>(pivot.value, new Node<>(value, left, pivot.left),
+                    new Node<>(right.value, pivot.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.orcashbuddy.storage;
+
+import java.util.Arrays;
+
+/**
+ * A growable, sorted list of distinct expense positions backed by a primitive array.
+ */
+final class PositionList {
+    private int[] positions = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds {@code position}, keeping the list sorted.
+     */
+    void add(int position) {
+        int index = Arrays.binarySearch(positions, 0, size, position);
+        assert index < 0 : "Position is already present";
+        int insertAt = -index - 1;
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        System.arraycopy(positions, insertAt, positions, insertAt + 1, size - insertAt);
+        positions[insertAt] = position;
+        size++;
+    }
+
+    /**
+     * Removes {@code position}, which must be present.
+     */
+    void remove(int position) {
+        int index = Arrays.binarySearch(positions, 0, size, position);
+        assert index >= 0 : "Position is not present";
+        System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Adds {@code delta} to every position that is at least {@code from}.
+     * Order is preserved because the shifted positions all move by the same amount.
+     */
+    void shift(int from, int delta) {
+        int index = Arrays.binarySearch(positions, 0, size, from);
+        for (int i = index >= 0 ? index : -index - 1; i < size; i++) {
+            positions[i] += delta;
+        }
+    }
+
+    /**
+     * Copies the positions into {@code target} starting at {@code offset}.
+     */
+    void copyInto(int[] target, int offset) {
+        System.arraycopy(positions, 0, target, offset, size);
+    }
+}
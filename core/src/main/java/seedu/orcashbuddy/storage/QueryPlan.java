@@ -0,0 +1,72 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.query.ExpenseQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The strategy chosen for evaluating a {@link ExpenseQuery}, as reported by {@code find explain}.
+ */
+public final class QueryPlan {
+    private final ExpenseQuery query;
+    private final IndexAccess access; // null for a full scan
+    private final String description;
+
+    QueryPlan(ExpenseQuery query, IndexAccess access, String description) {
+        this.query = query;
+        this.access = access;
+        this.description = description;
+    }
+
+    /**
+     * Returns the query this plan evaluates.
+     *
+     * @return the planned query
+     */
+    public ExpenseQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns whether this plan narrows the search through an index rather than scanning.
+     *
+     * @return {@code true} if an index is used
+     */
+    public boolean usesIndex() {
+        return access != null;
+    }
+
+    /**
+     * Returns a user-readable description of the chosen strategy.
+     *
+     * @return the plan description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Evaluates the query over {@code expenses}, returning matches in their original order.
+     */
+    List<Expense> execute(List<Expense> expenses) {
+        List<Expense> found = new ArrayList<>();
+        if (access == null) {
+            for (Expense expense : expenses) {
+                if (query.matches(expense)) {
+                    found.add(expense);
+                }
+            }
+            return found;
+        }
+
+        for (int position : access.positions()) {
+            Expense expense = expenses.get(position);
+            if (query.matches(expense)) {
+                found.add(expense);
+            }
+        }
+        return found;
+    }
+}
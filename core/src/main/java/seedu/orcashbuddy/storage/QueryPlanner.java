@@ -0,0 +1,158 @@
+package seedu.orcashbuddy.storage;
+
+import seedu.orcashbuddy.query.AmountQuery;
+import seedu.orcashbuddy.query.AndQuery;
+import seedu.orcashbuddy.query.CategoryQuery;
+import seedu.orcashbuddy.query.ExpenseQuery;
+import seedu.orcashbuddy.query.FuzzyDescriptionQuery;
+import seedu.orcashbuddy.query.OrQuery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Chooses how to evaluate a {@link ExpenseQuery}: through an index, or by scanning every expense.
+ * <p>
+ * Indexes only ever narrow the search to candidates; every candidate is still checked against
+ * the full query, so a plan is always correct and only its cost depends on the choice:
+ * <ul>
+ *   <li>A term with an index is answered by a lookup.</li>
+ *   <li>An AND uses the most selective operand that has an index.</li>
+ *   <li>An OR uses the union of its operands' lookups, but only if every operand has one.</li>
+ *   <li>A NOT, or a term without an index, needs a scan.</li>
+ * </ul>
+ * A lookup that would visit more than half the expenses is not worth its overhead, so the
+ * planner scans instead.
+ */
+final class QueryPlanner {
+    private static final double MAX_INDEX_SELECTIVITY = 0.5;
+
+    private final CategoryIndex categoryIndex;
+    private final AmountIndex amountIndex;
+    private final DescriptionWordIndex descriptionWordIndex;
+
+    QueryPlanner(CategoryIndex categoryIndex, AmountIndex amountIndex, DescriptionWordIndex descriptionWordIndex) {
+        this.categoryIndex = categoryIndex;
+        this.amountIndex = amountIndex;
+        this.descriptionWordIndex = descriptionWordIndex;
+    }
+
+    /**
+     * Plans {@code query} against a list of {@code size} expenses.
+     */
+    QueryPlan plan(ExpenseQuery query, int size) {
+        IndexAccess access = accessFor(query);
+        if (access == null) {
+            return fullScan(query, size);
+        }
+
+        int estimate = access.estimate();
+        if (estimate > size * MAX_INDEX_SELECTIVITY) {
+            return new QueryPlan(query, null, "full scan of " + size + " expense(s) ("
+                    + access.describe() + " would visit " + estimate + ")");
+        }
+        return new QueryPlan(query, access, access.describe() + ", visiting " + estimate + " of "
+                + size + " expense(s), then filter by the full query");
+    }
+
+    /**
+     * Plans {@code query} as a scan of a list of {@code size} expenses, which needs no index.
+     */
+    static QueryPlan fullScan(ExpenseQuery query, int size) {
+        return new QueryPlan(query, null, "full scan of " + size + " expense(s)");
+    }
+
+    /**
+     * Returns the cheapest index access that covers every match of {@code query}, or {@code null}.
+     */
+    private IndexAccess accessFor(ExpenseQuery query) {
+        if (query instanceof CategoryQuery categoryQuery) {
+            return categoryIndex.lookup(categoryQuery.getLowerCaseTerm());
+        }
+        if (query instanceof AmountQuery amountQuery) {
+            return amountIndex.lookup(amountQuery.getMinCents(), amountQuery.getMaxCents());
+        }
+        if (query instanceof FuzzyDescriptionQuery fuzzyQuery) {
+            return descriptionWordIndex.lookup(fuzzyQuery);
+        }
+        if (query instanceof AndQuery andQuery) {
+            IndexAccess best = null;
+            for (ExpenseQuery operand : andQuery.getOperands()) {
+                IndexAccess access = accessFor(operand);
+                if (access != null && (best == null || access.estimate() < best.estimate())) {
+                    best = access;
+                }
+            }
+            return best;
+        }
+        if (query instanceof OrQuery orQuery) {
+            List<IndexAccess> accesses = new ArrayList<>();
+            for (ExpenseQuery operand : orQuery.getOperands()) {
+                IndexAccess access = accessFor(operand);
+                if (access == null) {
+                    return null;
+                }
+                accesses.add(access);
+            }
+            return union(accesses);
+        }
+        return null;
+    }
+
+    private static IndexAccess union(List<IndexAccess> accesses) {
+        int estimate = 0;
+        StringJoiner description = new StringJoiner(", ", "union of [", "]");
+        for (IndexAccess access : accesses) {
+            estimate += access.estimate();
+            description.add(access.describe());
+        }
+
+        int total = estimate;
+        return new IndexAccess() {
+            @Override
+            public int estimate() {
+                // An upper bound: operands may share candidates
+                return total;
+            }
+
+            @Override
+            public int[] positions() {
+                int[] merged = new int[0];
+                for (IndexAccess access : accesses) {
+                    merged = mergeDistinct(merged, access.positions());
+                }
+                return merged;
+            }
+
+            @Override
+            public String describe() {
+                return description.toString();
+            }
+        };
+    }
+
+    /**
+     * Merges two ascending arrays of distinct positions into one, dropping duplicates.
+     */
+    static int[] mergeDistinct(int[] first, int[] second) {
+        int[] merged = new int[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < first.length || j < second.length) {
+            int next;
+            if (j == second.length || (i < first.length && first[i] < second[j])) {
+                next = first[i++];
+            } else if (i == first.length || second[j] < first[i]) {
+                next = second[j++];
+            } else {
+                next = first[i++];
+                j++;
+            }
+            merged[size++] = next;
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.orcashbuddy.storage;
+
+/**
+ * Fields that expenses can be sorted on with {@code sort by/...}.
+ */
+public enum SortKey {
+    AMOUNT("amount"),
+    CATEGORY("category"),
+    DESCRIPTION("description"),
+    STATUS("status");
+
+    private final String displayName;
+
+    SortKey(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the user-facing name of this key, as shown in sort headers.
+     *
+     * @return the display name, e.g. {@code "amount"}
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,198 @@
+//@@author saheer17
+package seedu.orcashbuddy.storage;
+import seedu.orcashbuddy.perf.StorageLoadEvent;
+import seedu.orcashbuddy.perf.StorageSaveEvent;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Handles saving and loading of {@link ExpenseManager} objects to persistent storage.
+ * <p>
+ * Expenses are serialized to a file named {@code appdata.ser} inside a {@code data} folder.
+ * This class ensures that the storage folder and file exist, and reports user-friendly
+ * error messages to its caller in case of exceptions, e.g. to show them in the console.
+ */
+public class StorageManager {
+
+    /** The folder that data is saved in unless another is given. */
+    public static final String DIRECTORY = "data";
+    private static final Logger LOGGER = Logger.getLogger(StorageManager.class.getName());
+    private static final String FILE_NAME = "appdata.ser";
+
+    /**
+     * Saves the given {@link ExpenseManager} to disk.
+     * <p>
+     * If the storage folder does not exist, it will be created. If saving fails,
+     * a user-friendly message is passed to {@code errorReporter}.
+     *
+     * @param expenseManager the ExpenseManager object to save; must not be null
+     * @param errorReporter  receives any error message for the user; must not be null
+     */
+    public static void saveExpenseManager(ExpenseManager expenseManager, Consumer<String> errorReporter) {
+        saveExpenseManager(expenseManager, errorReporter, new File(DIRECTORY));
+    }
+
+    /**
+     * Saves the given {@link ExpenseManager} to {@code appdata.ser} in {@code dir} instead of
+     * the usual {@code data} folder, e.g. for benchmarks that must not touch the user's data.
+     *
+     * @param expenseManager the ExpenseManager object to save; must not be null
+     * @param errorReporter  receives any error message for the user; must not be null
+     * @param dir            the folder to save in, created if it does not exist
+     */
+    public static void saveExpenseManager(ExpenseManager expenseManager, Consumer<String> errorReporter, File dir) {
+        assert expenseManager != null : "ExpenseManager must not be null";
+        assert errorReporter != null : "Error reporter must not be null";
+
+        StorageSaveEvent saveEvent = new StorageSaveEvent();
+        saveEvent.begin();
+        boolean succeeded = writeExpenseManager(expenseManager, errorReporter, dir);
+        if (saveEvent.shouldCommit()) {
+            saveEvent.setExpenseCount(expenseManager.getSnapshot().getSize());
+            saveEvent.setBytesWritten(new File(dir, FILE_NAME).length());
+            saveEvent.setSucceeded(succeeded);
+            saveEvent.commit();
+        }
+    }
+
+    /**
+     * Writes {@code expenseManager} to the data file, reporting to {@code errorReporter} if that fails.
+     *
+     * @return {@code true} if the data was saved
+     */
+    private static boolean writeExpenseManager(ExpenseManager expenseManager, Consumer<String> errorReporter,
+                                               File dir) {
+        try {
+            if (!dir.exists()) {
+                boolean dirCreated = dir.mkdir();
+                if (!dirCreated) {
+                    errorReporter.accept("Unable to create storage folder. Your expenses may not be saved.");
+                    LOGGER.warning("Failed to create storage folder: " + dir);
+                    return false;
+                }
+            }
+
+            File file = new File(dir, FILE_NAME);
+            try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
+                oos.writeObject(expenseManager);
+                LOGGER.info("ExpenseManager successfully saved to " + file.getAbsolutePath());
+                return true;
+            } catch (IOException e) {
+                errorReporter.accept("Failed to save your expenses.");
+                LOGGER.log(Level.WARNING, "Failed to save ExpenseManager", e);
+            }
+
+        } catch (SecurityException e) {
+            errorReporter.accept("Permission denied. Unable to access storage to save expenses.");
+            LOGGER.log(Level.WARNING, "Security exception when saving ExpenseManager", e);
+        }
+        return false;
+    }
+
+    /**
+     * Loads the {@link ExpenseManager} from disk.
+     * <p>
+     * If the storage folder or file does not exist, they will be created.
+     * If reading fails or data is corrupted, an empty ExpenseManager is returned
+     * and a user-friendly message is passed to {@code errorReporter}.
+     *
+     * @param errorReporter receives any error message for the user; must not be null
+     * @return the loaded ExpenseManager object, or a new empty one if loading fails
+     */
+    public static ExpenseManager loadExpenseManager(Consumer<String> errorReporter) {
+        return loadExpenseManager(errorReporter, new File(DIRECTORY));
+    }
+
+    /**
+     * Loads the {@link ExpenseManager} from {@code appdata.ser} in {@code dir} instead of
+     * the usual {@code data} folder.
+     *
+     * @param errorReporter receives any error message for the user; must not be null
+     * @param dir           the folder to load from, created along with the file if it does not exist
+     * @return the loaded ExpenseManager object, or a new empty one if loading fails
+     */
+    public static ExpenseManager loadExpenseManager(Consumer<String> errorReporter, File dir) {
+        assert errorReporter != null : "Error reporter must not be null";
+
+        StorageLoadEvent loadEvent = new StorageLoadEvent();
+        loadEvent.begin();
+        ExpenseManager expenseManager = readExpenseManager(errorReporter, dir);
+        if (loadEvent.shouldCommit()) {
+            loadEvent.setExpenseCount(expenseManager.getSnapshot().getSize());
+            loadEvent.setBytesRead(new File(dir, FILE_NAME).length());
+            loadEvent.commit();
+        }
+        return expenseManager;
+    }
+
+    /**
+     * Reads the {@link ExpenseManager} from the data file, creating the folder and file if needed.
+     *
+     * @return the loaded ExpenseManager, or a new empty one if there is none or it cannot be read
+     */
+    private static ExpenseManager readExpenseManager(Consumer<String> errorReporter, File dir) {
+        try {
+            if (!dir.exists()) {
+                boolean dirCreated = dir.mkdir();
+                if (!dirCreated) {
+                    errorReporter.accept("Unable to create storage folder.");
+                    LOGGER.warning("Failed to create storage folder: " + dir);
+                    return new ExpenseManager();
+                }
+                LOGGER.info("Storage folder created: " + dir);
+            }
+
+            File file = new File(dir, FILE_NAME);
+            if (!file.exists()) {
+                try {
+                    boolean fileCreated = file.createNewFile();
+                    if (!fileCreated) {
+                        errorReporter.accept("Unable to create storage folder.");
+                        LOGGER.warning("Failed to create storage file: " + file.getAbsolutePath());
+                    } else {
+                        LOGGER.info("Storage file created: " + file.getAbsolutePath());
+                    }
+                } catch (IOException e) {
+                    errorReporter.accept("An error occurred while creating storage file. Starting fresh.");
+                    LOGGER.log(Level.WARNING, "IOException while creating storage file", e);
+                } catch (SecurityException e) {
+                    errorReporter.accept("Permission denied. Unable to create storage file. Starting fresh.");
+                    LOGGER.log(Level.WARNING, "Security exception while creating storage file", e);
+                }
+                return new ExpenseManager();
+            }
+
+            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
+                Object obj = ois.readObject();
+                if (obj instanceof ExpenseManager) {
+                    LOGGER.info("ExpenseManager successfully loaded from " + file.getAbsolutePath());
+                    return (ExpenseManager) obj;
+                } else {
+                    errorReporter.accept("Saved data is corrupted. Starting with empty expenses.");
+                    LOGGER.warning("Data in storage file is not an ExpenseManager: " + file.getAbsolutePath());
+                    return new ExpenseManager();
+                }
+            } catch (IOException e) {
+                errorReporter.accept("Failed to read saved expenses. Starting fresh.");
+                LOGGER.log(Level.WARNING, "IOException while reading storage file", e);
+            } catch (ClassNotFoundException e) {
+                errorReporter.accept("Saved data is incompatible. Starting with empty expenses.");
+                LOGGER.log(Level.WARNING, "ClassNotFoundException while reading storage file", e);
+            }
+
+        } catch (SecurityException e) {
+            errorReporter.accept("Permission denied. Cannot access saved data. Starting fresh.");
+            LOGGER.log(Level.WARNING, "Security exception while accessing storage directory", e);
+        }
+
+        return new ExpenseManager();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.orcashbuddy.storage;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A bounded history of {@link Delta}s for {@code undo} and {@code redo}.
+ * <p>
+ * Undoable deltas are kept in a ring buffer, so once the capacity is reached the oldest change
+ * is forgotten instead of the history growing without limit. Every operation is O(1), apart from
+ * recording a new change after some undos, which discards the redoable deltas.
+ * <p>
+ * Methods are synchronized because marks and unmarks are recorded while only the shared read lock
+ * of {@link ExpenseManager} is held.
+ */
+final class UndoLog {
+    /** Number of changes that can be undone in a row. */
+    static final int DEFAULT_CAPACITY = 100;
+
+    private final Delta[] undoable;
+    private int newest = -1;
+    private int undoableCount;
+    private final Deque<Delta> redoable = new ArrayDeque<>();
+
+    UndoLog(int capacity) {
+        assert capacity >= 1 : "Capacity must be at least 1";
+        this.undoable = new Delta[capacity];
+    }
+
+    /**
+     * Records a new change. Changes that were undone can no longer be redone afterwards.
+     */
+    synchronized void record(Delta delta) {
+        pushUndo(delta);
+        redoable.clear();
+    }
+
+    /**
+     * Pushes a change onto the undo history, dropping the oldest one if it is full.
+     */
+    synchronized void pushUndo(Delta delta) {
+        newest = (newest + 1) % undoable.length;
+        undoable[newest] = delta;
+        undoableCount = Math.min(undoableCount + 1, undoable.length);
+    }
+
+    /**
+     * Removes and returns the latest undoable change, or {@code null} if there is none.
+     */
+    synchronized Delta popUndo() {
+        if (undoableCount == 0) {
+            return null;
+        }
+        Delta delta = undoable[newest];
+        undoable[newest] = null;
+        newest = (newest - 1 + undoable.length) % undoable.length;
+        undoableCount--;
+        return delta;
+    }
+
+    synchronized void pushRedo(Delta delta) {
+        redoable.push(delta);
+    }
+
+    /**
+     * Removes and returns the latest undone change, or {@code null} if there is none.
+     */
+    synchronized Delta popRedo() {
+        return redoable.poll();
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.orcashbuddy.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.parser.Parser;
+import seedu.orcashbuddy.perf.PerfRecorder;
+import seedu.orcashbuddy.storage.ExpenseManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs parsed commands without any console, as an embedding caller would, and checks what they return.
+ */
+class CommandResultTest {
+
+    private Parser parser;
+    private ExpenseManager manager;
+
+    @BeforeEach
+    void setUp() {
+        parser = new Parser();
+        manager = new ExpenseManager();
+    }
+
+    private CommandResult run(String input) throws Exception {
+        return parser.parse(input).execute(manager);
+    }
+
+    @Test
+    void add_returnsAddedExpense() throws Exception {
+        CommandResult.ExpenseAdded added = assertInstanceOf(CommandResult.ExpenseAdded.class,
+                run("add a/12.50 desc/Lunch cat/Food"));
+
+        assertEquals(12.50, added.expense().getAmount());
+        assertEquals("Lunch", added.expense().getDescription());
+        assertEquals(1, manager.getSize());
+    }
+
+    @Test
+    void markAndDelete_returnBudgetStatusAfterTheChange() throws Exception {
+        run("setbudget a/100");
+        run("add a/30 desc/Taxi cat/Transport");
+
+        CommandResult.ExpenseMarked marked = assertInstanceOf(CommandResult.ExpenseMarked.class, run("mark 1"));
+        assertTrue(marked.expense().isMarked());
+        assertEquals(70.0, marked.budgetData().remainingBalance());
+
+        CommandResult.ExpenseDeleted deleted = assertInstanceOf(CommandResult.ExpenseDeleted.class, run("delete 1"));
+        assertTrue(deleted.wasMarked());
+        assertEquals(100.0, deleted.budgetData().remainingBalance());
+    }
+
+    @Test
+    void edit_reportsWhetherAnythingChanged() throws Exception {
+        run("add a/10 desc/Pen cat/Stationery");
+        run("mark 1");
+
+        CommandResult.ExpenseEdited unchanged = assertInstanceOf(CommandResult.ExpenseEdited.class,
+                run("edit id/1 desc/Pen"));
+        assertFalse(unchanged.isChanged());
+        assertFalse(unchanged.isBudgetChanged());
+
+        CommandResult.ExpenseEdited changed = assertInstanceOf(CommandResult.ExpenseEdited.class,
+                run("edit id/1 a/12"));
+        assertTrue(changed.isChanged());
+        assertTrue(changed.isBudgetChanged());
+        assertEquals(12.0, changed.budgetData().totalExpenses());
+    }
+
+    @Test
+    void listPage_returnsWindowOfExpenses() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            run("add a/" + i + " desc/Item" + i);
+        }
+
+        CommandResult.ExpenseWindowListed window = assertInstanceOf(CommandResult.ExpenseWindowListed.class,
+                run("list page/2 size/2"));
+        assertEquals(2, window.fromIndex());
+        assertEquals(4, window.toIndex());
+        assertEquals("Item3", window.expenses().get(window.fromIndex()).getDescription());
+    }
+
+    @Test
+    void sortWithoutExpenses_returnsEmptyList() throws Exception {
+        CommandResult.ExpensesSorted sorted = assertInstanceOf(CommandResult.ExpensesSorted.class, run("sort"));
+
+        assertTrue(sorted.expenses().isEmpty());
+        assertNull(sorted.keys());
+    }
+
+    @Test
+    void perfWhileDisabled_returnsNoTimings() throws Exception {
+        assertInstanceOf(CommandResult.TimingsDisabled.class, run("perf"));
+    }
+
+    @Test
+    void perfWhileEnabled_reportsManagersRecorder() throws Exception {
+        PerfRecorder perfRecorder = PerfRecorder.enabled();
+        perfRecorder.record(PerfRecorder.PARSE, perfRecorder.start());
+        manager.setPerfRecorder(perfRecorder);
+
+        CommandResult.TimingsReported timings = assertInstanceOf(CommandResult.TimingsReported.class, run("perf"));
+        assertEquals(1, timings.histograms().get(PerfRecorder.PARSE).getCount());
+    }
+
+    @Test
+    void invalidInput_returnsRejectionWithoutChangingExpenses() throws Exception {
+        CommandResult.InputRejected unknown = assertInstanceOf(CommandResult.InputRejected.class, run("spend 5"));
+        assertNull(unknown.errorMessage());
+
+        CommandResult.InputRejected invalid = assertInstanceOf(CommandResult.InputRejected.class, run("add desc/x"));
+        assertTrue(invalid.errorMessage().contains("a/"), invalid.errorMessage());
+        assertEquals(0, manager.getSize());
+    }
+
+    @Test
+    void bye_requestsExit() throws Exception {
+        Command command = parser.parse("bye");
+
+        assertInstanceOf(CommandResult.ExitRequested.class, command.execute(manager));
+        assertTrue(command.isExit());
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.orcashbuddy.expense;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.parser.InputValidator;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MoneyFormatterTest {
+    // The largest amount InputValidator accepts, in cents
+    private static final long MAX_AMOUNT_CENTS = 100_000_000_000_000L;
+
+    private static void assertSameAsStringFormat(double value) {
+        assertEquals(String.format(Locale.ROOT, "%.2f", value), MoneyFormatter.format(value), () -> "for " + value);
+    }
+
+    @Test
+    void everyAcceptedAmount_matchesStringFormat() throws Exception {
+        Random random = new Random(41);
+        for (int i = 0; i < 200_000; i++) {
+            long cents = 1 + (random.nextLong() & Long.MAX_VALUE) % MAX_AMOUNT_CENTS;
+            assertSameAsStringFormat(cents / 100.0);
+        }
+        assertSameAsStringFormat(InputValidator.validateAmount("1000000000000", "amount"));
+        assertSameAsStringFormat(InputValidator.validateAmount("0.01", "amount"));
+    }
+
+    @Test
+    void totalsAndPercentages_matchStringFormat() {
+        Random random = new Random(43);
+        for (int i = 0; i < 200_000; i++) {
+            double total = 0;
+            for (int j = random.nextInt(5); j >= 0; j--) {
+                total += random.nextInt(1_000_000) / 100.0;
+            }
+            assertSameAsStringFormat(total);
+            assertSameAsStringFormat(random.nextDouble() * Math.pow(10, random.nextInt(20) - 6));
+            assertSameAsStringFormat(-random.nextDouble());
+        }
+    }
+
+    @Test
+    void halfCents_roundLikeStringFormat() {
+        Random random = new Random(47);
+        for (int i = 0; i < 200_000; i++) {
+            long cents = (random.nextLong() & Long.MAX_VALUE) % MAX_AMOUNT_CENTS;
+            assertSameAsStringFormat((cents + 0.5) / 100.0);
+        }
+        assertEquals("0.13", MoneyFormatter.format(0.125));
+        assertEquals("1.01", MoneyFormatter.format(1.005));
+    }
+
+    @Test
+    void specialValues_matchStringFormat() {
+        double[] values = {0.0, -0.0, -0.001, 0.004, 1e-300, 1e13, 1e20, -1e20, Double.MAX_VALUE,
+            Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (double value : values) {
+            assertSameAsStringFormat(value);
+        }
+    }
+
+    @Test
+    void append_addsToExistingText() {
+        StringBuilder sb = new StringBuilder("$");
+        assertEquals("$12.50", MoneyFormatter.append(sb, 12.5).toString());
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.orcashbuddy.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArgumentParserTest {
+
+    @Test
+    void getValue_existingPrefix_returnsTrimmedValue() throws Exception {
+        ArgumentParser parser = new ArgumentParser("a/ 42.0 desc/ Latte cat/ Coffee ");
+        assertEquals("42.0", parser.getValue("a/"));
+        assertEquals("Latte", parser.getValue("desc/"));
+    }
+
+    @Test
+    void getValue_missingPrefix_throws() {
+        ArgumentParser parser = new ArgumentParser("a/5 desc/Snack");
+        assertThrows(OrCashBuddyException.class, () -> parser.getValue("cat/"));
+    }
+
+    @Test
+    void getOptionalValue_missingPrefix_returnsNull() {
+        ArgumentParser parser = new ArgumentParser("a/5 desc/Snack");
+        assertNull(parser.getOptionalValue("cat/"));
+    }
+
+    @Test
+    void getOptionalValue_present_returnsTrimmedValue() {
+        ArgumentParser parser = new ArgumentParser("a/5 desc/Snack cat/ Treats ");
+        assertEquals("Treats", parser.getOptionalValue("cat/"));
+    }
+
+    @Test
+    void duplicatePrefixInsideValue_treatedAsLiteralText() throws Exception {
+        ArgumentParser parser = new ArgumentParser("a/12.50 desc/venue booking a/12345");
+        assertEquals("12.50", parser.getValue("a/"));
+        assertEquals("venue booking a/12345", parser.getValue("desc/"));
+    }
+
+    @Test
+    void unrelatedPrefixInsideValue_respectedWhenNotRecognised() throws Exception {
+        ArgumentParser parser = new ArgumentParser("desc/Room id/1 cat/test", "desc/", "cat/");
+        assertEquals("Room id/1", parser.getValue("desc/"));
+        assertEquals("test", parser.getValue("cat/"));
+    }
+
+    @Test
+    void randomInput_matchesRegexTokenizer() {
+        String[] prefixes = {"id/", "a/", "desc/", "cat/"};
+        String[] pieces = {"a/", "desc/", "cat/", "id/", "x/", "lunch", "12.5", "a", "/", " ", "  ", "\t", "\n"};
+        Random random = new Random(5);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder input = new StringBuilder();
+            int pieceCount = random.nextInt(10);
+            for (int j = 0; j < pieceCount; j++) {
+                input.append(pieces[random.nextInt(pieces.length)]);
+            }
+
+            Map<String, String> expected = parseWithRegex(input.toString().trim());
+            ArgumentParser parser = new ArgumentParser(input.toString());
+            for (String prefix : prefixes) {
+                assertEquals(expected.get(prefix), parser.getOptionalValue(prefix), () -> "Input: " + input);
+            }
+        }
+    }
+
+    /**
+     * The regular expression based tokenizer that {@link ArgumentParser} used to use, kept as a reference.
+     */
+    private static Map<String, String> parseWithRegex(String input) {
+        Matcher matcher = Pattern.compile("(?<!\\S)(id/|a/|desc/|cat/)").matcher(input);
+        Map<String, String> values = new HashMap<>();
+        String activePrefix = null;
+        int valueStart = -1;
+        while (matcher.find()) {
+            String nextPrefix = matcher.group(1);
+            if (activePrefix == null) {
+                activePrefix = nextPrefix;
+                valueStart = matcher.end();
+            } else if (!nextPrefix.equals(activePrefix) && !values.containsKey(nextPrefix)) {
+                values.put(activePrefix, input.substring(valueStart, matcher.start()).trim());
+                activePrefix = nextPrefix;
+                valueStart = matcher.end();
+            }
+        }
+        if (activePrefix != null && !values.containsKey(activePrefix)) {
+            values.put(activePrefix, input.substring(valueStart).trim());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.orcashbuddy.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputValidatorTest {
+
+    private static final String COMMAND = "test";
+
+    @Test
+    void validateAmount_validNumber_returnsDouble() throws Exception {
+        assertEquals(12.5, InputValidator.validateAmount("12.5", COMMAND), 1e-6);
+    }
+
+    @Test
+    void validateAmount_null_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount(null, COMMAND));
+    }
+
+    @Test
+    void validateAmount_notNumeric_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount("abc", COMMAND));
+    }
+
+    @Test
+    void validateAmount_notPositive_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount("-5", COMMAND));
+    }
+
+    @Test
+    void validateAmount_belowCent_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount("0.009", COMMAND));
+    }
+
+    @Test
+    void validateAmount_minimumCent_allowed() throws Exception {
+        assertEquals(0.01, InputValidator.validateAmount("0.01", COMMAND), 1e-6);
+    }
+
+    @Test
+    void validateAmount_nan_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount("NaN", COMMAND));
+    }
+
+    @Test
+    void validateAmount_infinity_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount("Infinity", COMMAND));
+    }
+
+    @Test
+    void validateAmount_negativeInfinity_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmount("-Infinity", COMMAND));
+    }
+
+    @Test
+    void validateAmount_maximumAllowed_allowed() throws Exception {
+        // 1 trillion should be accepted
+        assertEquals(1_000_000_000_000.0, InputValidator.validateAmount("1000000000000", COMMAND), 1e-6);
+    }
+
+    @Test
+    void validateAmount_exceedsMaximum_throws() {
+        // Over 1 trillion should be rejected
+        assertThrows(OrCashBuddyException.class, () ->
+            InputValidator.validateAmount("1000000000001", COMMAND));
+    }
+
+    @Test
+    void validateAmount_veryLargeWithPrecisionLoss_throws() {
+        // User's example - 26 digits that would lose precision
+        assertThrows(OrCashBuddyException.class, () ->
+            InputValidator.validateAmount("22222222222222222222222222", COMMAND));
+    }
+
+    @Test
+    void validateAmountCents_decimalForms_parsedExactly() throws Exception {
+        assertEquals(29, InputValidator.validateAmountCents("0.29", COMMAND));
+        assertEquals(50, InputValidator.validateAmountCents(".5", COMMAND));
+        assertEquals(500, InputValidator.validateAmountCents("+5.", COMMAND));
+        assertEquals(1234, InputValidator.validateAmountCents(" 12.349 ", COMMAND));
+        assertEquals(100_000_000_000_000L, InputValidator.validateAmountCents("1000000000000.000", COMMAND));
+        // Ignored digits still count towards the maximum
+        assertThrows(OrCashBuddyException.class, () ->
+            InputValidator.validateAmountCents("1000000000000.009", COMMAND));
+    }
+
+    @Test
+    void validateAmountCents_nonDecimalForms_throw() {
+        for (String amount : new String[]{"1e3", "0x10", "5d", "1.2.3", ".", "-", "1 000"}) {
+            assertThrows(OrCashBuddyException.class, () -> InputValidator.validateAmountCents(amount, COMMAND));
+        }
+    }
+
+    @Test
+    void validateAmountCents_randomDecimals_matchBigDecimal() {
+        Random random = new Random(13);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder amount = new StringBuilder();
+            int integerDigits = random.nextInt(16);
+            for (int j = 0; j < integerDigits; j++) {
+                amount.append(random.nextInt(10));
+            }
+            if (integerDigits == 0 || random.nextBoolean()) {
+                amount.append('.').append(random.nextInt(10));
+                for (int j = random.nextInt(4); j > 0; j--) {
+                    amount.append(random.nextInt(10));
+                }
+            }
+
+            BigDecimal exact = new BigDecimal(amount.toString());
+            long expectedCents = exact.setScale(2, RoundingMode.DOWN).movePointRight(2).longValueExact();
+            boolean isValid = expectedCents >= 1 && exact.compareTo(BigDecimal.valueOf(1_000_000_000_000L)) <= 0;
+            try {
+                assertEquals(expectedCents, InputValidator.validateAmountCents(amount.toString(), COMMAND));
+                assertTrue(isValid, amount.toString());
+            } catch (OrCashBuddyException e) {
+                assertFalse(isValid, amount.toString());
+            }
+        }
+    }
+
+    @Test
+    void validateDescription_valid_returnsTrimmed() throws Exception {
+        assertEquals("Lunch", InputValidator.validateDescription("  Lunch  ", COMMAND));
+    }
+
+    @Test
+    void validateDescription_empty_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateDescription("   ", COMMAND));
+    }
+
+    @Test
+    void validateCategory_null_returnsDefault() throws Exception {
+        assertEquals(Expense.DEFAULT_CATEGORY, InputValidator.validateCategory(null, COMMAND));
+    }
+
+    @Test
+    void validateCategory_valid_returnsTrimmed() throws Exception {
+        assertEquals("Food Court", InputValidator.validateCategory("  Food Court  ", COMMAND));
+    }
+
+    @Test
+    void validateCategory_empty_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateCategory("   ", COMMAND));
+    }
+
+    @Test
+    void validateCategory_invalidPattern_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateCategory("123*Food", COMMAND));
+    }
+
+    @Test
+    void validateCategory_lengthLimit_enforced() throws Exception {
+        assertEquals("Abcdefghij-123 45678", InputValidator.validateCategory("Abcdefghij-123 45678", COMMAND));
+        assertThrows(OrCashBuddyException.class, () ->
+            InputValidator.validateCategory("Abcdefghij-123 456789", COMMAND));
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateCategory("-Food", COMMAND));
+    }
+
+    @Test
+    void validateDescription_nonAscii_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateDescription("午餐", COMMAND));
+    }
+
+    @Test
+    void validateCategory_nonAscii_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateCategory("مطبخ", COMMAND));
+    }
+
+    @Test
+    void validateIndex_valid_returnsInt() throws Exception {
+        assertEquals(3, InputValidator.validateIndex("3", COMMAND));
+    }
+
+    @Test
+    void validateIndex_missing_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateIndex("", COMMAND));
+    }
+
+    @Test
+    void validateIndex_tooSmall_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateIndex("0", COMMAND));
+    }
+
+    @Test
+    void validateIndex_notInteger_throws() {
+        assertThrows(OrCashBuddyException.class, () -> InputValidator.validateIndex("one", COMMAND));
+    }
+
+    @Test
+    void validateIndex_signsAndOverflow_matchIntegerParsing() throws Exception {
+        assertEquals(7, InputValidator.validateIndex(" +7 ", COMMAND));
+        assertEquals(Integer.MAX_VALUE, InputValidator.validateIndex("2147483647", COMMAND));
+        assertEquals("Expense index must be at least 1",
+                assertThrows(OrCashBuddyException.class, () -> InputValidator.validateIndex("-2147483648", COMMAND))
+                        .getMessage());
+        assertEquals("Expense index is too large to process",
+                assertThrows(OrCashBuddyException.class, () -> InputValidator.validateIndex("2147483648", COMMAND))
+                        .getMessage());
+        assertEquals("Expense index is too large to process",
+                assertThrows(OrCashBuddyException.class, () -> InputValidator.validateIndex("-99999999999", COMMAND))
+                        .getMessage());
+        for (String notInteger : new String[] {"+99999999999", "-", "+", "1.5", "1e3", "--1"}) {
+            assertEquals("Expense index must be an integer", assertThrows(OrCashBuddyException.class,
+                    () -> InputValidator.validateIndex(notInteger, COMMAND)).getMessage(), notInteger);
+        }
+    }
+
+    @Test
+    void validateCount_rejectsNonPositiveAndNonInteger() throws Exception {
+        assertEquals(10, InputValidator.validateCount(" 10 ", "last/", "list"));
+        for (String invalid : new String[] {"0", "-3", "ten", "2147483648", "+"}) {
+            assertThrows(OrCashBuddyException.class, () -> InputValidator.validateCount(invalid, "last/", "list"),
+                    invalid);
+        }
+    }
+
+    @Test
+    void validationFailure_recordsNoStackTrace() {
+        OrCashBuddyException e = assertThrows(OrCashBuddyException.class,
+                () -> InputValidator.validateAmountCents("abc", COMMAND));
+        assertEquals("Amount is not numeric: abc", e.getMessage());
+        assertEquals(0, e.getStackTrace().length);
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.orcashbuddy.parser;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.command.AddCommand;
+import seedu.orcashbuddy.command.ByeCommand;
+import seedu.orcashbuddy.command.EditCommand;
+import seedu.orcashbuddy.command.FindCommand;
+import seedu.orcashbuddy.command.HelpCommand;
+import seedu.orcashbuddy.command.InvalidCommand;
+import seedu.orcashbuddy.command.ListCommand;
+import seedu.orcashbuddy.command.MarkCommand;
+import seedu.orcashbuddy.command.PerfCommand;
+import seedu.orcashbuddy.command.RedoCommand;
+import seedu.orcashbuddy.command.SetBudgetCommand;
+import seedu.orcashbuddy.command.SortCommand;
+import seedu.orcashbuddy.command.UndoCommand;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class ParserTest {
+
+    private Parser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new Parser();
+    }
+
+    @Test
+    void parse_addCommand_returnsAddCommand() {
+        assertInstanceOf(AddCommand.class, parser.parse("add a/5 desc/Coffee cat/Drinks"));
+    }
+
+    @Test
+    void parse_mixedCaseCommandSeparatedByTabs_returnsCommand() {
+        assertInstanceOf(AddCommand.class, parser.parse("  ADD\t \ta/5 desc/Coffee  "));
+        assertInstanceOf(ListCommand.class, parser.parse("list\tpage/2"));
+    }
+
+    @Test
+    void parse_setbudget_returnsSetBudgetCommand() {
+        assertInstanceOf(SetBudgetCommand.class, parser.parse("setbudget a/100"));
+    }
+
+    @Test
+    void parse_mark_returnsMarkCommand() {
+        assertInstanceOf(MarkCommand.class, parser.parse("mark 2"));
+    }
+
+    @Test
+    void parse_list_returnsListCommand() {
+        assertInstanceOf(ListCommand.class, parser.parse("list"));
+    }
+
+    @Test
+    void parse_listWithArguments_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("list extra"));
+    }
+
+    @Test
+    void parse_listPage_returnsListCommand() {
+        assertInstanceOf(ListCommand.class, parser.parse("list page/2 size/50"));
+    }
+
+    @Test
+    void parse_listLast_returnsListCommand() {
+        assertInstanceOf(ListCommand.class, parser.parse("list last/10"));
+    }
+
+    @Test
+    void parse_listPageAndLast_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("list page/1 last/10"));
+    }
+
+    @Test
+    void parse_listZeroPageSize_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("list page/1 size/0"));
+    }
+
+    @Test
+    void parse_sortTop_returnsSortCommand() {
+        assertInstanceOf(SortCommand.class, parser.parse("sort top/10"));
+    }
+
+    @Test
+    void parse_sortTopAndBottom_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("sort top/3 bottom/3"));
+    }
+
+    @Test
+    void parse_sortByMultipleKeys_returnsSortCommand() {
+        assertInstanceOf(SortCommand.class, parser.parse("sort by/category,amount order/desc"));
+    }
+
+    @Test
+    void parse_sortByUnknownKey_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("sort by/colour"));
+    }
+
+    @Test
+    void parse_sortByRepeatedKey_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("sort by/amount,amount"));
+    }
+
+    @Test
+    void parse_sortTopWithBy_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("sort top/3 by/amount"));
+    }
+
+    @Test
+    void parse_sortWithUnknownArgument_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("sort everything"));
+    }
+
+    @Test
+    void parse_findByDescription_returnsFindCommand() {
+        assertInstanceOf(FindCommand.class, parser.parse("find desc/Grab"));
+    }
+
+    @Test
+    void parse_findNonAsciiDescription_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("find desc/午餐"));
+    }
+
+    @Test
+    void parse_findComposedQuery_returnsFindCommand() {
+        assertInstanceOf(FindCommand.class, parser.parse("find cat/Food desc/lunch"));
+        assertInstanceOf(FindCommand.class, parser.parse("find cat/Food AND (a/10..20 OR NOT status/marked)"));
+        assertInstanceOf(FindCommand.class, parser.parse("find explain cat/Food OR cat/Drinks"));
+    }
+
+    @Test
+    void parse_findMalformedQuery_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("find explain"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("find cat/Food OR"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("find a/>abc"));
+    }
+
+    @Test
+    void parse_help_returnsHelpCommand() {
+        assertInstanceOf(HelpCommand.class, parser.parse("help"));
+    }
+
+    @Test
+    void parse_helpWithArguments_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("help now"));
+    }
+
+    @Test
+    void parse_edit_returnsEditCommand() {
+        assertInstanceOf(EditCommand.class, parser.parse("edit id/1 desc/New Lunch cat/Food"));
+    }
+
+    @Test
+    void parse_bye_returnsByeCommand() {
+        assertInstanceOf(ByeCommand.class, parser.parse("bye"));
+    }
+
+    @Test
+    void parse_byeWithArguments_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("bye later"));
+    }
+
+    @Test
+    void parse_undo_returnsUndoCommand() {
+        assertInstanceOf(UndoCommand.class, parser.parse("undo"));
+    }
+
+    @Test
+    void parse_redo_returnsRedoCommand() {
+        assertInstanceOf(RedoCommand.class, parser.parse("redo"));
+    }
+
+    @Test
+    void parse_perf_returnsPerfCommand() {
+        assertInstanceOf(PerfCommand.class, parser.parse("perf"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("perf all"));
+    }
+
+    @Test
+    void parse_undoWithArguments_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("undo 2"));
+    }
+
+    @Test
+    void parse_unknownCommand_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("unknown something"));
+    }
+
+    @Test
+    void parse_addMissingDescription_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("add a/10"));
+    }
+
+    @Test
+    void parse_addNonAsciiDescription_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("add a/5 desc/午餐"));
+    }
+
+    @Test
+    void parse_addInvalidCategory_returnsInvalidCommand() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("add a/10 desc/test cat/2f"));
+    }
+}
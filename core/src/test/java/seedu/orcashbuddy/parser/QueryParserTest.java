@@ -0,0 +1,107 @@
+package seedu.orcashbuddy.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.query.AmountQuery;
+import seedu.orcashbuddy.query.AndQuery;
+import seedu.orcashbuddy.query.CategoryQuery;
+import seedu.orcashbuddy.query.DescriptionQuery;
+import seedu.orcashbuddy.query.ExpenseQuery;
+import seedu.orcashbuddy.query.FuzzyDescriptionQuery;
+import seedu.orcashbuddy.query.OrQuery;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QueryParserTest {
+
+    private static String parse(String input) throws OrCashBuddyException {
+        return new QueryParser(input).parse().describe();
+    }
+
+    @Test
+    void parse_singleTerm_returnsTermQuery() throws Exception {
+        assertInstanceOf(CategoryQuery.class, new QueryParser("cat/ Food ").parse());
+        ExpenseQuery query = new QueryParser("desc/team lunch").parse();
+        assertInstanceOf(DescriptionQuery.class, query);
+        assertEquals("desc/team lunch", query.describe());
+    }
+
+    @Test
+    void parse_adjacentTerms_combinedWithAnd() throws Exception {
+        ExpenseQuery query = new QueryParser("cat/Food desc/lunch a/>50").parse();
+        assertInstanceOf(AndQuery.class, query);
+        assertEquals("cat/Food AND desc/lunch AND a/>=50.01", query.describe());
+    }
+
+    @Test
+    void parse_andBindsTighterThanOr() throws Exception {
+        ExpenseQuery query = new QueryParser("cat/Food AND a/<10 OR status/marked").parse();
+        assertInstanceOf(OrQuery.class, query);
+        assertEquals("(cat/Food AND a/<=9.99) OR status/marked", query.describe());
+    }
+
+    @Test
+    void parse_brackets_overridePrecedence() throws Exception {
+        assertEquals("cat/Food AND (desc/lunch OR desc/dinner)",
+                parse("cat/Food AND (desc/lunch OR desc/dinner)"));
+        assertEquals("NOT (cat/Food OR cat/Drinks) AND status/unmarked",
+                parse("NOT ( cat/Food OR cat/Drinks ) status/unmarked"));
+    }
+
+    @Test
+    void parse_amountForms_convertedToInclusiveCentRanges() throws Exception {
+        AmountQuery range = (AmountQuery) new QueryParser("a/10..20.5").parse();
+        assertEquals(1000, range.getMinCents());
+        assertEquals(2050, range.getMaxCents());
+        assertEquals("a/>=50.00", parse("a/>=50"));
+        assertEquals("a/12.34", parse("a/12.34"));
+    }
+
+    @Test
+    void parse_bracketsInsideDescription_keptAsLiteralText() throws Exception {
+        assertEquals("desc/lunch (team)", parse("desc/lunch (team)"));
+        assertEquals("cat/Food AND desc/lunch (team)", parse("(cat/Food AND desc/lunch (team))"));
+    }
+
+    @Test
+    void parse_spacesInsideValue_keptAsTyped() throws Exception {
+        assertEquals("desc/team  lunch", parse("  desc/team  lunch   "));
+        assertEquals("desc/team   lunch AND cat/Food", parse("desc/team   lunch\tcat/Food"));
+        assertEquals("desc/team  lunch", parse("(desc/team  lunch )"));
+        assertEquals("a/<=9.99", parse("a/<\t10"));
+    }
+
+    @Test
+    void parse_lowerCaseOperators_treatedAsText() throws Exception {
+        assertEquals("desc/fish and chips", parse("desc/fish and chips"));
+    }
+
+    @Test
+    void parse_fuzzyDescription_returnsFuzzyQuery() throws Exception {
+        ExpenseQuery query = new QueryParser("fuzzy/ desc/Resturant bill").parse();
+        assertInstanceOf(FuzzyDescriptionQuery.class, query);
+        assertEquals(List.of("resturant", "bill"), ((FuzzyDescriptionQuery) query).getWords());
+        assertEquals("fuzzy/2 desc/cofee", parse("fuzzy/2 desc/cofee"));
+        assertEquals("fuzzy/ desc/cofee AND cat/Food", parse("fuzzy/desc/cofee cat/Food"));
+    }
+
+    @Test
+    void parse_invalidQueries_throw() {
+        assertThrows(OrCashBuddyException.class, () -> parse(""));
+        assertThrows(OrCashBuddyException.class, () -> parse("lunch"));
+        assertThrows(OrCashBuddyException.class, () -> parse("cat/"));
+        assertThrows(OrCashBuddyException.class, () -> parse("cat/Food AND"));
+        assertThrows(OrCashBuddyException.class, () -> parse("(cat/Food OR desc/x"));
+        assertThrows(OrCashBuddyException.class, () -> parse("a/20..10"));
+        assertThrows(OrCashBuddyException.class, () -> parse("a/>abc"));
+        assertThrows(OrCashBuddyException.class, () -> parse("status/paid"));
+        assertThrows(OrCashBuddyException.class, () -> parse("fuzzy/ cofee"));
+        assertThrows(OrCashBuddyException.class, () -> parse("fuzzy/4 desc/cofee"));
+        assertThrows(OrCashBuddyException.class, () -> parse("fuzzy/ cat/Food"));
+        assertThrows(OrCashBuddyException.class, () -> parse("fuzzy/ desc/!!"));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.orcashbuddy.perf;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void buckets_coverEveryDurationInOrder() {
+        assertEquals(0, LatencyHistogram.bucketOf(0));
+        assertEquals(7, LatencyHistogram.bucketOf(7));
+        for (long nanos : new long[] {8, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucketOf(nanos);
+            assertTrue(nanos <= LatencyHistogram.bucketUpperBound(bucket), () -> "upper bound of " + nanos);
+            assertTrue(bucket == 0 || nanos > LatencyHistogram.bucketUpperBound(bucket - 1),
+                    () -> "lower bound of " + nanos);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void percentiles_areWithinOneBucketOfExactValues() {
+        Random random = new Random(44);
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] durations = new long[10_000];
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = (long) Math.exp(random.nextDouble() * 20);
+            histogram.record(durations[i]);
+        }
+        Arrays.sort(durations);
+
+        for (double percentile : new double[] {1, 50, 90, 99, 100}) {
+            long exact = durations[(int) Math.ceil(durations.length * percentile / 100) - 1];
+            long estimate = histogram.getPercentileNanos(percentile);
+            assertTrue(estimate >= exact && estimate <= exact + exact / 8, () -> percentile + "th: " + estimate);
+        }
+        assertEquals(durations[durations.length - 1], histogram.getMaxNanos());
+        assertEquals(Arrays.stream(durations).sum(), histogram.getTotalNanos());
+        assertEquals(durations.length, histogram.getCount());
+    }
+
+    @Test
+    void emptyHistogram_reportsZero() {
+        assertEquals(0, new LatencyHistogram().getPercentileNanos(99));
+    }
+
+    @Test
+    void disabledRecorder_recordsNothing() {
+        PerfRecorder recorder = PerfRecorder.disabled();
+        recorder.record(PerfRecorder.PARSE, recorder.start());
+        assertTrue(recorder.getHistograms().isEmpty());
+
+        PerfRecorder enabled = PerfRecorder.enabled();
+        enabled.record(LatencyHistogramTest.class, enabled.start());
+        enabled.record(PerfRecorder.PARSE, enabled.start());
+        assertEquals("[latencyhistogramtest, parse]", enabled.getHistograms().keySet().toString());
+    }
+}
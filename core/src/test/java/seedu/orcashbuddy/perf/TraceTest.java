@@ -0,0 +1,66 @@
+package seedu.orcashbuddy.perf;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TraceTest {
+
+    @Test
+    void recordedInput_isReadBackInOrderWithNonDecreasingTimes() throws IOException {
+        Path path = Files.createTempFile("trace", ".trc");
+        try {
+            try (TraceWriter writer = TraceWriter.open(path)) {
+                writer.record("add a/5 desc/lunch\tbox cat/food");
+                writer.record("");
+                writer.record("list");
+            }
+
+            List<TraceReader.Entry> entries = TraceReader.read(path);
+            assertEquals(3, entries.size());
+            assertEquals("add a/5 desc/lunch\tbox cat/food", entries.get(0).input());
+            assertEquals("", entries.get(1).input());
+            assertEquals("list", entries.get(2).input());
+            assertTrue(entries.get(0).offsetMillis() <= entries.get(2).offsetMillis());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    void open_replacesExistingTrace() throws IOException {
+        Path path = Files.createTempFile("trace", ".trc");
+        try {
+            Files.writeString(path, "5\tlist\n", StandardCharsets.UTF_8);
+            TraceWriter.open(path).close();
+
+            assertEquals(TraceWriter.HEADER + "\n", Files.readString(path, StandardCharsets.UTF_8));
+            assertEquals(List.of(), TraceReader.read(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    void read_malformedLine_throwsWithLineNumber() throws IOException {
+        Path path = Files.createTempFile("trace", ".trc");
+        try {
+            Files.writeString(path, "# comment\n5\tlist\n-1\tlist\n", StandardCharsets.UTF_8);
+            IOException e = assertThrows(IOException.class, () -> TraceReader.read(path));
+            assertTrue(e.getMessage().startsWith("Line 3 "), e.getMessage());
+
+            Files.writeString(path, "list\n", StandardCharsets.UTF_8);
+            assertThrows(IOException.class, () -> TraceReader.read(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.query.AmountQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AmountIndexTest {
+
+    private static int[] scan(List<Expense> expenses, long minCents, long maxCents) {
+        return IntStream.range(0, expenses.size())
+                .filter(i -> {
+                    long cents = AmountQuery.toCents(expenses.get(i).getAmount());
+                    return cents >= minCents && cents <= maxCents;
+                })
+                .toArray();
+    }
+
+    private static Expense randomExpense(Random random) {
+        // Few distinct amounts, so many entries share a key
+        return new Expense((1 + random.nextInt(40)) * 2.5, "item", "misc");
+    }
+
+    @Test
+    void lookup_afterRandomChanges_matchesLinearScanInListOrder() {
+        Random random = new Random(7);
+        List<Expense> expenses = new ArrayList<>();
+        // Large enough to span several blocks, so blocks are split and emptied along the way
+        for (int i = 0; i < 3_000; i++) {
+            expenses.add(randomExpense(random));
+        }
+        AmountIndex index = new AmountIndex();
+        index.rebuild(expenses);
+
+        for (int step = 0; step < 10_000; step++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expenses.isEmpty()) {
+                Expense expense = randomExpense(random);
+                expenses.add(expense);
+                index.expenseInserted(expenses.size() - 1, expense);
+            } else if (operation == 1) {
+                int position = random.nextInt(expenses.size() + 1);
+                Expense expense = randomExpense(random);
+                expenses.add(position, expense);
+                index.expenseInserted(position, expense);
+            } else if (operation == 2) {
+                int position = random.nextInt(expenses.size());
+                index.expenseRemoved(position, expenses.remove(position));
+            } else {
+                int position = random.nextInt(expenses.size());
+                Expense expense = randomExpense(random);
+                index.expenseReplaced(position, expenses.set(position, expense), expense);
+            }
+
+            long min = random.nextInt(10_500);
+            long max = min + random.nextInt(5_000);
+            IndexAccess access = index.lookup(min, max);
+            int[] expected = scan(expenses, min, max);
+            assertEquals(expected.length, access.estimate());
+            assertArrayEquals(expected, access.positions());
+        }
+    }
+
+    @Test
+    void lookup_openUpperBound_includesLargestAmounts() {
+        List<Expense> expenses = List.of(new Expense(1_000_000_000_000.0, "a", "x"),
+                new Expense(0.01, "b", "x"), new Expense(1000.01, "c", "x"));
+        AmountIndex index = new AmountIndex();
+        index.rebuild(expenses);
+
+        assertArrayEquals(new int[]{0, 2}, index.lookup(100_001, AmountQuery.NO_UPPER_BOUND).positions());
+        assertArrayEquals(new int[]{1}, index.lookup(0, 1).positions());
+        assertEquals(0, index.lookup(2, 100_000).estimate());
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.query.EditDistance;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BkTreeTest {
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(7);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(5))); // small alphabet, so many words are close
+        }
+        return word.toString();
+    }
+
+    @Test
+    void editDistance_knownPairs() {
+        assertEquals(1, EditDistance.between("resturant", "restaurant"));
+        assertEquals(3, EditDistance.between("kitten", "sitting"));
+        assertEquals(4, EditDistance.between("", "taxi"));
+        assertTrue(EditDistance.isWithin("cofee", "coffee", 1));
+        assertFalse(EditDistance.isWithin("cofee", "toffees", 1));
+    }
+
+    @Test
+    void search_matchesBruteForce() {
+        Random random = new Random(3);
+        BkTree tree = new BkTree();
+        Set<String> words = new HashSet<>();
+        for (int i = 0; i < 2_000; i++) {
+            String word = randomWord(random);
+            tree.add(word);
+            words.add(word);
+        }
+        assertEquals(words.size(), tree.size());
+
+        for (int i = 0; i < 200; i++) {
+            String query = randomWord(random);
+            int maxDistance = random.nextInt(3);
+            List<String> expected = new ArrayList<>();
+            for (String word : words) {
+                if (EditDistance.between(query, word) <= maxDistance) {
+                    expected.add(word);
+                }
+            }
+            assertEquals(new HashSet<>(expected), new HashSet<>(tree.search(query, maxDistance)));
+        }
+    }
+}
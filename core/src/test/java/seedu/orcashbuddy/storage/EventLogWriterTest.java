@@ -0,0 +1,97 @@
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventLogWriterTest {
+
+    @Test
+    void everyChange_isReportedOnceWithConsecutiveVersions() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        List<ExpenseEvent> events = new ArrayList<>();
+        manager.addListener(events::add);
+
+        manager.addExpense(new Expense(12.50, "lunch", "food"));
+        manager.setBudget(100.0);
+        manager.markExpense(1);
+        manager.editExpense(1, new Expense(3.0, "coffee", "food"));
+        manager.undo();
+        manager.deleteExpense(1);
+
+        assertEquals(6, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(i + 1, events.get(i).version());
+        }
+        assertEquals(new ExpenseEvent.BudgetSet(2, 0.0, 100.0), events.get(1));
+        assertEquals(ExpenseEvent.ExpenseMarked.class, events.get(2).getClass());
+        // Undoing the edit is reported as the opposite replacement
+        ExpenseEvent.ExpenseReplaced undone = (ExpenseEvent.ExpenseReplaced) events.get(4);
+        assertEquals("coffee", undone.oldExpense().getDescription());
+        assertEquals("lunch", undone.newExpense().getDescription());
+        assertEquals(manager.getSnapshot().getVersion(), events.get(5).version());
+    }
+
+    @Test
+    void format_writesTabSeparatedFieldsInCents() {
+        Expense expense = new Expense(12.5, "lunch box", "food").withMarked(true);
+
+        assertEquals("3\tADDED\t0\t1250\t1\tfood\tlunch box",
+                EventLogWriter.format(new ExpenseEvent.ExpenseAdded(3, 0, expense)));
+        assertEquals("4\tUNMARKED\t2",
+                EventLogWriter.format(new ExpenseEvent.ExpenseUnmarked(4, 2, expense.withMarked(false))));
+        assertEquals("5\tBUDGET_SET\t0\t10000", EventLogWriter.format(new ExpenseEvent.BudgetSet(5, 0.0, 100.0)));
+    }
+
+    @Test
+    void formatSession_writesStartTimeAndStateInCents() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        manager.setBudget(80.0);
+        manager.addExpense(new Expense(12.5, "lunch", "food"));
+        manager.addExpense(new Expense(3.0, "bus", "transport"));
+        manager.markExpense(1);
+
+        assertEquals("4\tSESSION\t2026-01-02T03:04:05Z\t2\t8000\t1250",
+                EventLogWriter.formatSession(manager.getSnapshot(), Instant.parse("2026-01-02T03:04:05Z")));
+    }
+
+    @Test
+    void format_escapesSeparatorsInText() {
+        Expense expense = new Expense(1.0, "a\tb\\c\nd", "misc");
+
+        assertEquals("1\tDELETED\t0\t100\t0\tmisc\ta\\tb\\\\c\\nd",
+                EventLogWriter.format(new ExpenseEvent.ExpenseDeleted(1, 0, expense)));
+    }
+
+    @Test
+    void onEvent_appendsLinesToExistingFile() throws Exception {
+        Path file = Files.createTempFile("events", ".log");
+        try {
+            Files.writeString(file, "earlier\n");
+            ExpenseManager manager = new ExpenseManager();
+            try (EventLogWriter eventLog = EventLogWriter.open(file, manager.getSnapshot())) {
+                manager.addListener(eventLog);
+                manager.addExpense(new Expense(2.0, "bus", "transport"));
+                manager.setBudget(50.0);
+            }
+
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            assertEquals(4, lines.size());
+            assertEquals("earlier", lines.get(0));
+            assertTrue(lines.get(1).startsWith("0\tSESSION\t"), lines.get(1));
+            assertEquals(List.of("1\tADDED\t0\t200\t0\ttransport\tbus", "2\tBUDGET_SET\t0\t5000"),
+                    lines.subList(2, 4));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
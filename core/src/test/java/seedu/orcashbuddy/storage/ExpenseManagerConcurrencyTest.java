@@ -0,0 +1,286 @@
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.query.CategoryQuery;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs readers and writers against one {@link ExpenseManager} at the same time.
+ */
+class ExpenseManagerConcurrencyTest {
+    private static final int WRITERS = 3;
+    private static final int READERS = 3;
+    private static final int CHANGES_PER_WRITER = 3_000;
+    private static final String[] CATEGORIES = {"food", "transport", "misc"};
+
+    @Test
+    void concurrentReadsAndWrites_totalsInvariantHolds() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch writersDone = new CountDownLatch(WRITERS);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            long seed = w;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    Random random = new Random(seed);
+                    for (int i = 0; i < CHANGES_PER_WRITER; i++) {
+                        applyRandomChange(manager, random);
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                } finally {
+                    writersDone.countDown();
+                }
+            }));
+        }
+        for (int r = 0; r < READERS; r++) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    while (isWriting.get()) {
+                        checkConsistentReads(manager);
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        start.countDown();
+        writersDone.await();
+        isWriting.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.isEmpty(), () -> "Concurrent access failed: " + failures.peek());
+        assertTotalsInvariant(roundTrip(manager));
+        for (String category : CATEGORIES) {
+            long expected = manager.getExpenses().stream()
+                    .filter(expense -> expense.getCategory().equals(category))
+                    .count();
+            assertEquals(expected, manager.findExpenses(new CategoryQuery(category)).size());
+        }
+    }
+
+    @Test
+    void concurrentMarks_onDistinctExpenses_countEveryAmountExactly() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        int expenseCount = 4_000;
+        long expectedCents = 0;
+        for (int i = 1; i <= expenseCount; i++) {
+            // Amounts such as $0.10 are not exact doubles, so a summed double would drift
+            manager.addExpense(new Expense(i / 10.0, "item", "misc"));
+            if (i % 2 == 0) {
+                expectedCents += i * 10L;
+            }
+        }
+
+        int threadCount = 8;
+        runInParallel(threadCount, thread -> {
+            for (int index = 1 + thread; index <= expenseCount; index += threadCount) {
+                manager.markExpense(index);
+            }
+            for (int index = 1 + thread; index <= expenseCount; index += threadCount) {
+                if (index % 2 == 1) {
+                    manager.unmarkExpense(index);
+                }
+            }
+        });
+
+        assertEquals(expectedCents / 100.0, manager.getTotalExpenses());
+        assertEquals(-expectedCents / 100.0, manager.getBudgetData().remainingBalance());
+    }
+
+    @Test
+    void concurrentToggles_onSharedExpenses_keepUndoLogInOrder() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        int expenseCount = 2;
+        for (int i = 1; i <= expenseCount; i++) {
+            manager.addExpense(new Expense(i * 1.10, "item", "misc"));
+        }
+
+        runInParallel(4, thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < 20_000; i++) {
+                int index = 1 + random.nextInt(expenseCount);
+                try {
+                    if (random.nextBoolean()) {
+                        manager.markExpense(index);
+                    } else {
+                        manager.unmarkExpense(index);
+                    }
+                } catch (OrCashBuddyException e) {
+                    // Already in that state
+                }
+            }
+        });
+        assertTotalsInvariant(manager);
+
+        // Each undo asserts that it reverts the expense's current state
+        for (int i = 0; i < UndoLog.DEFAULT_CAPACITY; i++) {
+            manager.undo();
+            assertTotalsInvariant(manager);
+        }
+    }
+
+    @Test
+    void pinnedSnapshot_isUnchangedByConcurrentWrites() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        for (int i = 1; i <= 500; i++) {
+            manager.addExpense(new Expense(i, "item", "misc"));
+        }
+        manager.markExpense(1);
+        ExpenseSnapshot snapshot = manager.getSnapshot();
+        List<Expense> pinnedExpenses = new ArrayList<>(snapshot.getExpenses());
+        BudgetData pinnedBudgetData = snapshot.getBudgetData();
+
+        runInParallel(WRITERS, thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < CHANGES_PER_WRITER; i++) {
+                applyRandomChange(manager, random);
+            }
+        });
+
+        assertTrue(manager.getSnapshot().getVersion() > snapshot.getVersion());
+        assertEquals(pinnedExpenses, snapshot.getExpenses());
+        assertEquals(pinnedBudgetData, snapshot.getBudgetData());
+        assertTotalsInvariant(manager);
+    }
+
+    @Test
+    void pinnedSnapshot_isUnchangedByConcurrentMarks() throws Exception {
+        ExpenseManager manager = new ExpenseManager();
+        for (int i = 1; i <= WRITERS; i++) {
+            manager.addExpense(new Expense(i, "item", "misc"));
+        }
+        manager.setBudget(100);
+        ExpenseSnapshot snapshot = manager.getSnapshot();
+
+        runInParallel(WRITERS, thread -> manager.markExpense(thread + 1));
+
+        assertEquals(snapshot.getVersion() + WRITERS, manager.getSnapshot().getVersion());
+        for (Expense expense : snapshot.getExpenses()) {
+            assertFalse(expense.isMarked());
+        }
+        assertEquals(new BudgetData(100, 0, 100), snapshot.getBudgetData());
+        assertTotalsInvariant(manager);
+    }
+
+    /**
+     * A task run by one of several threads, given the thread's number.
+     */
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+
+    private static void runInParallel(int threadCount, ThreadTask task) throws InterruptedException {
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int thread = t;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    task.run(thread);
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(failures.isEmpty(), () -> "Concurrent access failed: " + failures.peek());
+    }
+
+    private static void applyRandomChange(ExpenseManager manager, Random random) {
+        int size = manager.getSize();
+        int index = 1 + random.nextInt(Math.max(1, size));
+        try {
+            int choice = random.nextInt(10);
+            if (choice < 3 || size == 0) {
+                manager.addExpense(new Expense((1 + random.nextInt(10_000)) / 100.0, "item",
+                        CATEGORIES[random.nextInt(CATEGORIES.length)]));
+            } else if (choice < 5) {
+                manager.markExpense(index);
+            } else if (choice < 6) {
+                manager.unmarkExpense(index);
+            } else if (choice < 7) {
+                manager.deleteExpense(index);
+            } else if (choice < 8) {
+                manager.editExpense(index, new Expense((1 + random.nextInt(5_000)) / 100.0, "edited", "misc"));
+            } else if (choice < 9) {
+                manager.undo();
+            } else {
+                manager.setBudget(50.0 * (1 + random.nextInt(20)));
+            }
+        } catch (OrCashBuddyException e) {
+            // Another writer changed the list first, or the expense was already in that state
+        }
+    }
+
+    private static void checkConsistentReads(ExpenseManager manager) throws Exception {
+        BudgetData budgetData = manager.getBudgetData();
+        assertEquals(budgetData.budget() - budgetData.totalExpenses(), budgetData.remainingBalance(), 0.001);
+
+        List<Expense> sorted = manager.sortExpenses();
+        for (int i = 1; i < sorted.size(); i++) {
+            assertTrue(sorted.get(i - 1).getAmount() >= sorted.get(i).getAmount(), "Sort order broken");
+        }
+
+        for (Expense expense : manager.findExpenses(new CategoryQuery("food"))) {
+            assertEquals("food", expense.getCategory());
+        }
+
+        // Saving takes a consistent copy, which is what a background save would write
+        assertTotalsInvariant(roundTrip(manager));
+    }
+
+    private static void assertTotalsInvariant(ExpenseManager manager) {
+        double markedTotal = manager.getExpenses().stream()
+                .filter(Expense::isMarked)
+                .mapToDouble(Expense::getAmount)
+                .sum();
+        assertEquals(markedTotal, manager.getTotalExpenses(), 0.001);
+        assertEquals(manager.getBudget() - manager.getTotalExpenses(), manager.getRemainingBalance(), 0.001);
+    }
+
+    private static ExpenseManager roundTrip(ExpenseManager manager) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(manager);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (ExpenseManager) in.readObject();
+        }
+    }
+}
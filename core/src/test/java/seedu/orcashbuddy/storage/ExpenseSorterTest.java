@@ -0,0 +1,76 @@
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class ExpenseSorterTest {
+
+    @Test
+    void radixSort_matchesStableComparisonSort() {
+        Random random = new Random(42);
+        int size = 5_000;
+        long[] keys = new long[size];
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            // Mix small and very large cent values so several radix passes are exercised
+            keys[i] = (i % 3 == 0) ? random.nextInt(50) : (long) (random.nextDouble() * 100_000_000_000_000L);
+            positions[i] = i;
+        }
+        long[] keysCopy = keys.clone();
+
+        Integer[] expected = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            expected[i] = i;
+        }
+        Arrays.sort(expected, Comparator.comparingLong(i -> keysCopy[i]));
+
+        ExpenseSorter.radixSort(positions, keys);
+
+        assertArrayEquals(Arrays.stream(expected).mapToInt(Integer::intValue).toArray(), positions);
+    }
+
+    @Test
+    void sortedPositions_multipleKeys_matchesComparatorChain() {
+        Random random = new Random(7);
+        String[] categories = {"Food", "food", "Transport", "Misc", "Venue"};
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            Expense expense = new Expense((random.nextInt(500) + 1) / 100.0 * 25,
+                    "Item " + random.nextInt(100), categories[random.nextInt(categories.length)]);
+            expenses.add(expense.withMarked(random.nextBoolean()));
+        }
+
+        List<SortKey> keys = List.of(SortKey.STATUS, SortKey.CATEGORY, SortKey.AMOUNT);
+        Comparator<Integer> chain = Comparator.<Integer, Boolean>comparing(i -> expenses.get(i).isMarked())
+                .thenComparing(i -> expenses.get(i).getCategory(), String.CASE_INSENSITIVE_ORDER)
+                .thenComparingDouble(i -> expenses.get(i).getAmount());
+
+        assertArrayEquals(expectedPositions(expenses.size(), chain),
+                ExpenseSorter.sortedPositions(expenses, keys, true));
+        assertArrayEquals(expectedPositions(expenses.size(), reverseKeys(expenses)),
+                ExpenseSorter.sortedPositions(expenses, keys, false));
+    }
+
+    private static Comparator<Integer> reverseKeys(List<Expense> expenses) {
+        return Comparator.<Integer, Boolean>comparing(i -> expenses.get(i).isMarked(), Comparator.reverseOrder())
+                .thenComparing(i -> expenses.get(i).getCategory(), String.CASE_INSENSITIVE_ORDER.reversed())
+                .thenComparing(i -> expenses.get(i).getAmount(), Comparator.reverseOrder());
+    }
+
+    private static int[] expectedPositions(int size, Comparator<Integer> comparator) {
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            positions.add(i);
+        }
+        positions.sort(comparator); // List.sort is stable, so ties keep their original order
+        return positions.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.command.CommandResult;
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.parser.InputValidator;
+import seedu.orcashbuddy.parser.Parser;
+
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LedgerGeneratorTest {
+
+    @Test
+    void generate_sameSeed_producesSameLedger() {
+        ExpenseManager first = new LedgerGenerator(7, 12, 3, 0.5).generate(500, 0);
+        ExpenseManager second = new LedgerGenerator(7, 12, 3, 0.5).generate(500, 0);
+        ExpenseManager otherSeed = new LedgerGenerator(8, 12, 3, 0.5).generate(500, 0);
+
+        assertEquals(500, first.getSize());
+        assertEquals(describe(first), describe(second));
+        assertEquals(first.getBudget(), second.getBudget());
+        assertNotEquals(describe(first), describe(otherSeed));
+    }
+
+    @Test
+    void generate_followsSettings() throws Exception {
+        ExpenseManager manager = new LedgerGenerator(1, 30, 5, 0.25).generate(4000, 0);
+
+        Set<String> categories = new HashSet<>();
+        int markedCount = 0;
+        long wordCount = 0;
+        for (Expense expense : manager.getExpenses()) {
+            categories.add(InputValidator.validateCategory(expense.getCategory(), "add"));
+            markedCount += expense.isMarked() ? 1 : 0;
+            wordCount += expense.getDescription().split(" ").length;
+            assertTrue(expense.getAmount() >= 0.01 && expense.getAmount() <= 1000);
+        }
+        assertTrue(categories.size() > 20 && categories.size() <= 30, "categories: " + categories.size());
+        assertTrue(markedCount > 900 && markedCount < 1100, "marked: " + markedCount);
+        assertTrue(wordCount > 4000 * 4.5 && wordCount < 4000 * 5.5, "words: " + wordCount);
+        assertTrue(manager.getBudget() > manager.getTotalExpenses());
+    }
+
+    @Test
+    void generate_givenBudget_usesIt() {
+        assertEquals(250.0, new LedgerGenerator(1, 12, 3, 1).generate(10, 250.0).getBudget());
+    }
+
+    @Test
+    void writeScript_replaysToGeneratedLedger() throws Exception {
+        LedgerGenerator generator = new LedgerGenerator(3, 12, 2, 0.4);
+        StringWriter script = new StringWriter();
+        generator.writeScript(200, 0, script);
+
+        ExpenseManager replayed = new ExpenseManager();
+        Parser parser = new Parser();
+        for (String line : script.toString().split("\n")) {
+            CommandResult result = parser.parse(line).execute(replayed);
+            assertFalse(result instanceof CommandResult.InputRejected, line);
+        }
+
+        ExpenseManager generated = generator.generate(200, 0);
+        assertEquals(describe(generated), describe(replayed));
+        assertEquals(generated.getBudget(), replayed.getBudget());
+    }
+
+    @Test
+    void constructor_invalidSettings_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new LedgerGenerator(1, 0, 3, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new LedgerGenerator(1, 12, 0.5, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new LedgerGenerator(1, 12, 3, 1.5));
+    }
+
+    private static List<String> describe(ExpenseManager manager) {
+        return manager.getExpenses().stream().map(Expense::formatForDisplay).toList();
+    }
+}
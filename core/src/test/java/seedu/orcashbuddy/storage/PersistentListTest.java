@@ -0,0 +1,77 @@
+package seedu.orcashbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PersistentListTest {
+
+    @Test
+    void randomUpdates_matchArrayList() {
+        Random random = new Random(11);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 20_000; i++) {
+            int choice = random.nextInt(4);
+            if (choice < 2 || expected.isEmpty()) {
+                int position = random.nextInt(expected.size() + 1);
+                expected.add(position, i);
+                list = list.insert(position, i);
+            } else if (choice < 3) {
+                int position = random.nextInt(expected.size());
+                expected.remove(position);
+                list = list.remove(position);
+            } else {
+                int position = random.nextInt(expected.size());
+                expected.set(position, i);
+                list = list.set(position, i);
+            }
+        }
+
+        assertEquals(expected, list.asList());
+        for (int position = 0; position < expected.size(); position += 97) {
+            assertEquals(expected.get(position), list.get(position));
+        }
+    }
+
+    @Test
+    void updates_leaveEarlierVersionsUnchanged() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            values.add(i);
+        }
+        PersistentList<Integer> original = PersistentList.of(values);
+
+        PersistentList<Integer> changed = original.remove(0).insert(500, -1).set(999, -2);
+
+        assertEquals(values, original.asList());
+        assertEquals(1_000, changed.size());
+        assertEquals(Integer.valueOf(1), changed.get(0));
+        assertEquals(Integer.valueOf(-1), changed.get(500));
+        assertEquals(Integer.valueOf(-2), changed.get(999));
+    }
+
+    @Test
+    void insertInOrder_staysBalanced() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100_000; i++) {
+            list = list.insert(list.size(), i);
+        }
+        // Inserting recurses down the tree, so appending to an unbalanced tree would overflow the stack
+        assertEquals(100_000, list.size());
+        assertEquals(Integer.valueOf(99_999), list.get(99_999));
+    }
+
+    @Test
+    void outOfBoundsPosition_throws() {
+        PersistentList<Integer> list = PersistentList.of(List.of(1, 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(4, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+    }
+}
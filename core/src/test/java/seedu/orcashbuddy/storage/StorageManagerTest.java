@@ -6,11 +6,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
-import seedu.orcashbuddy.ui.Ui;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -23,24 +23,21 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
  * This class tests the saving and loading functionality of ExpenseManager objects.
  * It includes tests for normal operation, handling missing files, and cleanup after tests.
  */
-
-class MockUi extends Ui { }
-
 public class StorageManagerTest {
 
     private static final String DIRECTORY = "data";
     private static final String FILE_NAME = "appdata.ser";
 
-    private Ui ui;
+    private List<String> errors;
     private ExpenseManager manager;
 
     /**
-     * Sets up a new ExpenseManager and MockUi before each test.
+     * Sets up a new ExpenseManager and an empty list of reported errors before each test.
      * Also deletes any previous test files or directories to ensure a clean environment.
      */
     @BeforeEach
     void setUp() {
-        ui = new MockUi();
+        errors = new ArrayList<>();
         manager = new ExpenseManager();
         // Delete previous test data if exists
         cleanupTestFiles();
@@ -58,10 +55,10 @@ public class StorageManagerTest {
         manager.setBudget(200.0);
 
         // Save
-        StorageManager.saveExpenseManager(manager, ui);
+        StorageManager.saveExpenseManager(manager, errors::add);
 
         // Load
-        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(errors::add);
 
         // Verify data loaded correctly
         assertEquals(manager.getTotalExpenses(), loadedManager.getTotalExpenses());
@@ -73,6 +70,7 @@ public class StorageManagerTest {
         assertEquals(expense.getAmount(), loadedExpenses.get(0).getAmount());
         assertEquals(expense.getDescription(), loadedExpenses.get(0).getDescription());
         assertEquals(expense.getCategory(), loadedExpenses.get(0).getCategory());
+        assertTrue(errors.isEmpty());
     }
 
     /**
@@ -87,7 +85,7 @@ public class StorageManagerTest {
             file.delete();
         }
 
-        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(errors::add);
 
         // Should return empty ExpenseManager
         assertEquals(0, loadedManager.getSize());
@@ -100,10 +98,10 @@ public class StorageManagerTest {
     @Test
     void testSaveAndLoadEmptyExpenseManager() {
         // Save empty manager
-        StorageManager.saveExpenseManager(manager, ui);
+        StorageManager.saveExpenseManager(manager, errors::add);
 
         // Load
-        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(errors::add);
 
         // Verify empty state
         assertEquals(0, loadedManager.getSize());
@@ -132,10 +130,10 @@ public class StorageManagerTest {
         manager.markExpense(2);
 
         // Save
-        StorageManager.saveExpenseManager(manager, ui);
+        StorageManager.saveExpenseManager(manager, errors::add);
 
         // Load
-        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(errors::add);
 
         // Verify all expenses loaded
         assertEquals(3, loadedManager.getSize());
@@ -171,7 +169,7 @@ public class StorageManagerTest {
         }
 
         // Save should create directory
-        StorageManager.saveExpenseManager(manager, ui);
+        StorageManager.saveExpenseManager(manager, errors::add);
 
         // Verify directory exists
         assertTrue(dir.exists());
@@ -194,7 +192,7 @@ public class StorageManagerTest {
         }
 
         // Load should handle missing file gracefully
-        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(errors::add);
 
         // Should return empty manager
         assertNotNull(loadedManager);
@@ -220,7 +218,7 @@ public class StorageManagerTest {
         }
 
         // Load should handle corrupted file gracefully
-        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(errors::add);
 
         // Should return empty manager
         assertNotNull(loadedManager);
@@ -242,10 +240,10 @@ public class StorageManagerTest {
         manager.markExpense(1);
 
         // Save
-        StorageManager.saveExpenseManager(manager, ui);
+        StorageManager.saveExpenseManager(manager, errors::add);
 
         // Load
-        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(errors::add);
 
         // Verify marked status
         List<Expense> expenses = loadedManager.getExpenses();
@@ -272,8 +270,8 @@ public class StorageManagerTest {
         double originalRemaining = manager.getRemainingBalance();
 
         // Save and load
-        StorageManager.saveExpenseManager(manager, ui);
-        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        StorageManager.saveExpenseManager(manager, errors::add);
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(errors::add);
 
         // Verify calculations
         assertEquals(originalTotal, loadedManager.getTotalExpenses());
@@ -289,15 +287,15 @@ public class StorageManagerTest {
         // First save
         manager.addExpense(new Expense(100.0, "First", "Category1"));
         manager.setBudget(200.0);
-        StorageManager.saveExpenseManager(manager, ui);
+        StorageManager.saveExpenseManager(manager, errors::add);
 
         // Second save with different data
         manager.addExpense(new Expense(50.0, "Second", "Category2"));
         manager.setBudget(300.0);
-        StorageManager.saveExpenseManager(manager, ui);
+        StorageManager.saveExpenseManager(manager, errors::add);
 
         // Load and verify latest data
-        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(errors::add);
         assertEquals(2, loadedManager.getSize());
         assertEquals(300.0, loadedManager.getBudget());
     }
@@ -313,8 +311,8 @@ public class StorageManagerTest {
         manager.addExpense(new Expense(25.0, "Movie", "Entertainment"));
 
         // Save and load
-        StorageManager.saveExpenseManager(manager, ui);
-        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        StorageManager.saveExpenseManager(manager, errors::add);
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(errors::add);
 
         // Verify categories
         List<Expense> foodExpenses = loadedManager.findExpensesByCategory("Food");
@@ -339,8 +337,8 @@ public class StorageManagerTest {
         manager.markExpense(1);
 
         // Save and load
-        StorageManager.saveExpenseManager(manager, ui);
-        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        StorageManager.saveExpenseManager(manager, errors::add);
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(errors::add);
 
         // Verify large amount preserved
         List<Expense> expenses = loadedManager.getExpenses();
@@ -356,8 +354,8 @@ public class StorageManagerTest {
         manager.addExpense(new Expense(50.0, "Café & Restaurant: 50% off!", "Food"));
 
         // Save and load
-        StorageManager.saveExpenseManager(manager, ui);
-        ExpenseManager loadedManager = StorageManager.loadExpenseManager(ui);
+        StorageManager.saveExpenseManager(manager, errors::add);
+        ExpenseManager loadedManager = StorageManager.loadExpenseManager(errors::add);
 
         // Verify special characters preserved
         List<Expense> expenses = loadedManager.getExpenses();
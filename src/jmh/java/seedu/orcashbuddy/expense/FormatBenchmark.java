@@ -0,0 +1,57 @@
+package seedu.orcashbuddy.expense;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks rendering an expense for display and formatting amounts of money,
+ * against the {@code String.format} calls they replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormatBenchmark {
+    private double amount;
+    private Expense displayedExpense;
+
+    @Setup
+    public void setUp() {
+        amount = 1234.56;
+        displayedExpense = new Expense(amount, "team lunch", "food");
+        displayedExpense.formatForDisplay();
+    }
+
+    @Benchmark
+    public String formatForDisplayFirstTime() {
+        // A new expense has nothing cached, as after an add or edit
+        return new Expense(amount, "team lunch", "food").formatForDisplay();
+    }
+
+    @Benchmark
+    public String formatForDisplayAgain() {
+        return displayedExpense.formatForDisplay();
+    }
+
+    @Benchmark
+    public String formatForDisplayAfterMark() {
+        return displayedExpense.withMarked(true).formatForDisplay();
+    }
+
+    @Benchmark
+    public String moneyFormatter() {
+        return MoneyFormatter.format(amount);
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format(Locale.ROOT, "%.2f", amount);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.orcashbuddy.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.orcashbuddy.command.Command;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Benchmarks turning a line of input into a command: the whole of {@link Parser#parse},
+ * and the {@link ArgumentParser} and {@link InputValidator} steps it is made of.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    private static final String ADD_ARGUMENTS = "a/1234.56 desc/team lunch at the canteen cat/food";
+
+    private Parser parser;
+
+    @Setup
+    public void setUp() {
+        Logger.getLogger("").setLevel(Level.OFF);
+        parser = new Parser();
+    }
+
+    @Benchmark
+    public Command parseAdd() {
+        return parser.parse("add " + ADD_ARGUMENTS);
+    }
+
+    @Benchmark
+    public Command parseFindQuery() {
+        return parser.parse("find cat/food AND (a/10..50 OR NOT desc/coffee)");
+    }
+
+    @Benchmark
+    public Command parseSortByKeys() {
+        return parser.parse("sort by/category,amount order/asc");
+    }
+
+    @Benchmark
+    public Command parseInvalid() {
+        return parser.parse("add a/abc desc/lunch");
+    }
+
+    @Benchmark
+    public String tokenizeAddArguments() throws OrCashBuddyException {
+        ArgumentParser argumentParser = new ArgumentParser(ADD_ARGUMENTS, "a/", "desc/", "cat/");
+        return argumentParser.getValue("desc/");
+    }
+
+    @Benchmark
+    public long validateAmountCents() throws OrCashBuddyException {
+        return InputValidator.validateAmountCents("1234.56", "add");
+    }
+}
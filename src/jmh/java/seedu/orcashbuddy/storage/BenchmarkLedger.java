@@ -0,0 +1,35 @@
+package seedu.orcashbuddy.storage;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Builds the ledgers that benchmarks run against.
+ * <p>
+ * Ledgers come from a {@link LedgerGenerator} with its default settings and seed, so every run
+ * of a benchmark measures the same data. Loading this class also turns logging off, as
+ * {@code Main} does, so that benchmarks do not measure log output.
+ */
+public final class BenchmarkLedger {
+    private static final LedgerGenerator GENERATOR = new LedgerGenerator(LedgerGenerator.DEFAULT_SEED,
+            LedgerGenerator.DEFAULT_CATEGORY_COUNT, LedgerGenerator.DEFAULT_MEAN_DESCRIPTION_WORDS,
+            LedgerGenerator.DEFAULT_MARKED_RATIO);
+
+    static {
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    private BenchmarkLedger() {
+    }
+
+    /**
+     * Returns a new manager holding {@code size} generated expenses, about a third of them marked,
+     * and a budget larger than their total.
+     *
+     * @param size the number of expenses
+     * @return the filled manager
+     */
+    public static ExpenseManager expenseManager(int size) {
+        return GENERATOR.generate(size, 0);
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.orcashbuddy.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link ExpenseManager} operations behind each command, on ledgers of 1k to 1M expenses.
+ * <p>
+ * Benchmarks that change the ledger undo their change in the same invocation, so every invocation
+ * sees a ledger of the same size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExpenseManagerBenchmark {
+    private static final List<SortKey> CATEGORY_THEN_AMOUNT = List.of(SortKey.CATEGORY, SortKey.AMOUNT);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int ledgerSize;
+
+    private ExpenseManager manager;
+    private int middleIndex;
+    private int unmarkedIndex;
+    private Expense newExpense;
+    private Expense[] replacements;
+    private int replacementCount;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OrCashBuddyException {
+        manager = BenchmarkLedger.expenseManager(ledgerSize);
+        middleIndex = ledgerSize / 2 + 1;
+        unmarkedIndex = middleIndex;
+        while (manager.getExpense(unmarkedIndex).isMarked()) {
+            unmarkedIndex++;
+        }
+        newExpense = new Expense(12.34, "benchmark lunch", "food");
+        // Alternate between two different expenses so that every replacement changes the ledger
+        replacements = new Expense[] {
+            new Expense(56.78, "benchmark dinner", "food"),
+            manager.getExpense(middleIndex)
+        };
+    }
+
+    @Benchmark
+    public Expense addThenDeleteLast() throws OrCashBuddyException {
+        manager.addExpense(newExpense);
+        return manager.deleteExpense(manager.getSize());
+    }
+
+    @Benchmark
+    public String deleteMiddleThenUndo() throws OrCashBuddyException {
+        manager.deleteExpense(middleIndex);
+        return manager.undo();
+    }
+
+    @Benchmark
+    public Expense replaceMiddle() throws OrCashBuddyException {
+        Expense replacement = replacements[replacementCount++ & 1];
+        manager.replaceExpense(middleIndex, replacement);
+        return replacement;
+    }
+
+    @Benchmark
+    public Expense markThenUnmarkMiddle() throws OrCashBuddyException {
+        manager.markExpense(unmarkedIndex);
+        return manager.unmarkExpense(unmarkedIndex);
+    }
+
+    @Benchmark
+    public List<Expense> findByDescription() {
+        return manager.findExpensesByDescription("coffee bus");
+    }
+
+    @Benchmark
+    public List<Expense> sortByAmount() {
+        return manager.sortExpenses();
+    }
+
+    @Benchmark
+    public List<Expense> sortByCategoryThenAmount() {
+        return manager.sortExpenses(CATEGORY_THEN_AMOUNT, true);
+    }
+
+    @Benchmark
+    public List<Expense> selectTop10() {
+        return manager.selectExpenses(10, true);
+    }
+}
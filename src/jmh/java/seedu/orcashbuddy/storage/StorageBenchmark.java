@@ -0,0 +1,63 @@
+package seedu.orcashbuddy.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks saving a ledger with {@link StorageManager} and loading it back, in a temporary folder
+ * so that the user's {@code data} folder is never touched.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int ledgerSize;
+
+    private ExpenseManager manager;
+    private File dir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        manager = BenchmarkLedger.expenseManager(ledgerSize);
+        dir = Files.createTempDirectory("orcashbuddy-benchmark").toFile();
+        StorageManager.saveExpenseManager(manager, System.err::println, dir);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (File file : dir.listFiles()) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(dir.toPath());
+    }
+
+    @Benchmark
+    public void save() {
+        StorageManager.saveExpenseManager(manager, System.err::println, dir);
+    }
+
+    @Benchmark
+    public ExpenseManager load() {
+        return StorageManager.loadExpenseManager(System.err::println, dir);
+    }
+
+    @Benchmark
+    public ExpenseManager saveThenLoad() {
+        StorageManager.saveExpenseManager(manager, System.err::println, dir);
+        return StorageManager.loadExpenseManager(System.err::println, dir);
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.orcashbuddy;
+
+import seedu.orcashbuddy.storage.StorageManager;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The command-line options that {@link Main} was started with.
+ * <p>
+ * Without {@code --batch} or {@code --replay}, the application runs an interactive session.
+ * Options that do not apply to the chosen mode, such as {@code --record-trace} with {@code --batch}
+ * or {@code --event-log} with {@code --replay}, are rejected rather than silently ignored.
+ *
+ * @param eventLogPath the event log to append changes to, or {@code null} for none
+ * @param batchScript the script to run with {@code --batch}, or {@code null} for none
+ * @param saveEvery how many batch commands to run between saves, or 0 to save only at the end
+ * @param tracePath the trace to record the session to, or {@code null} for none
+ * @param replayTrace the trace to replay with {@code --replay}, or {@code null} for none
+ * @param isOriginalPace whether a replay keeps to the recorded times
+ * @param isPerfEnabled whether to collect timings for {@code perf}
+ * @param dataDir the folder to load from and save to
+ */
+record LaunchOptions(Path eventLogPath, Path batchScript, int saveEvery, Path tracePath, Path replayTrace,
+                     boolean isOriginalPace, boolean isPerfEnabled, File dataDir) {
+    static final String EVENT_LOG_OPTION = "--event-log";
+    static final String BATCH_OPTION = "--batch";
+    static final String SAVE_EVERY_OPTION = "--save-every";
+    static final String NO_PERF_OPTION = "--no-perf";
+    static final String DATA_OPTION = "--data";
+    static final String RECORD_TRACE_OPTION = "--record-trace";
+    static final String REPLAY_OPTION = "--replay";
+    static final String ORIGINAL_PACE_OPTION = "--original-pace";
+    private static final List<String> OPTIONS_WITH_VALUE = List.of(EVENT_LOG_OPTION, BATCH_OPTION,
+            SAVE_EVERY_OPTION, DATA_OPTION, RECORD_TRACE_OPTION, REPLAY_OPTION);
+
+    /**
+     * Parses the arguments given to {@link Main#main(String[])}.
+     *
+     * @param args the command-line arguments
+     * @return the options they set
+     * @throws IllegalArgumentException if an argument is not a known option, an option is given twice,
+     *     is missing its value or does not apply to the chosen mode; the message says which
+     */
+    static LaunchOptions parse(String[] args) {
+        Path eventLogPath = null;
+        Path batchScript = null;
+        int saveEvery = 0;
+        Path tracePath = null;
+        Path replayTrace = null;
+        boolean isOriginalPace = false;
+        boolean isPerfEnabled = true;
+        File dataDir = new File(StorageManager.DIRECTORY);
+
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            boolean isKnown = option.equals(NO_PERF_OPTION) || option.equals(ORIGINAL_PACE_OPTION)
+                    || OPTIONS_WITH_VALUE.contains(option);
+            if (!isKnown) {
+                throw new IllegalArgumentException(option.startsWith("--")
+                        ? "Unknown option " + option + "."
+                        : "Unexpected argument " + option + ", every value must follow its option.");
+            }
+            if (!seen.add(option)) {
+                throw new IllegalArgumentException("The option " + option + " is given more than once.");
+            }
+            if (option.equals(NO_PERF_OPTION)) {
+                isPerfEnabled = false;
+                continue;
+            }
+            if (option.equals(ORIGINAL_PACE_OPTION)) {
+                isOriginalPace = true;
+                continue;
+            }
+
+            if (i + 1 == args.length || args[i + 1].startsWith("--")) {
+                throw new IllegalArgumentException("The option " + option + " needs a value.");
+            }
+            String value = args[++i];
+            switch (option) {
+            case EVENT_LOG_OPTION:
+                eventLogPath = Path.of(value);
+                break;
+            case BATCH_OPTION:
+                batchScript = Path.of(value);
+                break;
+            case DATA_OPTION:
+                dataDir = new File(value);
+                break;
+            case RECORD_TRACE_OPTION:
+                tracePath = Path.of(value);
+                break;
+            case REPLAY_OPTION:
+                replayTrace = Path.of(value);
+                break;
+            default:
+                saveEvery = parseSaveInterval(value);
+                break;
+            }
+        }
+
+        if (batchScript != null && replayTrace != null) {
+            throw new IllegalArgumentException("The options " + BATCH_OPTION + " and " + REPLAY_OPTION
+                    + " cannot be used together.");
+        }
+        String modeOption = batchScript != null ? BATCH_OPTION : replayTrace != null ? REPLAY_OPTION : null;
+        if (tracePath != null && modeOption != null) {
+            throw new IllegalArgumentException("The option " + RECORD_TRACE_OPTION + " cannot be used with "
+                    + modeOption + ", it only records interactive sessions.");
+        }
+        if (eventLogPath != null && replayTrace != null) {
+            // A replay changes only a temporary copy of the data, which the real log must not record
+            throw new IllegalArgumentException("The option " + EVENT_LOG_OPTION + " cannot be used with "
+                    + REPLAY_OPTION + ", a replay changes only a copy of the data.");
+        }
+        if (seen.contains(SAVE_EVERY_OPTION) && batchScript == null) {
+            throw new IllegalArgumentException("The option " + SAVE_EVERY_OPTION + " only applies with "
+                    + BATCH_OPTION + ".");
+        }
+        if (isOriginalPace && replayTrace == null) {
+            throw new IllegalArgumentException("The option " + ORIGINAL_PACE_OPTION + " only applies with "
+                    + REPLAY_OPTION + ".");
+        }
+        return new LaunchOptions(eventLogPath, batchScript, saveEvery, tracePath, replayTrace,
+                isOriginalPace, isPerfEnabled, dataDir);
+    }
+
+    /**
+     * Returns the positive interval given to {@code --save-every}.
+     */
+    private static int parseSaveInterval(String value) {
+        try {
+            int interval = Integer.parseInt(value);
+            if (interval > 0) {
+                return interval;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below, like a number that is not positive
+        }
+        throw new IllegalArgumentException("The number of commands between saves must be a positive whole number.");
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.orcashbuddy;
+
+import seedu.orcashbuddy.storage.LedgerGenerator;
+import seedu.orcashbuddy.storage.StorageManager;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+//@@author
+/**
+ * Command-line entry point for {@link LedgerGenerator}, run by {@code ./gradlew generateLedger}.
+ * It reads the generator's settings from the arguments and reports what it wrote on the console.
+ */
+public final class LedgerGeneratorMain {
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: generateLedger [--size N] [--categories N] [--words MEAN] [--marked RATIO]",
+            "                      [--budget AMOUNT] [--seed N] [--out DIR | --script FILE]",
+            "  --size N         number of expenses (default 1000)",
+            "  --categories N   number of distinct categories (default " + LedgerGenerator.DEFAULT_CATEGORY_COUNT + ")",
+            "  --words MEAN     average number of words per description (default 3)",
+            "  --marked RATIO   fraction of expenses that are marked, from 0 to 1 (default 0.33)",
+            "  --budget AMOUNT  the budget (default 25% more than the total of every expense)",
+            "  --seed N         the random seed (default " + LedgerGenerator.DEFAULT_SEED + ")",
+            "  --out DIR        write DIR/appdata.ser (default data)",
+            "  --script FILE    write the ledger as commands for --batch instead");
+
+    private LedgerGeneratorMain() {
+    }
+
+    /**
+     * Generates a ledger as set by {@code args} and writes it to {@code appdata.ser} or a script.
+     * Run without arguments for a 1000-expense ledger in the {@code data} folder, or with
+     * {@code --help} for every option.
+     *
+     * @param args the options described by {@code --help}
+     */
+    public static void main(String[] args) {
+        Logger.getLogger("").setLevel(Level.OFF);
+        int size = 1000;
+        int categoryCount = LedgerGenerator.DEFAULT_CATEGORY_COUNT;
+        double meanDescriptionWords = LedgerGenerator.DEFAULT_MEAN_DESCRIPTION_WORDS;
+        double markedRatio = LedgerGenerator.DEFAULT_MARKED_RATIO;
+        double budget = 0;
+        long seed = LedgerGenerator.DEFAULT_SEED;
+        Path outDir = Path.of(StorageManager.DIRECTORY);
+        Path script = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help")) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                try {
+                    switch (option) {
+                    case "--size":
+                        size = Integer.parseInt(value);
+                        if (size < 0) {
+                            throw new IllegalArgumentException("Size must not be negative: " + size);
+                        }
+                        break;
+                    case "--categories":
+                        categoryCount = Integer.parseInt(value);
+                        break;
+                    case "--words":
+                        meanDescriptionWords = Double.parseDouble(value);
+                        break;
+                    case "--marked":
+                        markedRatio = Double.parseDouble(value);
+                        break;
+                    case "--budget":
+                        budget = Double.parseDouble(value);
+                        if (!(budget > 0)) {
+                            throw new IllegalArgumentException("Budget must be positive: " + value);
+                        }
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "--out":
+                        outDir = Path.of(value);
+                        break;
+                    case "--script":
+                        script = Path.of(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + option);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Not a number for " + option + ": " + value);
+                }
+            }
+            LedgerGenerator generator = new LedgerGenerator(seed, categoryCount, meanDescriptionWords, markedRatio);
+            if (script != null) {
+                try (BufferedWriter out = Files.newBufferedWriter(script, StandardCharsets.UTF_8)) {
+                    generator.writeScript(size, budget, out);
+                }
+                System.out.println("Wrote " + size + " expenses as commands to " + script);
+            } else {
+                StorageManager.saveExpenseManager(generator.generate(size, budget), System.err::println,
+                        outDir.toFile());
+                System.out.println("Wrote " + size + " expenses to " + new File(outDir.toFile(), "appdata.ser"));
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+        } catch (IOException e) {
+            System.err.println("Unable to write " + script + ": " + e.getMessage());
+        }
+    }
+}
@@ -1,15 +1,35 @@
 package seedu.orcashbuddy;
 
 import seedu.orcashbuddy.command.Command;
+import seedu.orcashbuddy.command.CommandResult;
 import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.parser.Parser;
+import seedu.orcashbuddy.perf.CommandExecuteEvent;
+import seedu.orcashbuddy.perf.CommandParseEvent;
+import seedu.orcashbuddy.perf.CommandRenderEvent;
+import seedu.orcashbuddy.perf.LatencyHistogram;
+import seedu.orcashbuddy.perf.PerfRecorder;
+import seedu.orcashbuddy.perf.TraceReader;
+import seedu.orcashbuddy.perf.TraceWriter;
+import seedu.orcashbuddy.storage.EventLogWriter;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.storage.StorageManager;
+import seedu.orcashbuddy.ui.BatchUi;
+import seedu.orcashbuddy.ui.ReplayUi;
 import seedu.orcashbuddy.ui.Ui;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.util.NoSuchElementException;
-import java.util.Scanner;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -19,18 +39,31 @@ import java.util.logging.Logger;
  * <p>
  * Responsibilities:
  * <ul>
- *   <li>Load saved expenses/budget from disk</li>
+ *   <li>Load saved expenses/budget from disk, from the {@code data} folder or {@code --data DIR}</li>
  *   <li>Read user commands in a loop</li>
  *   <li>Parse and execute each command</li>
- *   <li>Persist changes after each successful command</li>
+ *   <li>Persist changes after each successful command that made any</li>
+ *   <li>Optionally append every change to an event log ({@code --event-log FILE})</li>
+ *   <li>Optionally run a script of commands instead ({@code --batch FILE [--save-every N]})</li>
+ *   <li>Time parsing, loading, saving and every command for {@code perf}, unless started with {@code --no-perf}</li>
+ *   <li>Optionally record every line of input with its time ({@code --record-trace FILE}),
+ *       and replay such a trace to measure throughput and latency ({@code --replay FILE [--original-pace]})</li>
  *   <li>Gracefully shut down on {@code bye}</li>
  * </ul>
  */
 public class Main {
     private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
+    // Large enough that a script piped into the application is read in few system calls
+    private static final int INPUT_BUFFER_SIZE = 64 * 1024;
+
     private final Ui ui;
     private final ExpenseManager expenseManager;
     private final Parser parser;
+    private final PerfRecorder perfRecorder;
+    private final File dataDir;
+    private long savedVersion;
+    private EventLogWriter eventLog;
+    private TraceWriter trace;
 
     // Configure root logger level once.
     static {
@@ -46,59 +79,139 @@ public class Main {
      * Loads persisted data (if any) via {@link StorageManager}.
      */
     public Main() {
-        this.ui = new Ui();
-        this.expenseManager = StorageManager.loadExpenseManager(ui);
+        this(new Ui(), PerfRecorder.enabled(), new File(StorageManager.DIRECTORY));
+    }
+
+    private Main(Ui ui, PerfRecorder perfRecorder, File dataDir) {
+        this.ui = ui;
+        this.perfRecorder = perfRecorder;
+        this.dataDir = dataDir;
+        long loadStart = perfRecorder.start();
+        this.expenseManager = StorageManager.loadExpenseManager(ui::showError, dataDir);
+        perfRecorder.record(PerfRecorder.LOAD, loadStart);
+        expenseManager.setPerfRecorder(perfRecorder);
         this.parser = new Parser();
+        this.savedVersion = expenseManager.getSnapshot().getVersion();
+    }
+
+    /**
+     * Appends every later change to the event log at {@code path}, creating the file if needed.
+     * If it cannot be opened, the user is told and the application runs without it.
+     *
+     * @param path the event log file
+     */
+    public void tailEventsTo(Path path) {
+        try {
+            eventLog = EventLogWriter.open(path, expenseManager.getSnapshot());
+            expenseManager.addListener(eventLog);
+            LOGGER.log(Level.INFO, "Appending changes to event log {0}", path);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to open event log " + path, e);
+            ui.showError("Unable to open the event log " + path + ". Changes will not be recorded in it.");
+        }
+    }
+
+    /**
+     * Records every later line of input to a new trace at {@code path}, for {@code --replay}.
+     * If it cannot be created, the user is told and the application runs without it.
+     *
+     * @param path the trace file
+     */
+    public void recordTraceTo(Path path) {
+        try {
+            trace = TraceWriter.open(path);
+            LOGGER.log(Level.INFO, "Recording input to trace {0}", path);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to create trace " + path, e);
+            ui.showError("Unable to create the trace " + path + ". Input will not be recorded.");
+        }
     }
 
     /**
      * Runs the interactive command loop:
      * shows the welcome banner, reads commands,
      * executes them, and stops when a command indicates exit.
+     * Each command's output is flushed to the console in one go before the next line is read.
      */
     public void run() {
         ui.showWelcome();
 
-        Scanner scanner = new Scanner(System.in, StandardCharsets.UTF_8.name());
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(System.in, StandardCharsets.UTF_8), INPUT_BUFFER_SIZE);
         boolean shouldExit = false;
         while (!shouldExit) {
-            String input = readInput(scanner);
+            // Show the previous command's output before waiting for the next one
+            ui.flush();
+            String input = readInput(reader);
             if (input == null) {
                 break;
             }
+            if (trace != null) {
+                trace.record(input);
+            }
 
             shouldExit = executeCommand(input);
+            saveIfChanged();
+        }
+        ui.flush();
+        closeEventLog();
+        closeTrace();
+    }
+
+    private void closeEventLog() {
+        if (eventLog == null) {
+            return;
+        }
+        expenseManager.removeListener(eventLog);
+        try {
+            eventLog.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to close event log", e);
+        }
+    }
+
+    private void closeTrace() {
+        if (trace == null) {
+            return;
+        }
+        try {
+            trace.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to close trace", e);
         }
     }
 
     /**
-     * Reads user input from {@link Scanner}.
-     * If the input stream is closed (EOF), returns {@code null}.
+     * Reads a line of user input from {@code reader}.
+     * If the input stream is closed (EOF) or cannot be read, returns {@code null}.
      *
-     * @param scanner the scanner to read from
+     * @param reader the reader to read from
      * @return the user's raw input line, or {@code null} if no more input is available
      */
-    private String readInput(Scanner scanner) {
+    private String readInput(BufferedReader reader) {
         try {
-            return scanner.nextLine();
-        } catch (NoSuchElementException e) {
-            LOGGER.info("Input closed, exiting application");
+            String line = reader.readLine();
+            if (line == null) {
+                LOGGER.info("Input closed, exiting application");
+            }
+            return line;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to read input, exiting application", e);
             return null;
         }
     }
 
     /**
      * Parses and executes a single user command.
-     * Also persists updated data after successful execution.
      *
      * @param input the user input string
      * @return {@code true} if the executed command signals application exit; {@code false} otherwise
      */
     private boolean executeCommand(String input) {
         try {
-            Command command = parser.parse(input);
-            command.execute(expenseManager, ui);
-            StorageManager.saveExpenseManager(expenseManager, ui);
+            Command command = parse(input);
+            CommandResult result = execute(command);
+            render(command, result);
             return command.isExit();
         } catch (OrCashBuddyException e) {
             // Handle expected application exceptions
@@ -118,11 +231,287 @@ public class Main {
 
 
     /**
-     * Program entry point. Creates a {@link Main} instance and starts the REPL loop.
+     * Parses {@code input}, timing it for {@code perf} and reporting it to Flight Recorder.
+     */
+    private Command parse(String input) {
+        CommandParseEvent parseEvent = new CommandParseEvent();
+        parseEvent.begin();
+        long parseStart = perfRecorder.start();
+        Command command = parser.parse(input);
+        perfRecorder.record(PerfRecorder.PARSE, parseStart);
+        if (parseEvent.shouldCommit()) {
+            parseEvent.setCommand(PerfRecorder.commandWord(command.getClass()));
+            parseEvent.setInputLength(input.length());
+            parseEvent.commit();
+        }
+        return command;
+    }
+
+    /**
+     * Executes {@code command}, timing it for {@code perf} and reporting it to Flight Recorder.
+     * Only successful executions are timed, but failed ones are reported too.
+     */
+    private CommandResult execute(Command command) throws Exception {
+        CommandExecuteEvent executeEvent = new CommandExecuteEvent();
+        executeEvent.begin();
+        boolean succeeded = false;
+        try {
+            long executeStart = perfRecorder.start();
+            CommandResult result = command.execute(expenseManager);
+            perfRecorder.record(command.getClass(), executeStart);
+            succeeded = true;
+            return result;
+        } finally {
+            if (executeEvent.shouldCommit()) {
+                executeEvent.setCommand(PerfRecorder.commandWord(command.getClass()));
+                executeEvent.setExpenseCount(expenseManager.getSnapshot().getSize());
+                executeEvent.setSucceeded(succeeded);
+                executeEvent.commit();
+            }
+        }
+    }
+
+    /**
+     * Shows the result of {@code command} in the console, timing it for {@code perf} separately from
+     * the command itself and reporting it to Flight Recorder.
+     */
+    private void render(Command command, CommandResult result) {
+        CommandRenderEvent renderEvent = new CommandRenderEvent();
+        renderEvent.begin();
+        long renderStart = perfRecorder.start();
+        ui.showResult(result);
+        perfRecorder.record(PerfRecorder.RENDER, renderStart);
+        if (renderEvent.shouldCommit()) {
+            renderEvent.setCommand(PerfRecorder.commandWord(command.getClass()));
+            renderEvent.setResult(result.getClass().getSimpleName());
+            renderEvent.commit();
+        }
+    }
+
+    /**
+     * Saves the expense manager if any change was made since it was loaded or last saved.
+     * Reads such as {@code list} and {@code find} leave the snapshot version unchanged.
+     */
+    private void saveIfChanged() {
+        long version = expenseManager.getSnapshot().getVersion();
+        if (version == savedVersion) {
+            return;
+        }
+        long saveStart = perfRecorder.start();
+        StorageManager.saveExpenseManager(expenseManager, ui::showError, dataDir);
+        perfRecorder.record(PerfRecorder.SAVE, saveStart);
+        savedVersion = version;
+    }
+
+    /**
+     * Runs every command in {@code script} without prompting, printing only errors and a closing summary.
+     * Blank lines are skipped and {@code bye} ends the run early. Changes are saved once at the end,
+     * and also after every {@code saveEvery} commands when {@code saveEvery} is positive.
+     *
+     * @param script the file of commands, one per line
+     * @param saveEvery how many commands to run between saves, or 0 to save only at the end
+     * @param eventLogPath the event log to append changes to, or {@code null} for none
+     * @param perfRecorder the recorder to time operations with
+     * @param dataDir the folder to load from and save to
+     */
+    private static void runBatch(Path script, int saveEvery, Path eventLogPath, PerfRecorder perfRecorder,
+                                 File dataDir) {
+        BatchUi batchUi = new BatchUi();
+        Main main = new Main(batchUi, perfRecorder, dataDir);
+        if (eventLogPath != null) {
+            main.tailEventsTo(eventLogPath);
+        }
+
+        long startNanos = System.nanoTime();
+        int commandCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(script, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            boolean shouldExit = false;
+            String line;
+            while (!shouldExit && (line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                batchUi.setLineNumber(lineNumber);
+                shouldExit = main.executeCommand(line);
+                commandCount++;
+                if (saveEvery > 0 && commandCount % saveEvery == 0) {
+                    main.saveIfChanged();
+                }
+                batchUi.flush();
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to read batch file " + script, e);
+            batchUi.setLineNumber(0);
+            batchUi.showError("Unable to read the batch file " + script + ".");
+        }
+        main.saveIfChanged();
+
+        batchUi.setLineNumber(0);
+        batchUi.showBatchSummary(script, commandCount, System.nanoTime() - startNanos);
+        batchUi.flush();
+        main.closeEventLog();
+    }
+
+    /**
+     * Replays the input recorded in {@code tracePath} through the full parse, execute, render and save loop,
+     * then prints the throughput and the latency percentiles. Output is rendered but not printed.
+     * A {@code bye} in the trace ends the replay.
+     * <p>
+     * By default every line is run as soon as the one before it is done. With {@code isOriginalPace},
+     * each line is run as long after the first as it was recorded, and its latency is counted from then,
+     * so time spent waiting behind a slow command counts too.
+     * <p>
+     * The replay loads from and saves to a temporary copy of {@code dataDir}, which is deleted afterwards,
+     * so the saves it times never change the data itself and every replay starts from the same state.
+     * For the same reason, {@link LaunchOptions} does not allow an event log with a replay.
+     *
+     * @param tracePath the trace recorded with {@code --record-trace}
+     * @param isOriginalPace whether to keep to the recorded times
+     * @param perfRecorder the recorder to time operations with
+     * @param dataDir the folder whose data to replay against
+     */
+    private static void runReplay(Path tracePath, boolean isOriginalPace, PerfRecorder perfRecorder,
+                                  File dataDir) {
+        List<TraceReader.Entry> entries;
+        try {
+            entries = TraceReader.read(tracePath);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to read trace " + tracePath, e);
+            Ui ui = new Ui();
+            // A missing or unreadable file's message is only its name; a malformed line's says which one
+            String reason = e instanceof FileSystemException ? "" : " " + e.getMessage() + ".";
+            ui.showError("Unable to read the trace " + tracePath + "." + reason);
+            ui.flush();
+            return;
+        }
+
+        Path replayDir;
+        try {
+            replayDir = copyToTempDir(dataDir);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to copy " + dataDir + " for replay", e);
+            Ui ui = new Ui();
+            ui.showError("Unable to copy the data in " + dataDir + " to replay against.");
+            ui.flush();
+            return;
+        }
+
+        Main main = new Main(new ReplayUi(), perfRecorder, replayDir.toFile());
+        LatencyHistogram latencies = new LatencyHistogram();
+        long firstOffsetMillis = entries.isEmpty() ? 0 : entries.get(0).offsetMillis();
+        long startNanos = System.nanoTime();
+        for (TraceReader.Entry entry : entries) {
+            long commandStart = System.nanoTime();
+            if (isOriginalPace) {
+                commandStart = startNanos + TimeUnit.MILLISECONDS.toNanos(entry.offsetMillis() - firstOffsetMillis);
+                waitUntil(commandStart);
+            }
+            boolean shouldExit = main.executeCommand(entry.input());
+            main.saveIfChanged();
+            main.ui.flush();
+            latencies.record(System.nanoTime() - commandStart);
+            if (shouldExit) {
+                break;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        deleteTempDir(replayDir);
+
+        Ui ui = new Ui();
+        ui.showReplaySummary(tracePath, latencies, elapsedNanos);
+        ui.flush();
+    }
+
+    /**
+     * Copies the files in {@code dataDir}, if it exists, into a new temporary folder and returns that folder.
+     */
+    private static Path copyToTempDir(File dataDir) throws IOException {
+        Path copy = Files.createTempDirectory("orcashbuddy-replay");
+        if (dataDir.isDirectory()) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dataDir.toPath())) {
+                for (Path file : files) {
+                    if (Files.isRegularFile(file)) {
+                        Files.copy(file, copy.resolve(file.getFileName()));
+                    }
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Deletes a folder made by {@link #copyToTempDir(File)}. A failure is only logged,
+     * since the folder is in the system's temporary directory.
+     */
+    private static void deleteTempDir(Path dir) {
+        try {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+                for (Path file : files) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to delete replay copy " + dir, e);
+        }
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remainingNanos;
+        while ((remainingNanos = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remainingNanos);
+        }
+    }
+
+    /**
+     * Program entry point. Creates a {@link Main} instance and starts the REPL loop,
+     * or runs a batch script if {@code --batch} is given.
      *
-     * @param args standard {@code main} arguments (unused)
+     * @param args {@code --event-log FILE} to append every change to {@code FILE};
+     *     {@code --batch FILE} to run the commands in {@code FILE} instead of reading them from the console;
+     *     {@code --save-every N} to also save after every {@code N} batch commands;
+     *     {@code --no-perf} to collect no timings; {@code --data DIR} to keep data in {@code DIR};
+     *     {@code --record-trace FILE} to record every line of input to {@code FILE};
+     *     {@code --replay FILE} to replay a recorded trace, at its {@code --original-pace} if given.
+     *     Arguments that {@link LaunchOptions} rejects are reported and nothing is run.
      */
     public static void main(String[] args) {
-        new Main().run();
+        LaunchOptions options;
+        try {
+            options = LaunchOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            showUsageError(e.getMessage());
+            return;
+        }
+        PerfRecorder perfRecorder = options.isPerfEnabled() ? PerfRecorder.enabled() : PerfRecorder.disabled();
+
+        if (options.replayTrace() != null) {
+            runReplay(options.replayTrace(), options.isOriginalPace(), perfRecorder, options.dataDir());
+            return;
+        }
+        if (options.batchScript() != null) {
+            runBatch(options.batchScript(), options.saveEvery(), options.eventLogPath(), perfRecorder,
+                    options.dataDir());
+            return;
+        }
+        Main main = new Main(new Ui(), perfRecorder, options.dataDir());
+        if (options.eventLogPath() != null) {
+            main.tailEventsTo(options.eventLogPath());
+        }
+        if (options.tracePath() != null) {
+            main.recordTraceTo(options.tracePath());
+        }
+        main.run();
+    }
+
+    /**
+     * Tells the user why the command-line arguments cannot be used.
+     */
+    private static void showUsageError(String message) {
+        Ui ui = new Ui();
+        ui.showError(message);
+        ui.flush();
     }
 }
@@ -0,0 +1,32 @@
+package seedu.orcashbuddy.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for rendering the result of one command into the console output.
+ */
+@Name("orcashbuddy.CommandRender")
+@Label("Command Render")
+@Category({"orCASHbuddy", "Ui"})
+@Description("Rendering the result of one command for the console")
+public class CommandRenderEvent extends Event {
+    @Label("Command")
+    @Description("Command word of the command whose result was rendered")
+    private String command;
+
+    @Label("Result")
+    @Description("Kind of result that was rendered")
+    private String result;
+
+    public void setCommand(String command) {
+        this.command = command;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+}
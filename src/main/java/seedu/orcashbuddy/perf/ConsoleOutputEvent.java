@@ -0,0 +1,24 @@
+package seedu.orcashbuddy.perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for writing one command's rendered output to the console.
+ */
+@Name("orcashbuddy.ConsoleOutput")
+@Label("Console Output")
+@Category({"orCASHbuddy", "Ui"})
+@Description("Writing the output buffered by the Ui to the console")
+public class ConsoleOutputEvent extends Event {
+    @Label("Characters")
+    @Description("Number of characters written")
+    private int characters;
+
+    public void setCharacters(int characters) {
+        this.characters = characters;
+    }
+}
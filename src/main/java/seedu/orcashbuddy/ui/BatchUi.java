@@ -0,0 +1,115 @@
+package seedu.orcashbuddy.ui;
+
+import seedu.orcashbuddy.command.SearchType;
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.storage.BudgetData;
+import seedu.orcashbuddy.storage.SortKey;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A {@link Ui} for running a script of commands without a user watching, as in {@code --batch FILE}.
+ * <p>
+ * Nothing is printed except error messages, each prefixed with the number of the script line that
+ * caused it, and the summary at the end. Listings are not even rendered, so a script can list or sort
+ * freely without slowing down.
+ */
+public class BatchUi extends Ui {
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private int lineNumber;
+    private int failedLineNumber;
+    private int failedCommandCount;
+
+    /**
+     * Sets the script line whose command is about to run, so that its errors can point to it.
+     *
+     * @param lineNumber the 1-based line number
+     */
+    public void setLineNumber(int lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * Returns how many commands have reported at least one error.
+     *
+     * @return the number of failed commands
+     */
+    public int getFailedCommandCount() {
+        return failedCommandCount;
+    }
+
+    /**
+     * Prints a summary of a finished batch run.
+     *
+     * @param script the script that was run
+     * @param commandCount how many commands were run
+     * @param elapsedNanos how long running them took, in nanoseconds
+     */
+    public void showBatchSummary(Path script, int commandCount, long elapsedNanos) {
+        double seconds = elapsedNanos / NANOS_PER_SECOND;
+        double commandsPerSecond = seconds > 0 ? commandCount / seconds : 0;
+        super.println(String.format(Locale.ROOT, "Ran %d command(s) from %s in %.3f s (%.0f commands/s), %d failed.",
+                commandCount, script, seconds, commandsPerSecond, failedCommandCount));
+    }
+
+    @Override
+    public void showError(String message) {
+        if (failedLineNumber != lineNumber) {
+            failedLineNumber = lineNumber;
+            failedCommandCount++;
+        }
+        super.println(lineNumber > 0 ? "Line " + lineNumber + ": " + message : message);
+    }
+
+    @Override
+    public void showUnknownCommand() {
+        showError("Unknown command.");
+    }
+
+    @Override
+    public void showFinancialSummary(double budget, double totalExpense,
+                                     double remainingBalance, List<Expense> expenses) {
+    }
+
+    @Override
+    public void showFinancialSummary(BudgetData budgetData, List<Expense> expenses) {
+    }
+
+    @Override
+    public void showFinancialSummary(BudgetData budgetData, List<Expense> expenses, int fromIndex, int toIndex) {
+    }
+
+    @Override
+    public void showSortedExpenseList(List<Expense> sortedExpenses) {
+    }
+
+    @Override
+    public void showSortedExpenseList(List<Expense> sortedExpenses, List<SortKey> keys, boolean ascending) {
+    }
+
+    @Override
+    public void showSelectedExpenseList(List<Expense> selectedExpenses, boolean largest) {
+    }
+
+    @Override
+    public void showFoundExpenses(List<Expense> foundExpenses, String searchTerm, SearchType searchType) {
+    }
+
+    /**
+     * Drops everything else the commands print, such as confirmations, separators and usage hints.
+     */
+    @Override
+    protected void print(String text) {
+    }
+
+    @Override
+    protected void println() {
+    }
+
+    @Override
+    protected void println(CharSequence text) {
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.orcashbuddy.ui;
+
+/**
+ * A {@link Ui} for replaying a recorded session, as in {@code --replay TRACE}.
+ * <p>
+ * Every command's output is rendered in full, as it would be for the user, but then dropped rather
+ * than written to the console, so that a replay measures orCASHbuddy and not the terminal.
+ */
+public class ReplayUi extends Ui {
+
+    @Override
+    protected void write(CharSequence output) {
+    }
+}
@@ -1,16 +1,29 @@
 package seedu.orcashbuddy.ui;
 
+import seedu.orcashbuddy.command.CommandResult;
+import seedu.orcashbuddy.command.SearchType;
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.expense.MoneyFormatter;
+import seedu.orcashbuddy.perf.ConsoleOutputEvent;
+import seedu.orcashbuddy.perf.LatencyHistogram;
 import seedu.orcashbuddy.storage.BudgetData;
+import seedu.orcashbuddy.storage.QueryPlan;
+import seedu.orcashbuddy.storage.SortKey;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Handles user interactions such as displaying messages.
+ * <p>
+ * Output is collected in a buffer rather than written straight to {@code System.out}, so that everything
+ * a command prints reaches the console in one write. Callers must {@link #flush()} once a command's output
+ * is complete, and before waiting for the next line of input.
  */
 public class Ui {
     private static final String SEPARATOR = "---------------------------------------------------------------\n";
-    private static final String CURRENCY_FORMAT = "%.2f";
 
     // ========== Progress bar constants ==========
     private static final int PROGRESS_BAR_WIDTH = 30;
@@ -31,17 +44,225 @@ public class Ui {
     private static final String SETBUDGET_USAGE = "Invalid format. Use: setbudget a/AMOUNT";
     private static final String MARK_USAGE = "Invalid format. Use: mark EXPENSE_INDEX";
     private static final String UNMARK_USAGE = "Invalid format. Use: unmark EXPENSE_INDEX";
-    private static final String FIND_USAGE = "Invalid format. Use: find cat/CATEGORY or find desc/DESCRIPTION";
+    private static final String FIND_USAGE = "Invalid format. Use: find cat/CATEGORY, find desc/DESCRIPTION "
+            + "or find [explain] QUERY (terms: cat/, desc/, fuzzy/[DISTANCE] desc/, a/AMOUNT|>AMOUNT|MIN..MAX, "
+            + "status/marked|unmarked; "
+            + "combine with AND, OR, NOT and brackets)";
     private static final String EDIT_USAGE = "Invalid format. " +
             "Use: edit id/INDEX [a/AMOUNT] [desc/DESCRIPTION] [cat/CATEGORY]";
+    private static final String SORT_USAGE = "Invalid format. Use: sort, sort top/COUNT, sort bottom/COUNT "
+            + "or sort by/KEY[,KEY...] [order/asc|desc] (KEY: amount, category, desc, status)";
+    private static final String LIST_USAGE = "Invalid format. Use: list, list page/PAGE [size/SIZE] or list last/COUNT";
 
+    private static final String TIMING_ROW_FORMAT = "%-10s %8s %10s %10s %10s %10s";
+    private static final long NANOS_PER_MICRO = 1_000L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final int INITIAL_BUFFER_CAPACITY = 4 * 1024;
+    // A buffer grown past this (e.g. by listing a very large ledger) is dropped after flushing, not kept
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 256 * 1024;
+
+    private StringBuilder buffer = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+
+    // ========== Output buffering ==========
+
+    /**
+     * Writes everything shown since the last flush to the console in a single {@link #write},
+     * then empties the buffer for the next command.
+     */
+    public void flush() {
+        ConsoleOutputEvent outputEvent = new ConsoleOutputEvent();
+        outputEvent.begin();
+        write(buffer);
+        if (outputEvent.shouldCommit()) {
+            outputEvent.setCharacters(buffer.length());
+            outputEvent.commit();
+        }
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+            buffer = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+        } else {
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * Writes a command's output to the console. Subclasses may send it elsewhere, or drop it.
+     *
+     * @param output everything shown since the last flush
+     */
+    protected void write(CharSequence output) {
+        if (output.length() > 0) {
+            System.out.print(output);
+        }
+        System.out.flush();
+    }
+
+    /**
+     * Adds {@code text} to the pending output. Every {@code show} method prints through this method
+     * or {@link #println}, so subclasses can override them to redirect or drop output.
+     *
+     * @param text the text to print
+     */
+    protected void print(String text) {
+        buffer.append(text);
+    }
+
+    /**
+     * Adds a line break to the pending output.
+     */
+    protected void println() {
+        buffer.append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Adds {@code text} and a line break to the pending output.
+     *
+     * @param text the line to print
+     */
+    protected void println(CharSequence text) {
+        buffer.append(text).append(LINE_SEPARATOR);
+    }
+
+    // ========== Command results ==========
+
+    /**
+     * Shows what a command did, between separators.
+     *
+     * @param result the result returned by {@link seedu.orcashbuddy.command.Command#execute}
+     */
+    public void showResult(CommandResult result) {
+        assert result != null : "Command result must not be null";
+        showSeparator();
+        if (result instanceof CommandResult.ExpenseAdded added) {
+            showNewExpense(added.expense());
+        } else if (result instanceof CommandResult.ExpenseDeleted deleted) {
+            showDeletedExpense(deleted.expense());
+            if (deleted.wasMarked()) {
+                showBudgetStatus(deleted.budgetData());
+            }
+        } else if (result instanceof CommandResult.ExpenseEdited edited) {
+            showEditResult(edited);
+        } else if (result instanceof CommandResult.ExpenseMarked marked) {
+            showMarkedExpense(marked.expense());
+            showBudgetStatus(marked.budgetData());
+        } else if (result instanceof CommandResult.ExpenseUnmarked unmarked) {
+            showUnmarkedExpense(unmarked.expense());
+            showBudgetStatus(unmarked.budgetData());
+        } else if (result instanceof CommandResult.BudgetSet budgetSet) {
+            showNewBudget(budgetSet.budget());
+            showBudgetStatus(budgetSet.budgetData());
+        } else if (result instanceof CommandResult.ChangeUndone undone) {
+            showUndoneChange(undone.change());
+            showBudgetStatus(undone.budgetData());
+        } else if (result instanceof CommandResult.ChangeRedone redone) {
+            showRedoneChange(redone.change());
+            showBudgetStatus(redone.budgetData());
+        } else if (result instanceof CommandResult.ExpensesListed listed) {
+            showFinancialSummary(listed.budgetData(), listed.expenses());
+        } else if (result instanceof CommandResult.ExpenseWindowListed window) {
+            showFinancialSummary(window.budgetData(), window.expenses(), window.fromIndex(), window.toIndex());
+        } else if (result instanceof CommandResult.ExpensesFound found) {
+            showFoundExpenses(found.expenses(), found.searchTerm(), found.searchType());
+        } else if (result instanceof CommandResult.QueryExplained explained) {
+            showQueryPlan(explained.plan());
+        } else if (result instanceof CommandResult.ExpensesSorted sorted) {
+            showSortResult(sorted);
+        } else if (result instanceof CommandResult.ExpensesSelected selected) {
+            if (selected.expenses().isEmpty()) {
+                showEmptyExpenseList();
+            } else {
+                showSelectedExpenseList(selected.expenses(), selected.largest());
+            }
+        } else if (result instanceof CommandResult.TimingsReported timings) {
+            showTimings(timings.histograms());
+        } else if (result instanceof CommandResult.TimingsDisabled) {
+            showTimingsDisabled();
+        } else if (result instanceof CommandResult.HelpRequested) {
+            showMenu();
+        } else if (result instanceof CommandResult.ExitRequested) {
+            showGoodbye();
+        } else {
+            // CommandResult is sealed, so an input rejection is the only result left
+            CommandResult.InputRejected rejected = (CommandResult.InputRejected) result;
+            if (rejected.errorMessage() == null) {
+                showUnknownCommand();
+            } else {
+                showContextualUsage(rejected.errorMessage());
+            }
+        }
+        showSeparator();
+    }
+
+    private void showBudgetStatus(BudgetData budgetData) {
+        showSeparator();
+        showProgressBar(budgetData);
+    }
+
+    private void showEditResult(CommandResult.ExpenseEdited edited) {
+        if (edited.isChanged()) {
+            showEditedExpense(edited.expense());
+        } else {
+            showEmptyEdit(edited.expense());
+        }
+        if (edited.isBudgetChanged()) {
+            showBudgetStatus(edited.budgetData());
+        }
+    }
+
+    private void showSortResult(CommandResult.ExpensesSorted sorted) {
+        if (sorted.expenses().isEmpty()) {
+            showEmptyExpenseList();
+        } else if (sorted.keys() != null) {
+            showSortedExpenseList(sorted.expenses(), sorted.keys(), sorted.ascending());
+        } else {
+            showSortedExpenseList(sorted.expenses());
+        }
+    }
+
+    //@@author limzerui
+    /**
+     * Shows an error message followed by a usage hint for the command it concerns.
+     *
+     * @param errorMessage the error message from the exception
+     */
+    private void showContextualUsage(String errorMessage) {
+        showError(errorMessage);
+
+        // Show usage hints based on string matching
+        if (errorMessage.contains("'edit'") || errorMessage.contains("id/")) {
+            showEditUsage();
+        } else if (errorMessage.contains("find") || errorMessage.contains("search criteria") ||
+                errorMessage.contains("search criterion")) {
+            showFindUsage();
+        } else if (errorMessage.contains("'list'")) {
+            showListUsage();
+        } else if (errorMessage.contains("'sort'")) {
+            showSortUsage();
+        } else if (errorMessage.contains("budget") || errorMessage.contains("Budget")) {
+            showSetBudgetUsage();
+        } else if (errorMessage.contains("'add'") || errorMessage.contains("a/") ||
+                errorMessage.contains("desc/") || errorMessage.contains("Description") ||
+                errorMessage.contains("cat/") || errorMessage.contains("Category")) {
+            showAddUsage();
+        } else if (errorMessage.contains("'delete'")) {
+            showDeleteUsage();
+        } else if (errorMessage.contains("'mark'")) {
+            showMarkUsage();
+        } else if (errorMessage.contains("'unmark'")) {
+            showUnmarkUsage();
+        }
+    }
+
+    //@@author
     // ========== Display separators and decorators ==========
 
     /**
      * Prints a horizontal separator for readability.
      */
     public void showSeparator() {
-        System.out.print(SEPARATOR);
+        print(SEPARATOR);
     }
 
     /**
@@ -50,7 +271,7 @@ public class Ui {
      * @param message the error message to display
      */
     public void showError(String message) {
-        System.out.println(message);
+        println(message);
     }
 
     // ========== Welcome and Goodbye messages ==========
@@ -59,7 +280,7 @@ public class Ui {
      * Prints a welcome banner and the help menu.
      */
     public void showWelcome() {
-        System.out.println("Welcome to orCASHbuddy");
+        println("Welcome to orCASHbuddy");
         showSeparator();
         showMenu();
         showSeparator();
@@ -69,7 +290,7 @@ public class Ui {
      * Prints a farewell message.
      */
     public void showGoodbye() {
-        System.out.println("Bye. Hope to see you again soon!");
+        println("Bye. Hope to see you again soon!");
     }
 
     // ========== Menu and help display ==========
@@ -83,17 +304,22 @@ public class Ui {
         String[] menuItems = {
             "Add an expense:                        add a/AMOUNT desc/DESCRIPTION [cat/CATEGORY]",
             "Set a budget:                          setbudget a/AMOUNT",
-            "List all expenses & statistics:        list",
+            "List all expenses & statistics:        list [page/PAGE [size/SIZE]] or list last/COUNT",
             "Find expenses:                         find cat/CATEGORY or find desc/DESCRIPTION",
+            "Find expenses matching a query:        find [explain] TERM [AND|OR|NOT TERM]...",
             "Mark an expense as paid:               mark EXPENSE_INDEX",
             "Mark an expense as unpaid:             unmark EXPENSE_INDEX",
             "Delete an expense:                     delete EXPENSE_INDEX",
             "Edit an expense:                       edit id/INDEX [a/AMOUNT] [desc/DESCRIPTION] [cat/CATEGORY]",
-            "Sort all expenses in descending order: sort",
+            "Sort all expenses in descending order: sort [top/COUNT | bottom/COUNT]",
+            "Sort expenses by chosen fields:        sort by/KEY[,KEY...] [order/asc|desc]",
+            "Undo the last change:                  undo",
+            "Redo the last undone change:           redo",
+            "Show how long operations have taken:   perf",
             "Exit the application:                  bye"
         };
         for (String item : menuItems) {
-            System.out.println(item);
+            println(item);
         }
     }
 
@@ -106,8 +332,8 @@ public class Ui {
      * @param expense the expense to print
      */
     private void showExpenseWithLabel(String label, Expense expense) {
-        System.out.println(label);
-        System.out.println(expense.formatForDisplay());
+        println(label);
+        println(expense.formatForDisplay());
     }
 
     /**
@@ -165,7 +391,7 @@ public class Ui {
      * @param budget the new budget amount to display
      */
     public void showNewBudget(double budget) {
-        System.out.println("Your total budget is now " + formatCurrency(budget) + ".");
+        println("Your total budget is now " + formatCurrency(budget) + ".");
     }
 
     //@@author
@@ -176,7 +402,7 @@ public class Ui {
      * @return formatted currency string
      */
     private String formatCurrency(double amount) {
-        return "$" + String.format(CURRENCY_FORMAT, amount);
+        return MoneyFormatter.append(new StringBuilder(16).append('$'), amount).toString();
     }
 
     // ========== List display methods ==========
@@ -194,7 +420,7 @@ public class Ui {
                                      double remainingBalance, List<Expense> expenses) {
         showProgressBar(budget, totalExpense, remainingBalance);
 
-        System.out.println();
+        println();
         showExpenseList(expenses);
     }
 
@@ -210,6 +436,33 @@ public class Ui {
                            budgetData.remainingBalance(), expenses);
     }
 
+    //@@author
+    /**
+     * Displays budget, total spent, remaining balance, a progress bar,
+     * and only the expenses at positions {@code [fromIndex, toIndex)}.
+     * Rows are fetched by position, so the list is neither copied nor walked outside the window,
+     * and each row keeps the index shown by a full {@code list}.
+     *
+     * @param budgetData the budget data containing budget, total expenses, and remaining balance
+     * @param expenses   all tracked expenses
+     * @param fromIndex  0-based position of the first expense to show (inclusive)
+     * @param toIndex    0-based position after the last expense to show (exclusive)
+     */
+    public void showFinancialSummary(BudgetData budgetData, List<Expense> expenses, int fromIndex, int toIndex) {
+        assert 0 <= fromIndex && fromIndex <= toIndex && toIndex <= expenses.size() : "Window out of bounds";
+
+        showProgressBar(budgetData);
+
+        println();
+        if (expenses.isEmpty()) {
+            showEmptyExpenseList();
+            return;
+        }
+        println("Here are expenses " + (fromIndex + 1) + " to " + toIndex
+                + " of " + expenses.size() + ":");
+        showNumberedExpenses(expenses, fromIndex, toIndex);
+    }
+
     //@@author aydrienlaw
     /**
      * Builds and prints a fixed-width progress bar representing totalExpense/budget.
@@ -223,10 +476,10 @@ public class Ui {
      * @param totalExpense how much has been spent
      */
     public void showProgressBar(double budget, double totalExpense,  double remainingBalance) {
-        System.out.println("BUDGET STATUS");
+        println("BUDGET STATUS");
 
         if (budget <= 0) {
-            System.out.println(NO_BUDGET_LABEL);
+            println(NO_BUDGET_LABEL);
             return;
         }
 
@@ -270,17 +523,19 @@ public class Ui {
         // Percentage annotation (clamped above 0)
         double pct = Math.max(0.0, ratio * 100.0);
         sb.append(' ');
-        sb.append(String.format("%.2f%%", pct));
+        MoneyFormatter.append(sb, pct).append('%');
 
         // Over-budget note
         if (remainingBalance >= - FLOAT_NOISE_THRESHOLD) {
-            sb.append("  (Remaining: ").append(formatCurrency(remainingBalance)).append(')');
+            sb.append("  (Remaining: $");
+            MoneyFormatter.append(sb, remainingBalance).append(')');
         } else {
-            sb.append("  (Over by: ").append(formatCurrency(Math.abs(remainingBalance))).append(')');
+            sb.append("  (Over by: $");
+            MoneyFormatter.append(sb, Math.abs(remainingBalance)).append(')');
         }
 
-        System.out.println("Spent: " + formatCurrency(totalExpense) + " / " + formatCurrency(budget));
-        System.out.println(sb);
+        println("Spent: " + formatCurrency(totalExpense) + " / " + formatCurrency(budget));
+        println(sb);
     }
 
     /**
@@ -304,7 +559,7 @@ public class Ui {
             showEmptyExpenseList();
             return;
         }
-        System.out.println("Here is your list of expenses:");
+        println("Here is your list of expenses:");
         showNumberedExpenses(expenses);
     }
 
@@ -312,8 +567,8 @@ public class Ui {
      * Displays a message indicating that there are no expenses yet.
      */
     public void showEmptyExpenseList() {
-        System.out.println("No expenses added so far.");
-        System.out.println("Try: add a/AMOUNT desc/DESCRIPTION [cat/CATEGORY]");
+        println("No expenses added so far.");
+        println("Try: add a/AMOUNT desc/DESCRIPTION [cat/CATEGORY]");
     }
 
     //@@author saheer17
@@ -324,10 +579,43 @@ public class Ui {
      * @param sortedExpenses the list of expenses sorted from highest to lowest amount
      */
     public void showSortedExpenseList(List<Expense> sortedExpenses) {
-        System.out.println("Here is your list of sorted expenses, starting with the highest amount:");
+        println("Here is your list of sorted expenses, starting with the highest amount:");
         showNumberedExpenses(sortedExpenses);
     }
 
+    //@@author
+    /**
+     * Displays the list of expenses sorted by user-chosen keys.
+     *
+     * @param sortedExpenses the sorted expenses
+     * @param keys           the keys the list was sorted by, most significant first
+     * @param ascending      whether the keys were sorted in ascending order
+     */
+    public void showSortedExpenseList(List<Expense> sortedExpenses, List<SortKey> keys, boolean ascending) {
+        StringBuilder header = new StringBuilder("Here is your list of expenses sorted by ");
+        for (int i = 0; i < keys.size(); i++) {
+            if (i > 0) {
+                header.append(", then ");
+            }
+            header.append(keys.get(i).getDisplayName());
+        }
+        header.append(ascending ? " (ascending):" : " (descending):");
+        println(header);
+        showNumberedExpenses(sortedExpenses);
+    }
+
+    /**
+     * Displays the expenses selected by {@code sort top/} or {@code sort bottom/}, best match first.
+     *
+     * @param selectedExpenses the selected expenses, already ordered
+     * @param largest          {@code true} if these are the largest expenses, {@code false} for the smallest
+     */
+    public void showSelectedExpenseList(List<Expense> selectedExpenses, boolean largest) {
+        println("Here are your " + selectedExpenses.size() + " "
+                + (largest ? "largest" : "smallest") + " expense(s):");
+        showNumberedExpenses(selectedExpenses);
+    }
+
     //@@author muadzyamani
     /**
      * Displays the list of expenses found by the {@code find} command.
@@ -335,29 +623,125 @@ public class Ui {
      *
      * @param foundExpenses the list of matching expenses
      * @param searchTerm    the term searched for
-     * @param searchType    the kind of match ("category" or "description")
+     * @param searchType    what the term was matched against
      */
-    public void showFoundExpenses(List<Expense> foundExpenses, String searchTerm, String searchType) {
+    public void showFoundExpenses(List<Expense> foundExpenses, String searchTerm, SearchType searchType) {
         if (foundExpenses.isEmpty()) {
-            System.out.println("No expenses found matching " + searchType + ": " + searchTerm);
+            println("No expenses found matching " + searchType.getDisplayName() + ": " + searchTerm);
             return;
         }
 
-        System.out.println("Found " + foundExpenses.size() + " expense(s) matching " +
-                searchType + ": " + searchTerm);
+        println("Found " + foundExpenses.size() + " expense(s) matching " +
+                searchType.getDisplayName() + ": " + searchTerm);
         showNumberedExpenses(foundExpenses);
     }
 
+    //@@author
+    /**
+     * Displays the change reverted by {@code undo}.
+     *
+     * @param change a description of the reverted change
+     */
+    public void showUndoneChange(String change) {
+        println("Undone: " + change);
+    }
+
+    /**
+     * Displays the change re-applied by {@code redo}.
+     *
+     * @param change a description of the re-applied change
+     */
+    public void showRedoneChange(String change) {
+        println("Redone: " + change);
+    }
+
+    /**
+     * Displays how a {@code find} query would be evaluated, for {@code find explain}.
+     *
+     * @param plan the plan chosen for the query
+     */
+    public void showQueryPlan(QueryPlan plan) {
+        println("Query: " + plan.getQuery().describe());
+        println("Plan:  " + plan.getDescription());
+    }
+
+    /**
+     * Displays the timings collected for {@code perf}, one row per operation.
+     *
+     * @param histograms the recorded durations by operation name
+     */
+    public void showTimings(Map<String, LatencyHistogram> histograms) {
+        println("Timings since orCASHbuddy started:");
+        println(String.format(Locale.ROOT, TIMING_ROW_FORMAT, "Operation", "Count", "p50", "p99", "Max", "Total"));
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            println(String.format(Locale.ROOT, TIMING_ROW_FORMAT, entry.getKey(), histogram.getCount(),
+                    formatDuration(histogram.getPercentileNanos(50)),
+                    formatDuration(histogram.getPercentileNanos(99)),
+                    formatDuration(histogram.getMaxNanos()),
+                    formatDuration(histogram.getTotalNanos())));
+        }
+    }
+
+    /**
+     * Tells the user that timings are not being collected, for {@code perf}.
+     */
+    public void showTimingsDisabled() {
+        println("Timings are not being collected. Restart orCASHbuddy without --no-perf to collect them.");
+    }
+
+    /**
+     * Displays how a {@code --replay} run went: how fast commands ran, and how long each took
+     * to parse, execute, render and save.
+     *
+     * @param trace the trace that was replayed
+     * @param latencies how long each command took, in nanoseconds
+     * @param elapsedNanos how long the whole replay took, in nanoseconds
+     */
+    public void showReplaySummary(Path trace, LatencyHistogram latencies, long elapsedNanos) {
+        double seconds = (double) elapsedNanos / NANOS_PER_SECOND;
+        double commandsPerSecond = seconds > 0 ? latencies.getCount() / seconds : 0;
+        println(String.format(Locale.ROOT, "Replayed %d command(s) from %s in %.3f s (%.0f commands/s).",
+                latencies.getCount(), trace, seconds, commandsPerSecond));
+        println("Latency per command: p50 " + formatDuration(latencies.getPercentileNanos(50))
+                + ", p99 " + formatDuration(latencies.getPercentileNanos(99))
+                + ", p99.9 " + formatDuration(latencies.getPercentileNanos(99.9))
+                + ", max " + formatDuration(latencies.getMaxNanos()));
+    }
+
+    private String formatDuration(long nanos) {
+        if (nanos < NANOS_PER_MICRO) {
+            return nanos + " ns";
+        } else if (nanos < NANOS_PER_MILLI) {
+            return String.format(Locale.ROOT, "%.1f us", (double) nanos / NANOS_PER_MICRO);
+        } else if (nanos < NANOS_PER_SECOND) {
+            return String.format(Locale.ROOT, "%.1f ms", (double) nanos / NANOS_PER_MILLI);
+        }
+        return String.format(Locale.ROOT, "%.2f s", (double) nanos / NANOS_PER_SECOND);
+    }
+
+    //@@author muadzyamani
     /**
      * Helper to print each expense in a list with its 1-based index.
      *
      * @param expenses the list to print
      */
     private void showNumberedExpenses(List<Expense> expenses) {
-        for (int i = 0; i < expenses.size(); i++) {
+        showNumberedExpenses(expenses, 0, expenses.size());
+    }
+
+    /**
+     * Helper to print the expenses at positions {@code [fromIndex, toIndex)}, each with its 1-based index.
+     *
+     * @param expenses the list to print from
+     * @param fromIndex 0-based position of the first expense to print (inclusive)
+     * @param toIndex 0-based position after the last expense to print (exclusive)
+     */
+    private void showNumberedExpenses(List<Expense> expenses, int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
             Expense expense = expenses.get(i);
             assert expense != null : "Expense in list must not be null";
-            System.out.println((i + 1) + ". " + expense.formatForDisplay());
+            println((i + 1) + ". " + expense.formatForDisplay());
         }
     }
 
@@ -366,42 +750,42 @@ public class Ui {
      * Prints usage information for {@code add}.
      */
     public void showAddUsage() {
-        System.out.println(ADD_USAGE);
+        println(ADD_USAGE);
     }
 
     /**
      * Prints usage information for {@code delete}.
      */
     public void showDeleteUsage() {
-        System.out.println(DELETE_USAGE);
+        println(DELETE_USAGE);
     }
 
     /**
      * Prints usage information for {@code setbudget}.
      */
     public void showSetBudgetUsage() {
-        System.out.println(SETBUDGET_USAGE);
+        println(SETBUDGET_USAGE);
     }
 
     /**
      * Prints usage information for {@code mark}.
      */
     public void showMarkUsage() {
-        System.out.println(MARK_USAGE);
+        println(MARK_USAGE);
     }
 
     /**
      * Prints usage information for {@code unmark}.
      */
     public void showUnmarkUsage() {
-        System.out.println(UNMARK_USAGE);
+        println(UNMARK_USAGE);
     }
 
     /**
      * Prints usage information for {@code find}.
      */
     public void showFindUsage() {
-        System.out.println(FIND_USAGE);
+        println(FIND_USAGE);
     }
 
     //@@author gumingyoujia
@@ -409,7 +793,22 @@ public class Ui {
      * Prints usage information for {@code edit}.
      */
     public void showEditUsage() {
-        System.out.println(EDIT_USAGE);
+        println(EDIT_USAGE);
+    }
+
+    //@@author
+    /**
+     * Prints usage information for {@code list}.
+     */
+    public void showListUsage() {
+        println(LIST_USAGE);
+    }
+
+    /**
+     * Prints usage information for {@code sort}.
+     */
+    public void showSortUsage() {
+        println(SORT_USAGE);
     }
 
     //@@author gumingyoujia
@@ -427,7 +826,7 @@ public class Ui {
      * Displays a message for unknown commands and nudges the user toward {@code help}.
      */
     public void showUnknownCommand() {
-        System.out.println("Unknown command. Type 'help' to see available commands.");
+        println("Unknown command. Type 'help' to see available commands.");
     }
 
 }
@@ -0,0 +1,74 @@
+package seedu.orcashbuddy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LaunchOptionsTest {
+
+    private static String parseError(String... args) {
+        return assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(args)).getMessage();
+    }
+
+    @Test
+    void parse_noArguments_runsInteractiveSessionWithDefaults() {
+        LaunchOptions options = LaunchOptions.parse(new String[0]);
+        assertNull(options.batchScript());
+        assertNull(options.replayTrace());
+        assertTrue(options.isPerfEnabled());
+        assertEquals(new File("data"), options.dataDir());
+    }
+
+    @Test
+    void parse_validOptions_setsEveryValue() {
+        LaunchOptions batch = LaunchOptions.parse(new String[] {
+            "--batch", "march.txt", "--save-every", "50", "--event-log", "events.log", "--data", "trial", "--no-perf"
+        });
+        assertEquals(Path.of("march.txt"), batch.batchScript());
+        assertEquals(50, batch.saveEvery());
+        assertEquals(Path.of("events.log"), batch.eventLogPath());
+        assertEquals(new File("trial"), batch.dataDir());
+        assertFalse(batch.isPerfEnabled());
+
+        LaunchOptions replay = LaunchOptions.parse(new String[] {"--original-pace", "--replay", "session.trc"});
+        assertEquals(Path.of("session.trc"), replay.replayTrace());
+        assertTrue(replay.isOriginalPace());
+    }
+
+    @Test
+    void parse_unknownArguments_rejected() {
+        assertEquals("Unknown option --bacth.", parseError("--bacth", "march.txt"));
+        assertEquals("Unexpected argument march.txt, every value must follow its option.",
+                parseError("march.txt"));
+        assertEquals("The option --data is given more than once.", parseError("--data", "a", "--data", "b"));
+    }
+
+    @Test
+    void parse_missingOrInvalidValues_rejected() {
+        assertEquals("The option --batch needs a value.", parseError("--batch"));
+        assertEquals("The option --batch needs a value.", parseError("--batch", "--no-perf"));
+        assertEquals("The number of commands between saves must be a positive whole number.",
+                parseError("--batch", "march.txt", "--save-every", "0"));
+    }
+
+    @Test
+    void parse_optionsForAnotherMode_rejected() {
+        assertEquals("The options --batch and --replay cannot be used together.",
+                parseError("--batch", "march.txt", "--replay", "session.trc"));
+        assertEquals("The option --record-trace cannot be used with --batch, it only records interactive sessions.",
+                parseError("--batch", "march.txt", "--record-trace", "session.trc"));
+        assertEquals("The option --record-trace cannot be used with --replay, it only records interactive sessions.",
+                parseError("--replay", "old.trc", "--record-trace", "session.trc"));
+        assertEquals("The option --event-log cannot be used with --replay, a replay changes only a copy of the data.",
+                parseError("--replay", "session.trc", "--event-log", "events.log"));
+        assertEquals("The option --save-every only applies with --batch.", parseError("--save-every", "10"));
+        assertEquals("The option --original-pace only applies with --replay.", parseError("--original-pace"));
+    }
+}
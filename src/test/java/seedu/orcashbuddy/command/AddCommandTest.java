@@ -53,7 +53,7 @@ class AddCommandTest {
     @Test
     void execute_addsExpense_showsInUi() throws Exception {
         AddCommand cmd = new AddCommand(12.50, "Lunch");
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
 
         // UI should be notified with the same expense
         assertNotNull(ui.lastNewExpense, "Ui.showNewExpense should be called");
@@ -62,7 +62,7 @@ class AddCommandTest {
         assertEquals(Expense.DEFAULT_CATEGORY, ui.lastNewExpense.getCategory());
 
         // Listing should show exactly one expense with correct formatting
-        new ListCommand().execute(manager, ui);
+        ui.showResult(new ListCommand().execute(manager));
         assertNotNull(ui.lastListedExpenses);
         assertEquals(1, ui.lastListedExpenses.size());
         assertEquals("[ ] [" + Expense.DEFAULT_CATEGORY + "] Lunch - $12.50",
@@ -73,13 +73,13 @@ class AddCommandTest {
     void execute_zeroAmount_asserts() {
         AddCommand cmd = new AddCommand(0.0, "Invalid expense");
         // This relies on JVM assertions being enabled (-ea)
-        assertThrows(AssertionError.class, () -> cmd.execute(manager, ui));
+        assertThrows(AssertionError.class, () -> ui.showResult(cmd.execute(manager)));
     }
 
     @Test
     void execute_blankDescription_asserts() {
         AddCommand cmd = new AddCommand(5.0, "   ");
         // This relies on JVM assertions being enabled (-ea)
-        assertThrows(AssertionError.class, () -> cmd.execute(manager, ui));
+        assertThrows(AssertionError.class, () -> ui.showResult(cmd.execute(manager)));
     }
 }
@@ -26,7 +26,7 @@ class ByeCommandTest {
         ByeCommand command = new ByeCommand();
         StubUi ui = new StubUi();
 
-        command.execute(new ExpenseManager(), ui);
+        ui.showResult(command.execute(new ExpenseManager()));
 
         assertTrue(ui.wasGoodbyeShown(), "Ui.showGoodbye should be invoked");
         assertTrue(command.isExit(), "ByeCommand should signal application exit");
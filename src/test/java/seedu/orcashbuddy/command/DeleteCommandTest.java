@@ -50,8 +50,8 @@ class DeleteCommandTest {
     void setUp() {
         manager = new ExpenseManager();
         ui = new StubUi();
-        new AddCommand(5.00, "Snack").execute(manager, ui);
-        new AddCommand(10.00, "Taxi").execute(manager, ui);
+        ui.showResult(new AddCommand(5.00, "Snack").execute(manager));
+        ui.showResult(new AddCommand(10.00, "Taxi").execute(manager));
     }
 
     /**
@@ -62,11 +62,11 @@ class DeleteCommandTest {
      */
     @Test
     void execute_validIndex_deletesAndReturnsExpense() throws Exception {
-        new DeleteCommand(1).execute(manager, ui);
+        ui.showResult(new DeleteCommand(1).execute(manager));
         assertNotNull(ui.lastDeletedExpense, "Ui.showDeletedExpense should be called");
         assertEquals("Snack", ui.lastDeletedExpense.getDescription());
         // Now list and ensure only 'Taxi' remains
-        new ListCommand().execute(manager, ui);
+        ui.showResult(new ListCommand().execute(manager));
         assertEquals(1, ui.lastListedExpenses.size());
         assertEquals("[ ] [" + Expense.DEFAULT_CATEGORY + "] Taxi - $10.00",
                 ui.lastListedExpenses.get(0).formatForDisplay());
@@ -81,15 +81,15 @@ class DeleteCommandTest {
      */
     @Test
     void execute_deletePreviouslyMarked_rebalancesTotals() throws Exception {
-        new AddCommand(40.00, "Books").execute(manager, ui);
-        new SetBudgetCommand(200.00).execute(manager, ui);
-        new MarkCommand(3).execute(manager, ui);
-        new ListCommand().execute(manager, ui);
+        ui.showResult(new AddCommand(40.00, "Books").execute(manager));
+        ui.showResult(new SetBudgetCommand(200.00).execute(manager));
+        ui.showResult(new MarkCommand(3).execute(manager));
+        ui.showResult(new ListCommand().execute(manager));
         assertEquals(40.00, ui.seenTotal, 1e-6);
         assertEquals(160.00, ui.seenRemaining, 1e-6);
         // Delete the marked expense -> totals drop to zero
-        new DeleteCommand(3).execute(manager, ui);
-        new ListCommand().execute(manager, ui);
+        ui.showResult(new DeleteCommand(3).execute(manager));
+        ui.showResult(new ListCommand().execute(manager));
         assertEquals(0.00, ui.seenTotal, 1e-6);
         assertEquals(200.00, ui.seenRemaining, 1e-6);
     }
@@ -55,9 +55,9 @@ class EditCommandTest {
         manager = new ExpenseManager();
         ui = new StubUi();
 
-        new AddCommand(12.50, "Lunch", "Food").execute(manager, ui);
-        new AddCommand(30.00, "Book", "Education").execute(manager, ui);
-        new SetBudgetCommand(100.0).execute(manager, ui);
+        ui.showResult(new AddCommand(12.50, "Lunch", "Food").execute(manager));
+        ui.showResult(new AddCommand(30.00, "Book", "Education").execute(manager));
+        ui.showResult(new SetBudgetCommand(100.0).execute(manager));
     }
 
     // === Basic update scenarios ===
@@ -65,7 +65,7 @@ class EditCommandTest {
     @Test
     void execute_editAllFields_updatesExpenseSuccessfully() throws Exception {
         EditCommand cmd = new EditCommand(1, 20.00, "Dinner", "Meals");
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
 
         Expense edited = manager.getExpense(1);
         assertEquals(20.00, edited.getAmount(), 1e-6);
@@ -78,7 +78,7 @@ class EditCommandTest {
     @Test
     void execute_editPartialFields_preservesUnchangedFields() throws Exception {
         EditCommand cmd = new EditCommand(2, null, "Notebook", null);
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
 
         Expense edited = manager.getExpense(2);
         assertEquals(30.00, edited.getAmount());
@@ -90,7 +90,7 @@ class EditCommandTest {
     @Test
     void execute_editDoesNotAffectOtherExpenses() throws Exception {
         EditCommand cmd = new EditCommand(1, 25.0, "Dinner", null);
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
 
         Expense edited = manager.getExpense(1);
         Expense untouched = manager.getExpense(2);
@@ -103,10 +103,10 @@ class EditCommandTest {
 
     @Test
     void execute_editMarkedExpense_editPreservesMarkStatus() throws Exception {
-        new MarkCommand(1).execute(manager, ui);
+        ui.showResult(new MarkCommand(1).execute(manager));
 
         EditCommand cmd = new EditCommand(1, 15.0, "Lunch with friends", null);
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
 
         Expense edited = manager.getExpense(1);
         assertTrue(edited.isMarked());
@@ -115,7 +115,7 @@ class EditCommandTest {
     @Test
     void execute_editUnmarkedExpense_preservesMarkStatus() throws Exception {
         EditCommand cmd = new EditCommand(1, 20.0, "Updated Lunch", "Dining");
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
 
         Expense edited = manager.getExpense(1);
         assertFalse(edited.isMarked());
@@ -123,10 +123,10 @@ class EditCommandTest {
 
     @Test
     void execute_editMarkedExpense_triggersProgressBarUpdate() throws Exception {
-        new MarkCommand(1).execute(manager, ui);
+        ui.showResult(new MarkCommand(1).execute(manager));
 
         EditCommand cmd = new EditCommand(1, 15.0, "Updated Lunch", "Dining");
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
 
         assertTrue(ui.progressBarShown, "Progress bar should be shown when editing a marked expense's amount");
     }
@@ -137,7 +137,7 @@ class EditCommandTest {
     @Test
     void execute_noChanges_invokesShowEmptyEdit() throws Exception {
         EditCommand cmd = new EditCommand(1, null, null, null);
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
 
         assertNull(ui.lastEditedExpense);
         assertNotNull(ui.lastEmptyEdit);
@@ -146,7 +146,7 @@ class EditCommandTest {
     @Test
     void execute_smallChangeInAmount_detectedAsChange() throws Exception {
         EditCommand cmd = new EditCommand(1, 12.501, null, null);
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
 
         assertNull(ui.lastEditedExpense, "Digits after second decimal is not counted as changes");
     }
@@ -156,13 +156,13 @@ class EditCommandTest {
     @Test
     void execute_invalidIndex_throwsException() {
         EditCommand cmd = new EditCommand(10, 10.0, "Fake", "Misc");
-        assertThrows(OrCashBuddyException.class, () -> cmd.execute(manager, ui));
+        assertThrows(OrCashBuddyException.class, () -> ui.showResult(cmd.execute(manager)));
     }
 
     @Test
     void execute_editFirstExpenseBoundary_succeeds() throws Exception {
         EditCommand cmd = new EditCommand(1, 50.0, "Boundary case", "Misc");
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
         Expense edited = manager.getExpense(1);
 
         assertEquals(50.0, edited.getAmount());
@@ -173,29 +173,23 @@ class EditCommandTest {
     void execute_editLastExpenseBoundary_succeeds() throws Exception {
         int lastIndex = manager.getSize();
         EditCommand cmd = new EditCommand(lastIndex, 99.9, "Last", "Category");
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
         Expense edited = manager.getExpense(lastIndex);
 
         assertEquals(99.9, edited.getAmount());
         assertEquals("Last", edited.getDescription());
     }
 
-    @Test
-    void execute_editWithNullUi_throwsAssertionError() {
-        EditCommand cmd = new EditCommand(1, 20.0, "Desc", "Cat");
-        assertThrows(AssertionError.class, () -> cmd.execute(manager, null));
-    }
-
     @Test
     void execute_editWithNullManager_throwsAssertionError() {
         EditCommand cmd = new EditCommand(1, 20.0, "Desc", "Cat");
-        assertThrows(AssertionError.class, () -> cmd.execute(null, ui));
+        assertThrows(AssertionError.class, () -> ui.showResult(cmd.execute(null)));
     }
 
     @Test
     void execute_editWithInvalidAmount_doesNotCrash() {
         assertThrows(IllegalArgumentException.class, () -> {
-            new EditCommand(1, -10.0, "Invalid", "Test").execute(manager, ui);
+            ui.showResult(new EditCommand(1, -10.0, "Invalid", "Test").execute(manager));
         });
     }
 
@@ -204,7 +198,7 @@ class EditCommandTest {
     @Test
     void execute_editCategoryAndAmountOnly_updatesCorrectly() throws Exception {
         EditCommand cmd = new EditCommand(1, 99.0, null, "Travel");
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
 
         Expense edited = manager.getExpense(1);
         assertEquals(99.0, edited.getAmount());
@@ -215,7 +209,7 @@ class EditCommandTest {
     @Test
     void execute_editDescriptionOnly_reflectsInManager() throws Exception {
         EditCommand cmd = new EditCommand(1, null, "Updated Description", null);
-        cmd.execute(manager, ui);
+        ui.showResult(cmd.execute(manager));
 
         assertEquals("Updated Description", manager.getExpense(1).getDescription());
     }
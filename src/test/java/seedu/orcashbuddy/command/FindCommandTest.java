@@ -4,13 +4,23 @@ package seedu.orcashbuddy.command;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.query.AmountQuery;
+import seedu.orcashbuddy.query.AndQuery;
+import seedu.orcashbuddy.query.CategoryQuery;
+import seedu.orcashbuddy.query.DescriptionQuery;
+import seedu.orcashbuddy.query.FuzzyDescriptionQuery;
+import seedu.orcashbuddy.query.NotQuery;
+import seedu.orcashbuddy.query.OrQuery;
+import seedu.orcashbuddy.query.StatusQuery;
 import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.storage.QueryPlan;
 import seedu.orcashbuddy.ui.Ui;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -28,14 +38,20 @@ class FindCommandTest {
     static class StubUi extends Ui {
         List<Expense> lastFoundExpenses = null;
         String lastSearchTerm = null;
-        String lastSearchType = null;
+        SearchType lastSearchType = null;
+        QueryPlan lastPlan = null;
 
         @Override
-        public void showFoundExpenses(List<Expense> foundExpenses, String searchTerm, String searchType) {
+        public void showFoundExpenses(List<Expense> foundExpenses, String searchTerm, SearchType searchType) {
             this.lastFoundExpenses = foundExpenses;
             this.lastSearchTerm = searchTerm;
             this.lastSearchType = searchType;
         }
+
+        @Override
+        public void showQueryPlan(QueryPlan plan) {
+            this.lastPlan = plan;
+        }
     }
 
     @BeforeEach
@@ -50,18 +66,18 @@ class FindCommandTest {
     @Test
     void execute_findByCategory_findsMatchingExpenses() throws Exception {
         // Add expenses with different categories
-        new AddCommand(50.00, "Lunch", "Food").execute(manager, ui);
-        new AddCommand(100.00, "Court booking", "Venue").execute(manager, ui);
-        new AddCommand(25.00, "Dinner", "Food").execute(manager, ui);
+        ui.showResult(new AddCommand(50.00, "Lunch", "Food").execute(manager));
+        ui.showResult(new AddCommand(100.00, "Court booking", "Venue").execute(manager));
+        ui.showResult(new AddCommand(25.00, "Dinner", "Food").execute(manager));
 
         // Execute find command for "Food" category
-        new FindCommand("category", "Food").execute(manager, ui);
+        ui.showResult(new FindCommand(SearchType.CATEGORY, "Food").execute(manager));
 
         // Verify results
         assertNotNull(ui.lastFoundExpenses);
         assertEquals(2, ui.lastFoundExpenses.size());
         assertEquals("Food", ui.lastSearchTerm);
-        assertEquals("category", ui.lastSearchType);
+        assertEquals(SearchType.CATEGORY, ui.lastSearchType);
 
         // Verify both Food expenses are found
         assertEquals("[ ] [Food] Lunch - $50.00",
@@ -76,11 +92,11 @@ class FindCommandTest {
     @Test
     void execute_findByCategoryLowercase_findsMatchingExpenses() throws Exception {
         // Add expenses with mixed case categories
-        new AddCommand(50.00, "Lunch", "Food").execute(manager, ui);
-        new AddCommand(100.00, "Court booking", "Venue").execute(manager, ui);
+        ui.showResult(new AddCommand(50.00, "Lunch", "Food").execute(manager));
+        ui.showResult(new AddCommand(100.00, "Court booking", "Venue").execute(manager));
 
         // Execute find command with lowercase search term
-        new FindCommand("category", "food").execute(manager, ui);
+        ui.showResult(new FindCommand(SearchType.CATEGORY, "food").execute(manager));
 
         // Verify results
         assertNotNull(ui.lastFoundExpenses);
@@ -95,18 +111,18 @@ class FindCommandTest {
     @Test
     void execute_findByDescription_findsMatchingExpenses() throws Exception {
         // Add expenses with different descriptions
-        new AddCommand(50.00, "Lunch at cafe", "Food").execute(manager, ui);
-        new AddCommand(100.00, "Court booking", "Venue").execute(manager, ui);
-        new AddCommand(25.00, "Dinner at restaurant", "Food").execute(manager, ui);
+        ui.showResult(new AddCommand(50.00, "Lunch at cafe", "Food").execute(manager));
+        ui.showResult(new AddCommand(100.00, "Court booking", "Venue").execute(manager));
+        ui.showResult(new AddCommand(25.00, "Dinner at restaurant", "Food").execute(manager));
 
         // Execute find command for "at" in description
-        new FindCommand("description", "at").execute(manager, ui);
+        ui.showResult(new FindCommand(SearchType.DESCRIPTION, "at").execute(manager));
 
         // Verify results
         assertNotNull(ui.lastFoundExpenses);
         assertEquals(2, ui.lastFoundExpenses.size());
         assertEquals("at", ui.lastSearchTerm);
-        assertEquals("description", ui.lastSearchType);
+        assertEquals(SearchType.DESCRIPTION, ui.lastSearchType);
     }
 
     /**
@@ -115,11 +131,11 @@ class FindCommandTest {
     @Test
     void execute_findByDescriptionUppercase_findsMatchingExpenses() throws Exception {
         // Add expenses
-        new AddCommand(50.00, "lunch", "Food").execute(manager, ui);
-        new AddCommand(25.00, "dinner", "Food").execute(manager, ui);
+        ui.showResult(new AddCommand(50.00, "lunch", "Food").execute(manager));
+        ui.showResult(new AddCommand(25.00, "dinner", "Food").execute(manager));
 
         // Execute find command with uppercase search term
-        new FindCommand("description", "LUNCH").execute(manager, ui);
+        ui.showResult(new FindCommand(SearchType.DESCRIPTION, "LUNCH").execute(manager));
 
         // Verify results
         assertNotNull(ui.lastFoundExpenses);
@@ -134,17 +150,17 @@ class FindCommandTest {
     @Test
     void execute_findByCategoryNoMatch_returnsEmptyList() throws Exception {
         // Add expenses
-        new AddCommand(50.00, "Lunch", "Food").execute(manager, ui);
-        new AddCommand(100.00, "Court booking", "Venue").execute(manager, ui);
+        ui.showResult(new AddCommand(50.00, "Lunch", "Food").execute(manager));
+        ui.showResult(new AddCommand(100.00, "Court booking", "Venue").execute(manager));
 
         // Execute find command for non-existent category
-        new FindCommand("category", "Transport").execute(manager, ui);
+        ui.showResult(new FindCommand(SearchType.CATEGORY, "Transport").execute(manager));
 
         // Verify results
         assertNotNull(ui.lastFoundExpenses);
         assertEquals(0, ui.lastFoundExpenses.size());
         assertEquals("Transport", ui.lastSearchTerm);
-        assertEquals("category", ui.lastSearchType);
+        assertEquals(SearchType.CATEGORY, ui.lastSearchType);
     }
 
     /**
@@ -153,17 +169,17 @@ class FindCommandTest {
     @Test
     void execute_findByDescriptionNoMatch_returnsEmptyList() throws Exception {
         // Add expenses
-        new AddCommand(50.00, "Lunch", "Food").execute(manager, ui);
-        new AddCommand(100.00, "Court booking", "Venue").execute(manager, ui);
+        ui.showResult(new AddCommand(50.00, "Lunch", "Food").execute(manager));
+        ui.showResult(new AddCommand(100.00, "Court booking", "Venue").execute(manager));
 
         // Execute find command for non-existent description keyword
-        new FindCommand("description", "breakfast").execute(manager, ui);
+        ui.showResult(new FindCommand(SearchType.DESCRIPTION, "breakfast").execute(manager));
 
         // Verify results
         assertNotNull(ui.lastFoundExpenses);
         assertEquals(0, ui.lastFoundExpenses.size());
         assertEquals("breakfast", ui.lastSearchTerm);
-        assertEquals("description", ui.lastSearchType);
+        assertEquals(SearchType.DESCRIPTION, ui.lastSearchType);
     }
 
     /**
@@ -172,11 +188,11 @@ class FindCommandTest {
     @Test
     void execute_findByCategoryPartialMatch_findsMatchingExpenses() throws Exception {
         // Add expenses
-        new AddCommand(50.00, "Lunch", "Food-Groceries").execute(manager, ui);
-        new AddCommand(100.00, "Court booking", "Venue").execute(manager, ui);
+        ui.showResult(new AddCommand(50.00, "Lunch", "Food-Groceries").execute(manager));
+        ui.showResult(new AddCommand(100.00, "Court booking", "Venue").execute(manager));
 
         // Execute find command with partial category name
-        new FindCommand("category", "Food").execute(manager, ui);
+        ui.showResult(new FindCommand(SearchType.CATEGORY, "Food").execute(manager));
 
         // Verify results
         assertNotNull(ui.lastFoundExpenses);
@@ -190,12 +206,12 @@ class FindCommandTest {
     @Test
     void execute_findWithMarkedExpenses_findsCorrectly() throws Exception {
         // Add and mark expenses
-        new AddCommand(50.00, "Lunch", "Food").execute(manager, ui);
-        new AddCommand(100.00, "Dinner", "Food").execute(manager, ui);
+        ui.showResult(new AddCommand(50.00, "Lunch", "Food").execute(manager));
+        ui.showResult(new AddCommand(100.00, "Dinner", "Food").execute(manager));
         manager.markExpense(1); // Mark first expense
 
         // Execute find command
-        new FindCommand("category", "Food").execute(manager, ui);
+        ui.showResult(new FindCommand(SearchType.CATEGORY, "Food").execute(manager));
 
         // Verify both marked and unmarked expenses are found
         assertNotNull(ui.lastFoundExpenses);
@@ -203,4 +219,103 @@ class FindCommandTest {
         assertTrue(ui.lastFoundExpenses.get(0).isMarked());
         assertFalse(ui.lastFoundExpenses.get(1).isMarked());
     }
+
+    //@@author
+    /**
+     * Tests that a composed query matches the combination of its terms, in list order.
+     */
+    @Test
+    void execute_composedQuery_findsMatchingExpensesInOrder() throws Exception {
+        ui.showResult(new AddCommand(60.00, "Team lunch", "Food").execute(manager));
+        ui.showResult(new AddCommand(100.00, "Court booking", "Venue").execute(manager));
+        ui.showResult(new AddCommand(25.00, "Dinner", "Food").execute(manager));
+        ui.showResult(new AddCommand(80.00, "Banquet", "Food").execute(manager));
+        manager.markExpense(4);
+
+        // Food AND amount > 50 AND NOT marked
+        ui.showResult(new FindCommand(new AndQuery(List.of(new CategoryQuery("food"),
+                new AmountQuery(5001, AmountQuery.NO_UPPER_BOUND),
+                new NotQuery(new StatusQuery(true)))), false).execute(manager));
+        assertEquals(SearchType.QUERY, ui.lastSearchType);
+        assertEquals("cat/food AND a/>=50.01 AND NOT status/marked", ui.lastSearchTerm);
+        assertEquals(1, ui.lastFoundExpenses.size());
+        assertEquals("Team lunch", ui.lastFoundExpenses.get(0).getDescription());
+
+        // Venue OR description "dinner"
+        ui.showResult(new FindCommand(new OrQuery(List.of(new CategoryQuery("venue"),
+                new DescriptionQuery("dinner"))), false).execute(manager));
+        assertEquals(2, ui.lastFoundExpenses.size());
+        assertEquals("Court booking", ui.lastFoundExpenses.get(0).getDescription());
+        assertEquals("Dinner", ui.lastFoundExpenses.get(1).getDescription());
+    }
+
+    /**
+     * Tests that explain mode shows the plan without searching, and picks the category index when selective.
+     */
+    @Test
+    void execute_explain_showsPlanOnly() throws Exception {
+        ui.showResult(new AddCommand(60.00, "Team lunch", "Food").execute(manager));
+        ui.showResult(new AddCommand(100.00, "Court booking", "Venue").execute(manager));
+        ui.showResult(new AddCommand(25.00, "Taxi", "Transport").execute(manager));
+
+        ui.showResult(new FindCommand(new AndQuery(List.of(new CategoryQuery("venue"),
+                new DescriptionQuery("court"))), true).execute(manager));
+        assertNull(ui.lastFoundExpenses);
+        assertNotNull(ui.lastPlan);
+        assertTrue(ui.lastPlan.usesIndex());
+
+        ui.showResult(new FindCommand(new NotQuery(new CategoryQuery("venue")), true).execute(manager));
+        assertFalse(ui.lastPlan.usesIndex());
+        assertTrue(ui.lastPlan.getDescription().startsWith("full scan"));
+    }
+
+    /**
+     * Tests that the category index follows deletions, edits and replacements.
+     */
+    @Test
+    void execute_findAfterDeleteAndEdit_usesUpdatedIndex() throws Exception {
+        ui.showResult(new AddCommand(10.00, "Lunch", "Food").execute(manager));
+        ui.showResult(new AddCommand(20.00, "Bus", "Transport").execute(manager));
+        ui.showResult(new AddCommand(30.00, "Dinner", "Food").execute(manager));
+        ui.showResult(new AddCommand(40.00, "Train", "Transport").execute(manager));
+        ui.showResult(new AddCommand(50.00, "Court", "Venue").execute(manager));
+
+        manager.deleteExpense(1);
+        ui.showResult(new EditCommand(3, null, null, "Food").execute(manager)); // Train becomes Food
+
+        ui.showResult(new FindCommand(SearchType.CATEGORY, "food").execute(manager));
+        assertEquals(2, ui.lastFoundExpenses.size());
+        assertEquals("Dinner", ui.lastFoundExpenses.get(0).getDescription());
+        assertEquals("Train", ui.lastFoundExpenses.get(1).getDescription());
+
+        ui.showResult(new FindCommand(SearchType.CATEGORY, "transport").execute(manager));
+        assertEquals(1, ui.lastFoundExpenses.size());
+        assertEquals("Bus", ui.lastFoundExpenses.get(0).getDescription());
+    }
+
+    /**
+     * Tests that fuzzy description search tolerates typos and follows edits and deletions.
+     */
+    @Test
+    void execute_fuzzyDescription_findsSimilarWords() throws Exception {
+        ui.showResult(new AddCommand(60.00, "Team lunch at restaurant", "Food").execute(manager));
+        ui.showResult(new AddCommand(5.00, "Coffee", "Food").execute(manager));
+        ui.showResult(new AddCommand(100.00, "Court booking", "Venue").execute(manager));
+
+        ui.showResult(new FindCommand(new FuzzyDescriptionQuery("resturant", null), false).execute(manager));
+        assertEquals(1, ui.lastFoundExpenses.size());
+        assertEquals("Team lunch at restaurant", ui.lastFoundExpenses.get(0).getDescription());
+
+        ui.showResult(new FindCommand(new FuzzyDescriptionQuery("resturant", 0), false).execute(manager));
+        assertTrue(ui.lastFoundExpenses.isEmpty());
+
+        manager.deleteExpense(1);
+        ui.showResult(new EditCommand(2, null, "Restaurant deposit", null).execute(manager));
+        ui.showResult(new FindCommand(new FuzzyDescriptionQuery("resturant", null), false).execute(manager));
+        assertEquals(1, ui.lastFoundExpenses.size());
+        assertEquals("Restaurant deposit", ui.lastFoundExpenses.get(0).getDescription());
+
+        ui.showResult(new FindCommand(new FuzzyDescriptionQuery("cofee", null), false).execute(manager));
+        assertEquals("Coffee", ui.lastFoundExpenses.get(0).getDescription());
+    }
 }
@@ -42,7 +42,7 @@ class HelpCommandTest {
 
     @Test
     void execute_displaysMenuAndSeparatorsInOrder() {
-        new HelpCommand().execute(manager, ui);
+        ui.showResult(new HelpCommand().execute(manager));
 
         // Ensure the order of calls is correct: separator → menu → separator
         assertEquals(3, ui.called.size(), "Expected three UI calls (sep, menu, sep)");
@@ -53,7 +53,7 @@ class HelpCommandTest {
 
     @Test
     void execute_logsAndCallsMenuMethod() {
-        new HelpCommand().execute(manager, ui);
+        ui.showResult(new HelpCommand().execute(manager));
 
         // Make sure menu is called at least once
         assertTrue(ui.called.contains("menu"), "Menu should have been displayed");
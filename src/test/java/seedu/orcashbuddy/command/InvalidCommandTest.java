@@ -35,7 +35,7 @@ class InvalidCommandTest {
         TrackingUi ui = new TrackingUi();
         InvalidCommand cmd = new InvalidCommand(new OrCashBuddyException("'add' missing input"));
 
-        cmd.execute(new ExpenseManager(), ui);
+        ui.showResult(cmd.execute(new ExpenseManager()));
 
         assertTrue(ui.addUsageShown);
     }
@@ -45,7 +45,7 @@ class InvalidCommandTest {
         TrackingUi ui = new TrackingUi();
         InvalidCommand cmd = new InvalidCommand(new OrCashBuddyException("'unmark' index"));
 
-        cmd.execute(new ExpenseManager(), ui);
+        ui.showResult(cmd.execute(new ExpenseManager()));
 
         assertTrue(ui.unmarkUsageShown);
     }
@@ -55,7 +55,7 @@ class InvalidCommandTest {
         TrackingUi ui = new TrackingUi();
         InvalidCommand cmd = new InvalidCommand();
 
-        cmd.execute(new ExpenseManager(), ui);
+        ui.showResult(cmd.execute(new ExpenseManager()));
 
         assertTrue(ui.unknownShown);
     }
@@ -67,7 +67,7 @@ class InvalidCommandTest {
                 new OrCashBuddyException("Category must start with a letter and contain only letters, " +
                         "numbers, spaces, or hyphens: 2f"));
 
-        cmd.execute(new ExpenseManager(), ui);
+        ui.showResult(cmd.execute(new ExpenseManager()));
 
         // Should show usage even for validation errors
         assertTrue(ui.addUsageShown);
@@ -78,7 +78,7 @@ class InvalidCommandTest {
         TrackingUi ui = new TrackingUi();
         InvalidCommand cmd = new InvalidCommand(new OrCashBuddyException("Missing prefix: desc/"));
 
-        cmd.execute(new ExpenseManager(), ui);
+        ui.showResult(cmd.execute(new ExpenseManager()));
 
         // Should show usage for structural errors like missing prefixes
         assertTrue(ui.addUsageShown);
@@ -3,13 +3,16 @@ package seedu.orcashbuddy.command;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.storage.BudgetData;
 import seedu.orcashbuddy.storage.ExpenseManager;
 import seedu.orcashbuddy.ui.Ui;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Command-level tests for listing expenses.
@@ -24,6 +27,8 @@ class ListCommandTest {
         Double seenBudget = null;
         Double seenRemaining = null;
         List<Expense> lastListedExpenses = null;
+        int seenFrom = -1;
+        int seenTo = -1;
 
         @Override
         public void showFinancialSummary(double budget, double totalExpense,
@@ -33,6 +38,16 @@ class ListCommandTest {
             this.seenRemaining = remainingBalance;
             this.lastListedExpenses = expenses;
         }
+
+        @Override
+        public void showFinancialSummary(BudgetData budgetData, List<Expense> expenses, int fromIndex, int toIndex) {
+            this.seenTotal = budgetData.totalExpenses();
+            this.seenBudget = budgetData.budget();
+            this.seenRemaining = budgetData.remainingBalance();
+            this.lastListedExpenses = expenses;
+            this.seenFrom = fromIndex;
+            this.seenTo = toIndex;
+        }
     }
 
     @BeforeEach
@@ -43,11 +58,11 @@ class ListCommandTest {
 
     @Test
     void execute_withExpensesAndBudget_displaysTotalsAndItems() throws Exception {
-        new AddCommand(12.50, "Lunch").execute(manager, ui);
-        new AddCommand(7.25, "Coffee").execute(manager, ui);
-        new SetBudgetCommand(100.0).execute(manager, ui);
+        ui.showResult(new AddCommand(12.50, "Lunch").execute(manager));
+        ui.showResult(new AddCommand(7.25, "Coffee").execute(manager));
+        ui.showResult(new SetBudgetCommand(100.0).execute(manager));
 
-        new ListCommand().execute(manager, ui);
+        ui.showResult(new ListCommand().execute(manager));
 
         assertEquals(0.00, ui.seenTotal, 1e-6);
         assertEquals(100.0, ui.seenBudget, 1e-6);
@@ -61,13 +76,69 @@ class ListCommandTest {
 
     @Test
     void execute_noBudget_defaultsToZero() throws Exception {
-        new AddCommand(2.00, "Pen").execute(manager, ui);
+        ui.showResult(new AddCommand(2.00, "Pen").execute(manager));
 
-        new ListCommand().execute(manager, ui);
+        ui.showResult(new ListCommand().execute(manager));
 
         assertEquals(0.00, ui.seenTotal, 1e-6);
         assertEquals(0.0, ui.seenBudget, 1e-6);
         assertEquals(0.00, ui.seenRemaining, 1e-6);
         assertEquals(1, ui.lastListedExpenses.size());
     }
+
+    @Test
+    void execute_page_showsOnlyThatWindowOfFullList() throws Exception {
+        addExpenses(45);
+
+        ui.showResult(new ListCommand(2, 20).execute(manager));
+
+        assertEquals(manager.getExpenses(), ui.lastListedExpenses);
+        assertEquals(20, ui.seenFrom);
+        assertEquals(40, ui.seenTo);
+    }
+
+    @Test
+    void execute_lastPartialPage_stopsAtEndOfList() throws Exception {
+        addExpenses(45);
+
+        ui.showResult(new ListCommand(3, 20).execute(manager));
+
+        assertEquals(40, ui.seenFrom);
+        assertEquals(45, ui.seenTo);
+    }
+
+    @Test
+    void execute_pageBeyondEnd_throws() {
+        addExpenses(5);
+
+        assertThrows(OrCashBuddyException.class, () -> ui.showResult(new ListCommand(2, 5).execute(manager)));
+    }
+
+    @Test
+    void execute_last_showsMostRecentExpenses() throws Exception {
+        addExpenses(10);
+        manager.setBudget(100.0);
+
+        ui.showResult(new ListCommand(3).execute(manager));
+
+        assertEquals(7, ui.seenFrom);
+        assertEquals(10, ui.seenTo);
+        assertEquals(100.0, ui.seenBudget, 1e-6);
+    }
+
+    @Test
+    void execute_lastMoreThanSize_showsEverything() throws Exception {
+        addExpenses(2);
+
+        ui.showResult(new ListCommand(50).execute(manager));
+
+        assertEquals(0, ui.seenFrom);
+        assertEquals(2, ui.seenTo);
+    }
+
+    private void addExpenses(int count) {
+        for (int i = 1; i <= count; i++) {
+            manager.addExpense(new Expense(i, "Item " + i, "Misc"));
+        }
+    }
 }
@@ -33,25 +33,38 @@ class MarkCommandTest {
     void setUp() {
         manager = new ExpenseManager();
         ui = new StubUi();
-        new AddCommand(30.00, "Groceries").execute(manager, ui);
+        ui.showResult(new AddCommand(30.00, "Groceries").execute(manager));
     }
 
     @Test
     void execute_marksExpense_showsInUi() throws Exception {
-        new MarkCommand(1).execute(manager, ui);
+        ui.showResult(new MarkCommand(1).execute(manager));
 
         assertNotNull(ui.lastMarkedExpense);
         assertEquals("[X] [" + Expense.DEFAULT_CATEGORY + "] Groceries - $30.00",
                 ui.lastMarkedExpense.formatForDisplay());
     }
 
+    @Test
+    void execute_afterExpenseWasDisplayed_swapsOnlyStatusIcon() throws Exception {
+        Expense unmarked = manager.getExpense(1);
+        assertEquals("[ ] [" + Expense.DEFAULT_CATEGORY + "] Groceries - $30.00", unmarked.formatForDisplay());
+
+        ui.showResult(new MarkCommand(1).execute(manager));
+        assertEquals("[X] [" + Expense.DEFAULT_CATEGORY + "] Groceries - $30.00",
+                manager.getExpense(1).formatForDisplay());
+
+        ui.showResult(new UnmarkCommand(1).execute(manager));
+        assertEquals(unmarked.formatForDisplay(), manager.getExpense(1).formatForDisplay());
+    }
+
     @Test
     void execute_invalidZeroIndex_asserts() {
-        assertThrows(AssertionError.class, () -> new MarkCommand(0).execute(manager, ui));
+        assertThrows(AssertionError.class, () -> ui.showResult(new MarkCommand(0).execute(manager)));
     }
 
     @Test
     void execute_outOfRangeIndex_throwsOrCashBuddyException() {
-        assertThrows(OrCashBuddyException.class, () -> new MarkCommand(2).execute(manager, ui));
+        assertThrows(OrCashBuddyException.class, () -> ui.showResult(new MarkCommand(2).execute(manager)));
     }
 }
@@ -0,0 +1,82 @@
+package seedu.orcashbuddy.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.query.DescriptionQuery;
+import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.ui.Ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Command-level tests for redoing undone changes.
+ */
+class RedoCommandTest {
+
+    private ExpenseManager manager;
+    private StubUi ui;
+
+    static class StubUi extends Ui {
+        String lastRedoneChange;
+
+        @Override
+        public void showRedoneChange(String change) {
+            this.lastRedoneChange = change;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        manager = new ExpenseManager();
+        ui = new StubUi();
+    }
+
+    @Test
+    void execute_nothingToRedo_throwsOrCashBuddyException() {
+        OrCashBuddyException e = assertThrows(OrCashBuddyException.class,
+                () -> ui.showResult(new RedoCommand().execute(manager)));
+        assertEquals("Nothing to redo", e.getMessage());
+    }
+
+    @Test
+    void execute_afterUndoingDelete_deletesAgain() throws Exception {
+        manager.addExpense(new Expense(4.00, "Tea", "Drinks"));
+        manager.addExpense(new Expense(9.00, "Noodles", "Food"));
+        manager.deleteExpense(1);
+        manager.undo();
+
+        ui.showResult(new RedoCommand().execute(manager));
+
+        assertEquals(1, manager.getSize());
+        assertEquals("Noodles", manager.getExpense(1).getDescription());
+        assertEquals("delete [ ] [Drinks] Tea - $4.00", ui.lastRedoneChange);
+        assertTrue(manager.findExpenses(new DescriptionQuery("tea")).isEmpty());
+    }
+
+    @Test
+    void execute_afterUndoingEditOfMarkedExpense_reappliesEditKeepingMark() throws Exception {
+        manager.addExpense(new Expense(10.00, "Coffee", "Drinks"));
+        manager.markExpense(1);
+        ui.showResult(new EditCommand(1, 14.00, null, null).execute(manager));
+        manager.undo();
+
+        ui.showResult(new RedoCommand().execute(manager));
+
+        assertTrue(manager.getExpense(1).isMarked());
+        assertEquals(14.00, manager.getTotalExpenses(), 1e-9);
+    }
+
+    @Test
+    void execute_afterNewChange_throwsOrCashBuddyException() throws Exception {
+        manager.setBudget(100);
+        manager.undo();
+        manager.setBudget(80);
+
+        assertThrows(OrCashBuddyException.class, () -> ui.showResult(new RedoCommand().execute(manager)));
+        assertEquals(80.0, manager.getBudget(), 1e-9);
+    }
+}
@@ -51,15 +51,15 @@ class SetBudgetCommandTest {
 
     @Test
     void execute_setsBudget_andListReflectsIt() throws Exception {
-        new SetBudgetCommand(150.00).execute(manager, ui);
+        ui.showResult(new SetBudgetCommand(150.00).execute(manager));
 
         assertNotNull(ui.lastBudgetShown);
         assertEquals(150.00, ui.lastBudgetShown, 1e-6);
 
         // Add an expense and verify remaining
-        new AddCommand(30.00, "Groceries").execute(manager, ui);
+        ui.showResult(new AddCommand(30.00, "Groceries").execute(manager));
 
-        new ListCommand().execute(manager, ui);
+        ui.showResult(new ListCommand().execute(manager));
         assertEquals(0.00, ui.seenTotal, 1e-6);
         assertEquals(150.00, ui.seenBudget, 1e-6);
         assertEquals(150.00, ui.seenRemaining, 1e-6);
@@ -70,7 +70,7 @@ class SetBudgetCommandTest {
 
     @Test
     void execute_nonPositiveBudget_asserts() {
-        assertThrows(AssertionError.class, () -> new SetBudgetCommand(0.0).execute(manager, ui));
-        assertThrows(AssertionError.class, () -> new SetBudgetCommand(-10.0).execute(manager, ui));
+        assertThrows(AssertionError.class, () -> ui.showResult(new SetBudgetCommand(0.0).execute(manager)));
+        assertThrows(AssertionError.class, () -> ui.showResult(new SetBudgetCommand(-10.0).execute(manager)));
     }
 }
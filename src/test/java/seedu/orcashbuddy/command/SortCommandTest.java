@@ -5,11 +5,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.orcashbuddy.expense.Expense;
 import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.storage.SortKey;
 import seedu.orcashbuddy.ui.Ui;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -25,12 +27,27 @@ class SortCommandTest {
     static class StubUi extends Ui {
         List<Expense> lastSortedExpenses = null;
         Boolean isListEmpty = false;
+        List<Expense> lastSelectedExpenses = null;
+        Boolean wasLargest = null;
+        List<SortKey> lastKeys = null;
 
         @Override
         public void showSortedExpenseList(List<Expense> expenses) {
             this.lastSortedExpenses = expenses;
         }
 
+        @Override
+        public void showSortedExpenseList(List<Expense> expenses, List<SortKey> keys, boolean ascending) {
+            this.lastSortedExpenses = expenses;
+            this.lastKeys = keys;
+        }
+
+        @Override
+        public void showSelectedExpenseList(List<Expense> expenses, boolean largest) {
+            this.lastSelectedExpenses = expenses;
+            this.wasLargest = largest;
+        }
+
         @Override
         public void showEmptyExpenseList() {
             this.isListEmpty = true;
@@ -49,12 +66,12 @@ class SortCommandTest {
     @Test
     void execute_withMultipleExpenses_sortsDescendingByAmount() throws Exception {
         // Add expenses in unsorted order
-        new AddCommand(12.50, "Lunch").execute(manager, ui);
-        new AddCommand(7.25, "Coffee").execute(manager, ui);
-        new AddCommand(25.00, "Groceries").execute(manager, ui);
+        ui.showResult(new AddCommand(12.50, "Lunch").execute(manager));
+        ui.showResult(new AddCommand(7.25, "Coffee").execute(manager));
+        ui.showResult(new AddCommand(25.00, "Groceries").execute(manager));
 
         // Execute the sort command
-        new SortCommand().execute(manager, ui);
+        ui.showResult(new SortCommand().execute(manager));
 
         // Verify sorted order (highest to lowest)
         assertEquals(3, ui.lastSortedExpenses.size());
@@ -73,7 +90,7 @@ class SortCommandTest {
     @Test
     void execute_withNoExpenses_displaysNoExpenseAddedMessage() throws Exception{
         // Execute SortCommand when no expenses exist
-        new SortCommand().execute(manager, ui);
+        ui.showResult(new SortCommand().execute(manager));
 
         // Verify printed message
         assertTrue(ui.isListEmpty);
@@ -90,10 +107,10 @@ class SortCommandTest {
      */
     @Test
     void execute_withEqualAmounts_preservesInsertionOrder() throws Exception {
-        new AddCommand(10.00, "Zebra").execute(manager, ui);
-        new AddCommand(10.00, "Apple").execute(manager, ui);
+        ui.showResult(new AddCommand(10.00, "Zebra").execute(manager));
+        ui.showResult(new AddCommand(10.00, "Apple").execute(manager));
 
-        new SortCommand().execute(manager, ui);
+        ui.showResult(new SortCommand().execute(manager));
 
         assertEquals(2, ui.lastSortedExpenses.size());
         // Expect the same order they were added, since amounts are equal
@@ -102,4 +119,88 @@ class SortCommandTest {
         assertEquals("[ ] [" + Expense.DEFAULT_CATEGORY + "] Apple - $10.00",
                 ui.lastSortedExpenses.get(1).formatForDisplay());
     }
+
+    @Test
+    void execute_top_showsLargestFirstWithTiesInInsertionOrder() throws Exception {
+        ui.showResult(new AddCommand(5.00, "Small").execute(manager));
+        ui.showResult(new AddCommand(30.00, "First Big").execute(manager));
+        ui.showResult(new AddCommand(12.00, "Medium").execute(manager));
+        ui.showResult(new AddCommand(30.00, "Second Big").execute(manager));
+
+        ui.showResult(new SortCommand(3, true).execute(manager));
+
+        assertTrue(ui.wasLargest);
+        assertEquals(3, ui.lastSelectedExpenses.size());
+        assertEquals("First Big", ui.lastSelectedExpenses.get(0).getDescription());
+        assertEquals("Second Big", ui.lastSelectedExpenses.get(1).getDescription());
+        assertEquals("Medium", ui.lastSelectedExpenses.get(2).getDescription());
+    }
+
+    @Test
+    void execute_bottom_showsSmallestFirstWithTiesInInsertionOrder() throws Exception {
+        ui.showResult(new AddCommand(8.00, "First Cheap").execute(manager));
+        ui.showResult(new AddCommand(20.00, "Pricey").execute(manager));
+        ui.showResult(new AddCommand(8.00, "Second Cheap").execute(manager));
+
+        ui.showResult(new SortCommand(2, false).execute(manager));
+
+        assertFalse(ui.wasLargest);
+        assertEquals(2, ui.lastSelectedExpenses.size());
+        assertEquals("First Cheap", ui.lastSelectedExpenses.get(0).getDescription());
+        assertEquals("Second Cheap", ui.lastSelectedExpenses.get(1).getDescription());
+    }
+
+    @Test
+    void execute_topLargerThanList_showsEveryExpense() throws Exception {
+        ui.showResult(new AddCommand(1.00, "A").execute(manager));
+        ui.showResult(new AddCommand(2.00, "B").execute(manager));
+
+        ui.showResult(new SortCommand(10, true).execute(manager));
+
+        assertEquals(2, ui.lastSelectedExpenses.size());
+        assertEquals("B", ui.lastSelectedExpenses.get(0).getDescription());
+    }
+
+    @Test
+    void execute_topMatchesPrefixOfFullSort() throws Exception {
+        double[] amounts = {4, 9, 1, 9, 7, 3, 9, 2, 7, 5};
+        for (int i = 0; i < amounts.length; i++) {
+            manager.addExpense(new Expense(amounts[i], "E" + i, "Misc"));
+        }
+
+        List<Expense> sorted = manager.sortExpenses();
+        for (int k = 1; k <= amounts.length; k++) {
+            assertEquals(sorted.subList(0, k), manager.selectExpenses(k, true));
+        }
+    }
+
+    @Test
+    void execute_byCategoryThenAmountDescending_ordersByBothKeys() throws Exception {
+        ui.showResult(new AddCommand(5.00, "Bus", "Transport").execute(manager));
+        ui.showResult(new AddCommand(12.00, "Lunch", "Food").execute(manager));
+        ui.showResult(new AddCommand(30.00, "Taxi", "Transport").execute(manager));
+        ui.showResult(new AddCommand(3.00, "Snack", "Food").execute(manager));
+
+        ui.showResult(new SortCommand(List.of(SortKey.CATEGORY, SortKey.AMOUNT), false).execute(manager));
+
+        assertEquals(List.of(SortKey.CATEGORY, SortKey.AMOUNT), ui.lastKeys);
+        assertEquals("Taxi", ui.lastSortedExpenses.get(0).getDescription());
+        assertEquals("Bus", ui.lastSortedExpenses.get(1).getDescription());
+        assertEquals("Lunch", ui.lastSortedExpenses.get(2).getDescription());
+        assertEquals("Snack", ui.lastSortedExpenses.get(3).getDescription());
+    }
+
+    @Test
+    void execute_byStatusAscending_listsUnmarkedFirstInInsertionOrder() throws Exception {
+        ui.showResult(new AddCommand(1.00, "Paid").execute(manager));
+        ui.showResult(new AddCommand(2.00, "Unpaid A").execute(manager));
+        ui.showResult(new AddCommand(3.00, "Unpaid B").execute(manager));
+        manager.markExpense(1);
+
+        ui.showResult(new SortCommand(List.of(SortKey.STATUS), true).execute(manager));
+
+        assertEquals("Unpaid A", ui.lastSortedExpenses.get(0).getDescription());
+        assertEquals("Unpaid B", ui.lastSortedExpenses.get(1).getDescription());
+        assertEquals("Paid", ui.lastSortedExpenses.get(2).getDescription());
+    }
 }
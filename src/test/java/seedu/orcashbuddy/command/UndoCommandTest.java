@@ -0,0 +1,144 @@
+package seedu.orcashbuddy.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.query.AmountQuery;
+import seedu.orcashbuddy.query.CategoryQuery;
+import seedu.orcashbuddy.storage.ExpenseManager;
+import seedu.orcashbuddy.ui.Ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Command-level tests for undoing changes.
+ */
+class UndoCommandTest {
+
+    private ExpenseManager manager;
+    private StubUi ui;
+
+    static class StubUi extends Ui {
+        String lastUndoneChange;
+
+        @Override
+        public void showUndoneChange(String change) {
+            this.lastUndoneChange = change;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        manager = new ExpenseManager();
+        ui = new StubUi();
+    }
+
+    @Test
+    void execute_nothingToUndo_throwsOrCashBuddyException() {
+        OrCashBuddyException e = assertThrows(OrCashBuddyException.class,
+                () -> ui.showResult(new UndoCommand().execute(manager)));
+        assertEquals("Nothing to undo", e.getMessage());
+    }
+
+    @Test
+    void execute_afterAdd_removesExpenseAndIndexEntries() throws Exception {
+        manager.addExpense(new Expense(12.50, "Lunch", "Food"));
+
+        ui.showResult(new UndoCommand().execute(manager));
+
+        assertEquals(0, manager.getSize());
+        assertEquals("add [ ] [Food] Lunch - $12.50", ui.lastUndoneChange);
+        assertTrue(manager.findExpenses(new CategoryQuery("food")).isEmpty());
+        assertTrue(manager.findExpenses(new AmountQuery(1250, 1250)).isEmpty());
+    }
+
+    @Test
+    void execute_afterDeletingMarkedExpense_restoresPositionMarkAndTotals() throws Exception {
+        manager.setBudget(100);
+        manager.addExpense(new Expense(10.00, "Coffee", "Drinks"));
+        manager.addExpense(new Expense(25.00, "Taxi", "Transport"));
+        manager.addExpense(new Expense(5.00, "Snack", "Food"));
+        manager.markExpense(2);
+        manager.deleteExpense(2);
+        assertEquals(0.0, manager.getTotalExpenses(), 1e-9);
+
+        ui.showResult(new UndoCommand().execute(manager));
+
+        assertEquals(3, manager.getSize());
+        Expense restored = manager.getExpense(2);
+        assertEquals("Taxi", restored.getDescription());
+        assertTrue(restored.isMarked());
+        assertEquals(25.00, manager.getTotalExpenses(), 1e-9);
+        assertEquals(75.00, manager.getRemainingBalance(), 1e-9);
+        assertEquals(1, manager.findExpenses(new CategoryQuery("transport")).size());
+    }
+
+    @Test
+    void execute_afterEditingMarkedExpense_restoresOriginalInOneStep() throws Exception {
+        manager.setBudget(50);
+        manager.addExpense(new Expense(10.00, "Coffee", "Drinks"));
+        manager.markExpense(1);
+        ui.showResult(new EditCommand(1, 18.00, "Brunch", "Food").execute(manager));
+        assertEquals(18.00, manager.getTotalExpenses(), 1e-9);
+
+        ui.showResult(new UndoCommand().execute(manager));
+
+        Expense original = manager.getExpense(1);
+        assertEquals("Coffee", original.getDescription());
+        assertTrue(original.isMarked());
+        assertEquals(10.00, manager.getTotalExpenses(), 1e-9);
+        assertTrue(manager.findExpenses(new CategoryQuery("food")).isEmpty());
+        assertEquals("mark of expense 1", manager.undo());
+    }
+
+    @Test
+    void execute_afterMark_unmarksAndUpdatesTotals() throws Exception {
+        manager.addExpense(new Expense(8.00, "Bus", "Transport"));
+        manager.markExpense(1);
+
+        ui.showResult(new UndoCommand().execute(manager));
+
+        assertFalse(manager.getExpense(1).isMarked());
+        assertEquals(0.0, manager.getTotalExpenses(), 1e-9);
+        assertEquals("mark of expense 1", ui.lastUndoneChange);
+    }
+
+    @Test
+    void execute_afterSetBudget_restoresPreviousBudget() throws Exception {
+        manager.setBudget(100);
+        manager.setBudget(250);
+
+        ui.showResult(new UndoCommand().execute(manager));
+        assertEquals(100.0, manager.getBudget(), 1e-9);
+
+        ui.showResult(new UndoCommand().execute(manager));
+        assertEquals(0.0, manager.getBudget(), 1e-9);
+        assertEquals("setbudget $0.00 -> $100.00", ui.lastUndoneChange);
+    }
+
+    @Test
+    void execute_beyondHistoryCapacity_keepsOnlyMostRecentChanges() throws Exception {
+        int changes = 150;
+        for (int i = 0; i < changes; i++) {
+            manager.addExpense(new Expense(1.00, "Item " + i, "Misc"));
+        }
+
+        int undone = 0;
+        try {
+            while (true) {
+                manager.undo();
+                undone++;
+            }
+        } catch (OrCashBuddyException e) {
+            assertEquals("Nothing to undo", e.getMessage());
+        }
+
+        assertEquals(100, undone);
+        assertEquals(changes - undone, manager.getSize());
+        assertEquals("Item 49", manager.getExpense(changes - undone).getDescription());
+    }
+}
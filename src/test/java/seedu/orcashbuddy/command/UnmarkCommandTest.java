@@ -32,10 +32,10 @@ class UnmarkCommandTest {
 
     @Test
     void execute_unmarksExpense() throws Exception {
-        new AddCommand(40.0, "Books", "School").execute(manager, ui);
-        new MarkCommand(1).execute(manager, ui);
+        ui.showResult(new AddCommand(40.0, "Books", "School").execute(manager));
+        ui.showResult(new MarkCommand(1).execute(manager));
 
-        new UnmarkCommand(1).execute(manager, ui);
+        ui.showResult(new UnmarkCommand(1).execute(manager));
 
         Expense expense = manager.getExpense(1);
         assertFalse(expense.isMarked());
@@ -45,6 +45,6 @@ class UnmarkCommandTest {
     @Test
     void execute_invalidIndex_asserts() {
         UnmarkCommand command = new UnmarkCommand(0);
-        assertThrows(AssertionError.class, () -> command.execute(manager, ui));
+        assertThrows(AssertionError.class, () -> ui.showResult(command.execute(manager)));
     }
 }
@@ -0,0 +1,43 @@
+package seedu.orcashbuddy.perf;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FlightRecorderEventsTest {
+
+    @Test
+    void uiFlush_emitsConsoleOutputEventWithCharacterCount() throws Exception {
+        Path file = Files.createTempFile("orcashbuddy", ".jfr");
+        PrintStream originalOut = System.out;
+        try (Recording recording = new Recording()) {
+            recording.enable(ConsoleOutputEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            System.setOut(new PrintStream(new ByteArrayOutputStream()));
+            Ui ui = new Ui();
+            ui.showError("12345");
+            ui.flush();
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(1, events.size());
+            assertEquals("orcashbuddy.ConsoleOutput", events.get(0).getEventType().getName());
+            assertEquals(5 + System.lineSeparator().length(), events.get(0).getInt("characters"));
+        } finally {
+            System.setOut(originalOut);
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.orcashbuddy.ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.orcashbuddy.command.InvalidCommand;
+import seedu.orcashbuddy.exception.OrCashBuddyException;
+import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.storage.BudgetData;
+import seedu.orcashbuddy.storage.ExpenseManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchUiTest {
+
+    private BatchUi ui;
+    private PrintStream originalOut;
+    private ByteArrayOutputStream out;
+
+    @BeforeEach
+    void setUp() {
+        ui = new BatchUi();
+        originalOut = System.out;
+        out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    private String capturedOutput() {
+        ui.flush();
+        return out.toString();
+    }
+
+    @Test
+    void confirmationsAndListings_printNothing() {
+        Expense expense = new Expense(4.5, "coffee", "food");
+        ui.setLineNumber(1);
+        ui.showSeparator();
+        ui.showNewExpense(expense);
+        ui.showNewBudget(10.0);
+        ui.showFinancialSummary(new BudgetData(10.0, 4.5, 5.5), List.of(expense));
+        ui.showGoodbye();
+
+        assertEquals("", capturedOutput());
+        assertEquals(0, ui.getFailedCommandCount());
+    }
+
+    @Test
+    void errors_showLineNumberWithoutUsageHints() {
+        String nl = System.lineSeparator();
+        ui.setLineNumber(3);
+        ui.showResult(new InvalidCommand(OrCashBuddyException.missingPrefix("a/")).execute(new ExpenseManager()));
+        ui.setLineNumber(5);
+        ui.showUnknownCommand();
+
+        assertEquals("Line 3: " + OrCashBuddyException.missingPrefix("a/").getMessage() + nl
+                + "Line 5: Unknown command." + nl, capturedOutput());
+    }
+
+    @Test
+    void severalErrorsOnOneLine_countAsOneFailedCommand() {
+        ui.setLineNumber(2);
+        ui.showError("first");
+        ui.showError("second");
+        ui.setLineNumber(4);
+        ui.showError("third");
+
+        assertEquals(2, ui.getFailedCommandCount());
+    }
+}
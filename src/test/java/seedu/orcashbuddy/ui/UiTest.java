@@ -4,11 +4,16 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.orcashbuddy.expense.Expense;
+import seedu.orcashbuddy.perf.LatencyHistogram;
+import seedu.orcashbuddy.storage.BudgetData;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class UiTest {
@@ -31,9 +36,25 @@ class UiTest {
     }
 
     private String capturedOutput() {
+        ui.flush();
         return out.toString();
     }
 
+    @Test
+    void output_isWrittenOnlyWhenFlushed() {
+        ui.showSeparator();
+        ui.showError("oops");
+        assertEquals(0, out.size());
+
+        String nl = System.lineSeparator();
+        String separator = "---------------------------------------------------------------\n";
+        assertEquals(separator + "oops" + nl, capturedOutput());
+
+        ui.flush();
+        ui.showGoodbye();
+        assertEquals(separator + "oops" + nl + "Bye. Hope to see you again soon!" + nl, capturedOutput());
+    }
+
     @Test
     void showMenu_listsCoreCommands() {
         ui.showMenu();
@@ -63,4 +84,47 @@ class UiTest {
         ui.showFinancialSummary(0.0, 0.0, 0.0, emptyList);
         assertTrue(capturedOutput().contains("No expenses added so far."));
     }
+
+    @Test
+    void showFinancialSummary_window_displaysOnlyWindowWithOriginalIndexes() {
+        ArrayList<Expense> expenses = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            expenses.add(new Expense(i, "Item" + i, "Misc"));
+        }
+
+        ui.showFinancialSummary(new BudgetData(100.0, 0.0, 100.0), expenses, 2, 4);
+
+        String output = capturedOutput();
+        assertTrue(output.contains("BUDGET STATUS"));
+        assertTrue(output.contains("Here are expenses 3 to 4 of 5:"));
+        assertTrue(output.contains("3. [ ] [Misc] Item3"));
+        assertTrue(output.contains("4. [ ] [Misc] Item4"));
+        assertFalse(output.contains("Item2"));
+        assertFalse(output.contains("Item5"));
+    }
+
+    @Test
+    void showReplaySummary_showsThroughputAndPercentiles() {
+        LatencyHistogram latencies = new LatencyHistogram();
+        for (int i = 0; i < 100; i++) {
+            latencies.record(2_000_000);
+        }
+        latencies.record(40_000_000);
+
+        ui.showReplaySummary(Path.of("session.trc"), latencies, 500_000_000L);
+
+        String output = capturedOutput();
+        assertTrue(output.contains("Replayed 101 command(s) from session.trc in 0.500 s (202 commands/s)."), output);
+        // Percentiles are read back rounded up to the end of their histogram bucket
+        assertTrue(output.contains("p50 2.1 ms"), output);
+        assertTrue(output.contains("max 40.0 ms"), output);
+    }
+
+    @Test
+    void replayUi_rendersOutputButNeverWritesIt() {
+        Ui replayUi = new ReplayUi();
+        replayUi.showGoodbye();
+        replayUi.flush();
+        assertEquals(0, out.size());
+    }
 }